@@ -10,13 +10,14 @@ package game.components.card;
  * <ul>
  *   <li>카드는 생성 후 상태가 변경되지 않아야 합니다 (불변 객체)</li>
  *   <li>같은 무늬와 랭크를 가진 카드는 동일한 것으로 간주되어야 합니다</li>
+ *   <li>52장은 클래스가 로드될 때 한 번만 만들어지며, 같은 카드는 항상 같은 인스턴스입니다</li>
  *   <li>equals()와 hashCode()는 일관성 있게 구현되어야 합니다</li>
  *   <li>toString()은 사람이 읽기 쉬운 형태로 카드를 표현해야 합니다</li>
  * </ul>
  * 
  * <p>사용 예시:</p>
  * <pre>
- * Card card = new Card(Suit.HEARTS, Rank.ACE);
+ * Card card = Card.of(Suit.HEARTS, Rank.ACE);
  * System.out.println(card);  // "A♥" 출력
  * System.out.println(card.getValue());  // 14 출력
  * </pre>
@@ -32,21 +33,83 @@ package game.components.card;
  * @version 1.0
  * @since 2024-01-01
  */
-public class Card implements Comparable<Card> {
+public final class Card implements Comparable<Card> {
+    /** 서로 다른 카드의 수 */
+    public static final int COUNT = 52;
+
+    private static final int RANKS = Rank.values().length;
+
+    /** 인덱스(무늬 순서값 × 13 + 랭크 순서값) → 카드 */
+    private static final Card[] CARDS = new Card[COUNT];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                Card card = new Card(suit, rank);
+                CARDS[card.index] = card;
+            }
+        }
+    }
+
     private final Suit suit;
     private final Rank rank;
+    private final int index;
     
     /**
      * Card 생성자
+     * 
+     * 52장은 정적 초기화 블록에서만 만들어집니다. 카드가 필요하면 {@link #of(Suit, Rank)}를 사용하세요.
+     * 
+     * @param suit 카드의 무늬
+     * @param rank 카드의 숫자/문자
+     */
+    private Card(Suit suit, Rank rank) {
+        this.suit = suit;
+        this.rank = rank;
+        this.index = suit.ordinal() * RANKS + rank.ordinal();
+    }
+    
+    /**
+     * 무늬와 랭크에 해당하는 카드를 반환합니다.
+     * 
+     * 새 객체를 만들지 않고 미리 만들어 둔 52장 중 하나를 돌려주므로,
+     * 같은 무늬와 랭크로 부르면 언제나 같은 인스턴스입니다. 여러 스레드에서 불러도 안전합니다.
+     * 
      * @param suit 카드의 무늬
      * @param rank 카드의 숫자/문자
+     * @return 무늬와 랭크에 해당하는 카드
+     * @throws IllegalArgumentException suit나 rank가 null일 때
      */
-    public Card(Suit suit, Rank rank) {
+    public static Card of(Suit suit, Rank rank) {
         if (suit == null || rank == null) {
             throw new IllegalArgumentException("Suit와 Rank는 null일 수 없습니다.");
         }
-        this.suit = suit;
-        this.rank = rank;
+        return CARDS[suit.ordinal() * RANKS + rank.ordinal()];
+    }
+    
+    /**
+     * 인덱스에 해당하는 카드를 반환합니다.
+     * 
+     * @param index 카드 인덱스 (0~51, {@link #index()} 참고)
+     * @return 인덱스에 해당하는 카드
+     * @throws IllegalArgumentException index가 0~51이 아닐 때
+     */
+    public static Card fromIndex(int index) {
+        if (index < 0 || index >= COUNT) {
+            throw new IllegalArgumentException("카드 인덱스는 0부터 " + (COUNT - 1) + "까지입니다: " + index);
+        }
+        return CARDS[index];
+    }
+    
+    /**
+     * 카드의 인덱스를 반환합니다.
+     * 
+     * 인덱스는 {@code 무늬 순서값 × 13 + 랭크 순서값}이며, {@link #fromIndex(int)}로 다시 카드를 얻을 수 있습니다.
+     * 
+     * @return 카드 인덱스 (0~51)
+     */
+    public int index() {
+        return index;
     }
     
     /**
@@ -124,23 +187,14 @@ public class Card implements Comparable<Card> {
     /**
      * 다른 객체와 이 카드가 같은지 비교합니다.
      * 
-     * <p>두 카드가 같으려면:</p>
-     * <ul>
-     *   <li>같은 무늬(Suit)를 가져야 합니다</li>
-     *   <li>같은 랭크(Rank)를 가져야 합니다</li>
-     * </ul>
+     * 무늬와 랭크가 같은 카드는 하나의 인스턴스뿐이므로 참조가 같은지만 비교합니다.
      * 
      * @param obj 비교할 객체
      * @return 같은 무늬와 랭크를 가지면 true, 그렇지 않으면 false
      */
     @Override
     public boolean equals(Object obj) {
-        if (obj == null) return false;
-        if (this == obj) return true;
-        if (!(obj instanceof Card)) return false;
-        
-        Card other = (Card) obj;
-        return this.suit == other.suit && this.rank == other.rank;
+        return this == obj;
     }
     
     /**
@@ -152,10 +206,10 @@ public class Card implements Comparable<Card> {
      *   <li>무늬와 랭크를 기반으로 해시 코드를 생성해야 합니다</li>
      * </ul>
      * 
-     * @return 카드의 해시 코드
+     * @return 카드의 해시 코드 (카드 인덱스)
      */
     @Override
     public int hashCode() {
-        return java.util.Objects.hash(suit, rank);
+        return index;
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package game.components.card;
+
+/**
+ * 카드를 6비트 정수 코드로 바꾸는 유틸리티 클래스
+ *
+ * <p>카드 코드는 {@link Card#index()}와 같은 {@code 무늬 순서값 × 13 + 랭크 순서값}(0~51)입니다.
+ * 객체 없이 카드를 다뤄야 하는 곳(배열, {@link CardSet} 비트마스크 등)에서 사용합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * int code = CardCodec.encode(Card.of(Suit.HEARTS, Rank.ACE));  // 25
+ * Rank rank = CardCodec.rankOf(code);                           // ACE
+ * Card card = CardCodec.decode(code);                           // A♥
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public final class CardCodec {
+    /** 서로 다른 카드 코드의 수 */
+    public static final int CODES = Card.COUNT;
+
+    private static final int RANKS = Rank.values().length;
+    private static final Rank[] RANK_VALUES = Rank.values();
+    private static final Suit[] SUIT_VALUES = Suit.values();
+
+    private CardCodec() {
+    }
+
+    /**
+     * 카드를 카드 코드로 바꿉니다.
+     *
+     * @param card 바꿀 카드
+     * @return 카드 코드 (0~51)
+     * @throws IllegalArgumentException card가 null일 때
+     */
+    public static int encode(Card card) {
+        if (card == null) {
+            throw new IllegalArgumentException("카드는 null일 수 없습니다.");
+        }
+        return card.index();
+    }
+
+    /**
+     * 카드 코드를 카드로 바꿉니다.
+     *
+     * @param code 카드 코드
+     * @return 코드에 해당하는 카드
+     * @throws IllegalArgumentException code가 0~51이 아닐 때
+     */
+    public static Card decode(int code) {
+        return Card.fromIndex(code);
+    }
+
+    /**
+     * 카드 코드의 랭크를 반환합니다.
+     *
+     * @param code 카드 코드
+     * @return 랭크
+     * @throws IllegalArgumentException code가 0~51이 아닐 때
+     */
+    public static Rank rankOf(int code) {
+        return RANK_VALUES[checkCode(code) % RANKS];
+    }
+
+    /**
+     * 카드 코드의 무늬를 반환합니다.
+     *
+     * @param code 카드 코드
+     * @return 무늬
+     * @throws IllegalArgumentException code가 0~51이 아닐 때
+     */
+    public static Suit suitOf(int code) {
+        return SUIT_VALUES[checkCode(code) / RANKS];
+    }
+
+    /**
+     * 카드 코드가 0~51인지 확인합니다.
+     *
+     * @param code 확인할 카드 코드
+     * @return 올바른 카드 코드면 그대로 반환
+     * @throws IllegalArgumentException code가 0~51이 아닐 때
+     */
+    static int checkCode(int code) {
+        if (code < 0 || code >= CODES) {
+            throw new IllegalArgumentException("잘못된 카드 코드입니다: " + code);
+        }
+        return code;
+    }
+}
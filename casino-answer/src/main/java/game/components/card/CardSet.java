@@ -0,0 +1,172 @@
+package game.components.card;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 카드 묶음을 {@code long} 비트마스크 하나로 다루는 유틸리티 클래스
+ *
+ * <p>카드 코드({@link CardCodec}) n번 카드가 들어 있으면 n번 비트가 1입니다. 52장 전체도 52비트면 충분하므로
+ * 추가, 제거, 포함 여부, 장 수 세기가 모두 비트 연산 한 번이고 객체를 만들지 않습니다.
+ * 합집합, 교집합, 차집합은 {@code |}, {@code &}, {@code & ~}를 그대로 쓰면 됩니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * long dead = CardSet.of(hand.getCards());          // 이미 나온 카드
+ * long remaining = CardSet.FULL_DECK &amp; ~dead;       // 남은 카드
+ * for (long s = remaining; s != 0; s = CardSet.rest(s)) {
+ *     int code = CardSet.first(s);                  // 코드가 작은 카드부터
+ * }
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public final class CardSet {
+    /** 빈 카드 묶음 */
+    public static final long EMPTY = 0L;
+    /** 52장 전체 */
+    public static final long FULL_DECK = (1L << CardCodec.CODES) - 1;
+
+    private CardSet() {
+    }
+
+    /**
+     * 카드들로 카드 묶음을 만듭니다.
+     *
+     * @param cards 담을 카드들
+     * @return 카드 묶음
+     * @throws IllegalArgumentException cards나 그 안의 카드가 null일 때
+     */
+    public static long of(Iterable<Card> cards) {
+        if (cards == null) {
+            throw new IllegalArgumentException("카드 목록은 null일 수 없습니다.");
+        }
+        long set = EMPTY;
+        for (Card card : cards) {
+            set |= 1L << CardCodec.encode(card);
+        }
+        return set;
+    }
+
+    /**
+     * 카드들로 카드 묶음을 만듭니다.
+     *
+     * @param cards 담을 카드들
+     * @return 카드 묶음
+     * @throws IllegalArgumentException 카드가 null일 때
+     */
+    public static long of(Card... cards) {
+        return of(List.of(cards));
+    }
+
+    /**
+     * 카드 묶음에 카드를 더합니다. 이미 있으면 그대로입니다.
+     *
+     * @param set 카드 묶음
+     * @param code 더할 카드 코드
+     * @return 카드를 더한 묶음
+     * @throws IllegalArgumentException code가 0~51이 아닐 때
+     */
+    public static long add(long set, int code) {
+        return set | 1L << CardCodec.checkCode(code);
+    }
+
+    /**
+     * 카드 묶음에서 카드를 뺍니다. 없으면 그대로입니다.
+     *
+     * @param set 카드 묶음
+     * @param code 뺄 카드 코드
+     * @return 카드를 뺀 묶음
+     * @throws IllegalArgumentException code가 0~51이 아닐 때
+     */
+    public static long remove(long set, int code) {
+        return set & ~(1L << CardCodec.checkCode(code));
+    }
+
+    /**
+     * 카드 묶음에 카드가 있는지 확인합니다.
+     *
+     * @param set 카드 묶음
+     * @param code 확인할 카드 코드
+     * @return 있으면 true
+     * @throws IllegalArgumentException code가 0~51이 아닐 때
+     */
+    public static boolean contains(long set, int code) {
+        return (set & 1L << CardCodec.checkCode(code)) != 0;
+    }
+
+    /**
+     * 카드 묶음의 장 수를 반환합니다.
+     *
+     * @param set 카드 묶음
+     * @return 장 수
+     */
+    public static int size(long set) {
+        return Long.bitCount(set);
+    }
+
+    /**
+     * 카드 묶음에서 코드가 가장 작은 카드를 반환합니다.
+     *
+     * @param set 카드 묶음
+     * @return 가장 작은 카드 코드
+     * @throws IllegalArgumentException 묶음이 비어 있을 때
+     */
+    public static int first(long set) {
+        if (set == EMPTY) {
+            throw new IllegalArgumentException("빈 카드 묶음입니다.");
+        }
+        return Long.numberOfTrailingZeros(set);
+    }
+
+    /**
+     * 카드 묶음에서 코드가 가장 작은 카드를 뺀 나머지를 반환합니다.
+     *
+     * @param set 카드 묶음
+     * @return {@link #first(long)}를 뺀 묶음 (빈 묶음이면 빈 묶음)
+     */
+    public static long rest(long set) {
+        return set & (set - 1);
+    }
+
+    /**
+     * 카드 묶음의 카드 코드를 작은 것부터 차례로 넘겨줍니다.
+     *
+     * @param set 카드 묶음
+     * @param action 카드 코드마다 실행할 동작
+     */
+    public static void forEach(long set, IntConsumer action) {
+        for (long s = set; s != EMPTY; s &= s - 1) {
+            action.accept(Long.numberOfTrailingZeros(s));
+        }
+    }
+
+    /**
+     * 카드 묶음을 카드 리스트로 바꿉니다.
+     *
+     * @param set 카드 묶음
+     * @return 코드가 작은 카드부터 담은 리스트
+     * @throws IllegalArgumentException 52장 밖의 비트가 켜져 있을 때
+     */
+    public static List<Card> toList(long set) {
+        if ((set & ~FULL_DECK) != 0) {
+            throw new IllegalArgumentException("카드 묶음에 52장 밖의 비트가 있습니다: " + Long.toHexString(set));
+        }
+        List<Card> cards = new ArrayList<>(size(set));
+        forEach(set, code -> cards.add(Card.fromIndex(code)));
+        return cards;
+    }
+
+    /**
+     * 카드 묶음을 문자열로 표현합니다.
+     *
+     * @param set 카드 묶음
+     * @return "[카드1, 카드2, ...]" 형식의 문자열
+     */
+    public static String toString(long set) {
+        return toList(set).toString();
+    }
+}
@@ -3,10 +3,10 @@ package game.components.deck;
 import game.components.card.Card;
 import game.components.card.Rank;
 import game.components.card.Suit;
+import game.components.hand.Hand;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * 카드 덱을 나타내는 클래스
@@ -19,33 +19,44 @@ import java.util.List;
  *   <li>새 덱은 52장의 카드를 모두 포함해야 합니다</li>
  *   <li>카드를 뽑으면 덱에서 제거되어야 합니다</li>
  *   <li>셔플은 카드의 순서를 무작위로 섞어야 합니다</li>
- *   <li>한 번 사용한 덱은 폐기하고 새 덱을 생성해야 합니다</li>
+ *   <li>다 쓴 덱은 {@link #reset()}이나 {@link #reshuffle()}로 새 덱처럼 되돌려 다시 사용합니다</li>
  *   <li>적절한 예외 처리를 해야 합니다</li>
  * </ul>
  * 
  * <p>카지노 실무 규칙:</p>
  * <ul>
- *   <li>매 게임마다 새로운 덱 사용</li>
- *   <li>사용한 카드는 재사용하지 않음 (보안 및 공정성)</li>
+ *   <li>매 게임마다 52장을 모두 되돌려 새로 섞은 덱 사용 - 덱 객체는 테이블마다 한 번만 만들고,
+ *       {@link #reshuffle()}(또는 {@link #reset()} 뒤 {@link #shuffle()})로 다시 사용</li>
+ *   <li>한 게임 안에서 뽑은 카드는 다시 나오지 않음 (보안 및 공정성)</li>
  *   <li>카드 카운팅 방지를 위해 여러 덱을 함께 사용</li>
  *   <li>플라스틱 및 봉인된 새 덱 사용</li>
  * </ul>
  * 
  * <p>사용 예시:</p>
  * <pre>
- * // 매 게임마다 새 덱 생성
+ * // 테이블마다 덱은 한 번만 생성
  * Deck deck = new Deck();
  * deck.shuffle();
  * 
  * // 게임 진행
  * Card card = deck.drawCard();
  * 
- * // 게임 종료 후 덱은 폐기
- * // 다음 게임을 위해 새 덱 생성 필요
- * deck = new Deck();
- * deck.shuffle();
+ * // 다음 게임에서는 같은 덱을 52장으로 되돌려 다시 섞음
+ * deck.reshuffle();
  * </pre>
  * 
+ * <p>셔플 순서를 재현해야 할 때는 시드를 고정한 난수 생성기를 넘깁니다.
+ * 여러 스레드로 나누어 돌리는 시뮬레이션이라면 시드 하나로 만든 {@link SplittableRandom}을
+ * 테이블마다 {@code split()}해서 나눠 주면, 스레드끼리 경쟁하지 않으면서도 전체 결과가 매번 같습니다.</p>
+ * <pre>
+ * SplittableRandom root = new SplittableRandom(seed);
+ * Deck table1 = new Deck(root.split());
+ * Deck table2 = new Deck(root.split());
+ * </pre>
+ * 
+ * <p>{@link ShuffleMode#LAZY}로 만든 덱은 {@link #shuffle()}에서 난수를 뽑지 않고,
+ * 카드를 뽑을 때마다 한 장씩 섞습니다. 사용하는 카드 수만큼만 난수를 뽑습니다.</p>
+ * 
  * 구현이 필요한 부분:
  * - cards 필드 초기화: 52장의 카드 생성
  * - shuffle() 메서드: 카드 섞기
@@ -68,8 +79,8 @@ public class Deck {
     // 2. 52장의 카드를 생성하는 로직
     //    - 바깥 반복문: Suit.values()로 모든 무늬 순회 (SPADES, HEARTS, DIAMONDS, CLUBS)
     //    - 안쪽 반복문: Rank.values()로 모든 랭크 순회 (TWO부터 ACE까지)
-    //    - 각 조합에 대해 new Card(suit, rank)로 카드 생성
-    //    - cards.add()로 리스트에 추가
+    //    - 각 조합에 대해 Card.of(suit, rank)로 카드를 가져옴
+    //    - cards 배열의 앞에서부터 차례로 채움 (fillInOrder()에서 담당)
     // 
     // 3. 세부 구현 힌트
     //    - for-each 문법 사용: for (Suit suit : Suit.values())
@@ -81,23 +92,128 @@ public class Deck {
     // - "빈 컬렉션입니다" 경고: 초기화 블록을 만들지 않았습니다
     // - NullPointerException: Card 생성자에 null을 전달했습니다
     
-    private final List<Card> cards = new ArrayList<>();
+    private static final int SIZE = Card.COUNT;
     
-    // 인스턴스 초기화 블록 - 52장의 카드 생성
+    // 카드는 고정 크기 배열에 두고, [top, SIZE) 구간이 아직 뽑지 않은 카드다
+    // 뽑기는 top을 한 칸 옮길 뿐이고, reset()은 같은 배열을 다시 채운다
+    private final Card[] cards = new Card[SIZE];
+    private int top;
+    
+    // 셔플에 사용하는 이 덱만의 난수 생성기
+    private final RandomGenerator random;
+    private final ShuffleMode mode;
+    
+    // LAZY 모드에서 shuffle()이 호출되어, 뽑을 때마다 섞어야 하는 상태인지 여부
+    private boolean shufflePending;
+    
+    // 인스턴스 초기화 블록 - 52장의 카드 채우기
+    // 재정의할 수 있는 reset() 대신 private 메서드를 불러, 하위 클래스가 초기화되기 전에 호출되지 않게 한다
     {
+        fillInOrder();
+    }
+    
+    /**
+     * 새로운 {@link SplittableRandom}으로 섞는 52장의 덱을 생성합니다.
+     */
+    public Deck() {
+        this(new SplittableRandom());
+    }
+    
+    /**
+     * 지정한 난수 생성기로 섞는 52장의 덱을 생성합니다.
+     * 
+     * 같은 시드의 난수 생성기를 넘기면 셔플 결과가 매번 같습니다.
+     * 
+     * @param random 셔플에 사용할 난수 생성기
+     * @throws IllegalArgumentException random이 null일 때
+     */
+    public Deck(RandomGenerator random) {
+        this(random, ShuffleMode.EAGER);
+    }
+    
+    /**
+     * 지정한 난수 생성기와 셔플 방식으로 섞는 52장의 덱을 생성합니다.
+     * 
+     * @param random 셔플에 사용할 난수 생성기
+     * @param mode 셔플 방식
+     * @throws IllegalArgumentException random이나 mode가 null일 때
+     */
+    public Deck(RandomGenerator random, ShuffleMode mode) {
+        if (random == null) {
+            throw new IllegalArgumentException("난수 생성기는 null일 수 없습니다.");
+        }
+        if (mode == null) {
+            throw new IllegalArgumentException("셔플 방식은 null일 수 없습니다.");
+        }
+        this.random = random;
+        this.mode = mode;
+    }
+    
+    /**
+     * 시드를 고정한 {@link SplittableRandom}으로 섞는 52장의 덱을 생성합니다.
+     * 
+     * @param seed 난수 생성기의 시드
+     * @return 새 덱
+     */
+    public static Deck seeded(long seed) {
+        return new Deck(new SplittableRandom(seed));
+    }
+    
+    /**
+     * 덱을 52장의 새 덱 상태로 되돌립니다.
+     * 
+     * 뽑은 카드를 모두 되돌리고 무늬와 랭크 순서로 정렬합니다. 새 객체를 만들지 않습니다.
+     */
+    public void reset() {
+        fillInOrder();
+        top = 0;
+        shufflePending = false;
+    }
+    
+    /**
+     * 배열을 무늬, 랭크 순서의 52장으로 채운다.
+     */
+    private void fillInOrder() {
+        int i = 0;
         for (Suit suit : Suit.values()) {
             for (Rank rank : Rank.values()) {
-                cards.add(new Card(suit, rank));
+                cards[i++] = Card.of(suit, rank);
             }
         }
     }
     
+    /**
+     * 미리 섞어 둔 순서로 덱을 52장의 섞인 상태로 만듭니다. ({@link ShuffledDeckSupplier} 전용)
+     * 
+     * @param codes 카드 코드 52개가 들어 있는 배열
+     * @param offset 첫 카드 코드의 위치
+     */
+    void load(byte[] codes, int offset) {
+        for (int i = 0; i < SIZE; i++) {
+            cards[i] = Card.fromIndex(codes[offset + i]);
+        }
+        top = 0;
+        shufflePending = false;
+    }
+    
+    /**
+     * 덱을 52장으로 되돌린 뒤 섞습니다.
+     * 
+     * 다음 게임을 위해 새 덱을 만드는 대신 같은 덱을 다시 사용할 때 호출합니다.
+     */
+    public void reshuffle() {
+        reset();
+        shuffle();
+    }
+    
     /**
      * 덱을 섞습니다.
      * 
-     * 카드의 순서를 무작위로 변경합니다.
+     * 남은 카드의 순서를 무작위로 변경합니다.
      * 셔플 후에도 덱의 카드 수는 변하지 않습니다.
      * 
+     * {@link ShuffleMode#LAZY} 덱은 여기서 섞지 않고, 이후 {@link #drawCard()}가 한 장씩 섞습니다.
+     * 
      * <p>카지노 규칙:</p>
      * 새로운 덱은 사용 전에 반드시 섞어야 합니다.
      */
@@ -106,23 +222,30 @@ public class Deck {
         // 
         // 🎯 구현 순서:
         // 1. 필요한 클래스 import
-        //    - java.util.Collections 클래스가 필요합니다
-        //    - 이미 import되어 있다면 그대로 사용하면 됩니다
+        //    - java.util.random.RandomGenerator 인터페이스가 필요합니다
+        //    - 덱마다 생성할 때 받은 난수 생성기를 사용하므로 여러 테이블이 동시에 섞어도 서로 기다리지 않습니다
         // 
-        // 2. Collections 클래스의 메서드 활용
-        //    - Collections 클래스에는 리스트를 섞는 static 메서드가 있습니다
-        //    - 메서드 이름은 shuffle입니다
-        //    - 호출 형태: Collections.shuffle(리스트)
+        // 2. 피셔-예이츠(Fisher-Yates) 셔플
+        //    - 배열의 뒤에서부터 i번째 카드를 [top, i] 중 무작위 위치의 카드와 맞바꿉니다
+        //    - Collections.shuffle()도 내부적으로 같은 방법을 사용합니다
         // 
-        // 3. 인자 전달
-        //    - 이 클래스의 cards 필드를 인자로 전달합니다
-        //    - shuffle 메서드는 전달받은 리스트를 직접 수정합니다
+        // 3. 섞는 범위
+        //    - 이미 뽑은 [0, top) 구간은 건드리지 않습니다
         // 
         // 테스트 실패 시 확인사항:
-        // - "카드 순서가 변경되지 않았습니다" 에러: Collections.shuffle()을 호출하지 않았습니다
-        // - "카드 수가 변경되었습니다" 에러: 다른 메서드를 사용했거나 추가 로직을 넣었습니다
+        // - "카드 순서가 변경되지 않았습니다" 에러: 맞바꾸기를 하지 않았습니다
+        // - "카드 수가 변경되었습니다" 에러: 맞바꾸는 대신 덮어쓰기를 했습니다
         
-        Collections.shuffle(cards);
+        if (mode == ShuffleMode.LAZY) {
+            shufflePending = true;
+            return;
+        }
+        for (int i = SIZE - 1; i > top; i--) {
+            int j = top + random.nextInt(i - top + 1);
+            Card card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
     }
     
     /**
@@ -140,18 +263,90 @@ public class Deck {
         // 구현 힌트:
         // 1. 먼저 덱이 비어있는지 확인하세요 (isEmpty() 메서드 활용)
         // 2. 비어있다면 IllegalStateException을 던지세요
-        // 3. 카드가 있다면 리스트에서 하나를 제거하고 반환하세요
-        // 4. 맨 앞(인덱스 0) 또는 맨 뒤에서 제거할 수 있습니다
+        // 3. 카드가 있다면 top 위치의 카드를 반환하고 top을 한 칸 옮기세요
+        // 4. 배열을 당기거나 줄이지 않으므로 항상 O(1)입니다
         // 
         // 테스트 실패 시 확인사항:
         // - "덱이 비어있습니다" 에러: isEmpty() 체크를 하지 않았습니다
-        // - "카드가 제거되지 않았습니다" 에러: remove() 메서드를 호출하지 않았습니다
-        // - IndexOutOfBoundsException: 빈 리스트에서 카드를 뽑으려고 했습니다
+        // - "카드가 제거되지 않았습니다" 에러: top을 옮기지 않았습니다
+        // - ArrayIndexOutOfBoundsException: 빈 덱에서 카드를 뽑으려고 했습니다
         
         if (isEmpty()) {
             throw new IllegalStateException("덱이 비어있습니다.");
         }
-        return cards.remove(0);
+        if (shufflePending) {
+            // 앞에서부터 진행하는 피셔-예이츠의 한 단계: 남은 카드 중 하나를 골라 맨 위로 올린다
+            int j = top + random.nextInt(SIZE - top);
+            Card card = cards[j];
+            cards[j] = cards[top];
+            cards[top] = card;
+        }
+        return cards[top++];
+    }
+    
+    /**
+     * 여러 손패에 카드를 한 장씩 돌아가며 나눠줍니다.
+     * 
+     * 첫 번째 손패부터 차례로 한 장씩, 모든 손패가 cardsEach장을 받을 때까지 돌아가며 나눠줍니다.
+     * {@link #drawCard()}를 손패 수 × cardsEach번 부르는 것과 같은 카드를 같은 순서로 나눠주지만,
+     * 덱과 손패의 남은 자리는 처음에 한 번만 확인하고 카드는 덱의 배열에서 손패로 바로 옮깁니다.
+     * 같은 손패가 여러 번 들어 있으면 들어 있는 횟수만큼 카드를 받으며, 자리는 받을 카드를 모두 더해 확인합니다.
+     * 예외가 발생하면 덱과 손패 모두 바뀌지 않습니다.
+     * 
+     * @param hands 카드를 받을 손패들
+     * @param cardsEach 손패마다 나눠줄 카드 수
+     * @throws IllegalArgumentException hands나 그 안의 손패가 null이거나 cardsEach가 음수일 때
+     * @throws IllegalStateException 덱에 카드가 부족하거나, 받으면 5장을 넘는 손패가 있을 때
+     */
+    public void dealInto(Hand[] hands, int cardsEach) {
+        if (hands == null) {
+            throw new IllegalArgumentException("손패 배열은 null일 수 없습니다.");
+        }
+        if (cardsEach < 0) {
+            throw new IllegalArgumentException("나눠줄 카드 수는 음수일 수 없습니다: " + cardsEach);
+        }
+        for (Hand hand : hands) {
+            if (hand == null) {
+                throw new IllegalArgumentException("손패는 null일 수 없습니다.");
+            }
+        }
+        long needed = (long) hands.length * cardsEach;
+        if (needed > size()) {
+            throw new IllegalStateException("덱에 카드가 부족합니다. 필요: " + needed + "장, 남은 카드: " + size() + "장");
+        }
+        int total = (int) needed;
+        
+        // 같은 손패가 배열에 여러 번 있으면 그 횟수만큼 카드를 받으므로, 손패마다 받을 카드를 모두 세어 자리를 확인한다.
+        // 나눠줄 카드가 있으면 손패는 52개 이하이므로 이중 반복으로 충분하다
+        if (cardsEach > 0) {
+            for (int h = 0; h < hands.length; h++) {
+                int copies = 0;
+                for (Hand other : hands) {
+                    if (other == hands[h]) {
+                        copies++;
+                    }
+                }
+                if (hands[h].remainingCapacity() < copies * cardsEach) {
+                    throw new IllegalStateException("손패에 " + copies * cardsEach + "장을 더 받을 자리가 없습니다.");
+                }
+            }
+        }
+        
+        if (shufflePending) {
+            // drawCard()와 같은 한 단계씩의 셔플을 나눠줄 자리에만 미리 적용
+            for (int i = top; i < top + total; i++) {
+                int j = i + random.nextInt(SIZE - i);
+                Card card = cards[j];
+                cards[j] = cards[i];
+                cards[i] = card;
+            }
+        }
+        
+        // k번째로 나눠주는 카드 cards[top + k]는 (k % 손패 수)번째 손패로 간다
+        for (int h = 0; h < hands.length; h++) {
+            hands[h].addAll(cards, top + h, hands.length, cardsEach);
+        }
+        top += total;
     }
     
     /**
@@ -163,13 +358,22 @@ public class Deck {
         // TODO: 구현하세요
         // 
         // 구현 힌트:
-        // 1. cards 리스트가 비어있는지 확인하면 됩니다
-        // 2. List 인터페이스에는 이를 확인하는 메서드가 있습니다
+        // 1. 남은 카드 수가 0인지 확인하면 됩니다
+        // 2. top이 배열 끝에 도달했다면 모두 뽑은 것입니다
         // 
         // 테스트 실패 시 확인사항:
         // - "덱이 비어있지 않은데 true를 반환했습니다" 에러: 조건을 반대로 구현했습니다
         // - "덱이 비어있는데 false를 반환했습니다" 에러: isEmpty() 로직이 잘못되었습니다
         
-        return cards.isEmpty();
+        return top == SIZE;
+    }
+    
+    /**
+     * 덱에 남은 카드 수를 반환합니다.
+     * 
+     * @return 아직 뽑지 않은 카드 수 (0~52)
+     */
+    public int size() {
+        return SIZE - top;
     }
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+package game.components.deck;
+
+import game.components.card.Card;
+import game.components.card.CardCodec;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 여러 벌의 덱을 합쳐 넣은 슈(shoe)를 나타내는 클래스
+ *
+ * 블랙잭, 바카라 테이블은 6~8벌의 덱을 한 슈에 넣고, 컷 카드가 나올 때까지 여러 판을 이어서 진행합니다.
+ *
+ * <p>구현 방식:</p>
+ * <ul>
+ *   <li>모든 카드를 카드 코드({@link CardCodec})로 하나의 byte 배열에 담습니다</li>
+ *   <li>카드를 뽑을 때는 코드로 미리 만들어 둔 {@link Card}를 찾아 반환하므로 객체를 만들지 않습니다</li>
+ *   <li>다시 섞을 때도 같은 배열을 제자리에서 섞습니다 (피셔-예이츠 셔플)</li>
+ *   <li>컷 카드는 슈의 카드 중 penetration 비율만큼 뽑은 위치에 놓입니다</li>
+ * </ul>
+ *
+ * <p>카지노 규칙:</p>
+ * 컷 카드가 나와도 진행 중인 판은 끝까지 진행하고, 다음 판을 시작하기 전에 슈를 다시 섞습니다.
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * Shoe shoe = new Shoe(6, 0.75);   // 6벌, 312장 중 234장을 쓰면 컷 카드
+ * shoe.shuffle();
+ *
+ * // 매 판 시작 전
+ * if (shoe.isCutCardReached()) {
+ *     shoe.shuffle();
+ * }
+ * Card card = shoe.drawCard();
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class Shoe {
+    /** 한 슈에 넣을 수 있는 최대 덱 수 */
+    public static final int MAX_DECKS = 8;
+
+    private static final int DECK_SIZE = Card.COUNT;
+
+    // 모든 카드를 카드 코드로 담은 배열, [top, codes.length) 구간이 아직 뽑지 않은 카드다
+    private final byte[] codes;
+    private final int decks;
+    private final int cutPosition;
+    private final RandomGenerator random;
+    private int top;
+
+    /**
+     * 새로운 {@link SplittableRandom}으로 섞는 슈를 생성합니다.
+     *
+     * @param decks 덱 수 (1~8)
+     * @param penetration 컷 카드 위치, 전체 카드 중 이 비율만큼 뽑으면 컷 카드가 나옴 (0 초과 1 이하)
+     * @throws IllegalArgumentException 덱 수나 penetration이 범위를 벗어날 때
+     */
+    public Shoe(int decks, double penetration) {
+        this(decks, penetration, new SplittableRandom());
+    }
+
+    /**
+     * 지정한 난수 생성기로 섞는 슈를 생성합니다.
+     *
+     * 카드는 덱 순서대로 채워지며, 사용하기 전에 {@link #shuffle()}을 호출해야 합니다.
+     *
+     * @param decks 덱 수 (1~8)
+     * @param penetration 컷 카드 위치, 전체 카드 중 이 비율만큼 뽑으면 컷 카드가 나옴 (0 초과 1 이하)
+     * @param random 셔플에 사용할 난수 생성기
+     * @throws IllegalArgumentException 덱 수나 penetration이 범위를 벗어나거나 random이 null일 때
+     */
+    public Shoe(int decks, double penetration, RandomGenerator random) {
+        if (decks < 1 || decks > MAX_DECKS) {
+            throw new IllegalArgumentException("덱 수는 1부터 " + MAX_DECKS + "까지입니다: " + decks);
+        }
+        if (!(penetration > 0 && penetration <= 1)) {
+            throw new IllegalArgumentException("penetration은 0보다 크고 1 이하여야 합니다: " + penetration);
+        }
+        if (random == null) {
+            throw new IllegalArgumentException("난수 생성기는 null일 수 없습니다.");
+        }
+        this.decks = decks;
+        this.codes = new byte[decks * DECK_SIZE];
+        this.cutPosition = Math.max(1, (int) (codes.length * penetration));
+        this.random = random;
+
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = (byte) (i % DECK_SIZE);
+        }
+    }
+
+    /**
+     * 뽑은 카드를 모두 되돌리고 슈 전체를 섞습니다.
+     *
+     * 같은 배열을 제자리에서 섞으므로 새 객체를 만들지 않습니다.
+     * 배열에는 항상 덱 수만큼의 52장이 들어 있으므로, 되돌릴 때 다시 채울 필요가 없습니다.
+     */
+    public void shuffle() {
+        for (int i = codes.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte code = codes[i];
+            codes[i] = codes[j];
+            codes[j] = code;
+        }
+        top = 0;
+    }
+
+    /**
+     * 슈에서 카드를 한 장 뽑습니다.
+     *
+     * @return 뽑은 카드
+     * @throws IllegalStateException 슈가 비어있을 때
+     */
+    public Card drawCard() {
+        return Card.fromIndex(drawCode());
+    }
+
+    /**
+     * 슈에서 카드를 한 장 뽑아 카드 코드로 반환합니다.
+     *
+     * @return 뽑은 카드의 코드 (0~51, {@link CardCodec} 참고)
+     * @throws IllegalStateException 슈가 비어있을 때
+     */
+    public int drawCode() {
+        if (top == codes.length) {
+            throw new IllegalStateException("슈가 비어있습니다.");
+        }
+        return codes[top++];
+    }
+
+    /**
+     * 컷 카드가 나왔는지 확인합니다.
+     *
+     * true이면 진행 중인 판을 마친 뒤 {@link #shuffle()}로 다시 섞어야 합니다.
+     *
+     * @return 컷 카드 위치까지 뽑았으면 true
+     */
+    public boolean isCutCardReached() {
+        return top >= cutPosition;
+    }
+
+    /**
+     * 슈에 남은 카드 수를 반환합니다.
+     *
+     * @return 아직 뽑지 않은 카드 수
+     */
+    public int size() {
+        return codes.length - top;
+    }
+
+    /**
+     * 슈에 들어 있는 덱 수를 반환합니다.
+     *
+     * @return 덱 수
+     */
+    public int getDecks() {
+        return decks;
+    }
+
+    /**
+     * 컷 카드가 놓인 위치를 반환합니다.
+     *
+     * @return 이 장 수만큼 뽑으면 컷 카드가 나옴
+     */
+    public int getCutPosition() {
+        return cutPosition;
+    }
+}
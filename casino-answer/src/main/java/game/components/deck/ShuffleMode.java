@@ -0,0 +1,26 @@
+package game.components.deck;
+
+/**
+ * 덱을 섞는 시점을 나타내는 열거형
+ * 
+ * <p>두 방식 모두 피셔-예이츠(Fisher-Yates) 셔플이므로 뽑히는 카드의 분포는 같습니다.
+ * 차이는 난수를 언제, 몇 번 뽑느냐뿐입니다.</p>
+ * 
+ * <ul>
+ *   <li>EAGER - {@link Deck#shuffle()}을 호출할 때 남은 카드 전체를 섞습니다</li>
+ *   <li>LAZY - {@link Deck#drawCard()}로 한 장 뽑을 때마다 그 자리만 섞습니다</li>
+ * </ul>
+ * 
+ * <p>4명이 5장씩 받는 게임은 52장 중 20장만 쓰므로, LAZY는 라운드마다 난수를 20번만 뽑습니다.
+ * 남은 카드를 모두 확인해야 하는 경우가 없다면 LAZY가 유리합니다.</p>
+ * 
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public enum ShuffleMode {
+    /** shuffle() 호출 시 남은 카드를 모두 섞음 */
+    EAGER,
+    /** 카드를 뽑을 때마다 한 장씩 섞음 */
+    LAZY
+}
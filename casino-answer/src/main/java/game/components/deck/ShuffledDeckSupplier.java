@@ -0,0 +1,269 @@
+package game.components.deck;
+
+import game.components.card.Card;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 미리 섞어 둔 덱 순서를 공급하는 클래스
+ *
+ * 생산자 스레드가 뒤에서 덱을 섞어 고정 크기 링 버퍼에 채워 두고, 딜러는 게임을 시작할 때
+ * {@link #shuffleInto(Deck)}로 다음 칸의 순서를 덱에 옮기기만 합니다. 셔플이 라운드 진행 경로에서 빠집니다.
+ *
+ * <p>구현 방식:</p>
+ * <ul>
+ *   <li>링 버퍼는 칸마다 순번을 두는 잠금 없는(lock-free) 다중 생산자/다중 소비자 큐입니다</li>
+ *   <li>각 칸은 카드 코드 52개를 담은 byte 구간이고, 버퍼 전체가 하나의 byte 배열입니다</li>
+ *   <li>n번째 덱의 순서는 (시드, n)에서만 정해집니다. 어느 생산자 스레드가 섞었는지와 상관없이,
+ *       같은 시드의 공급기는 항상 같은 순서의 덱을 같은 차례로 내놓습니다</li>
+ *   <li>버퍼가 가득 차면 생산자가, 비어 있으면 소비자가 잠깐씩 쉬며 기다립니다</li>
+ * </ul>
+ *
+ * <p>테이블마다 다른 시드로 공급기를 하나씩 두면 테이블끼리 서로 영향을 주지 않고, 각 테이블은 시드로 재현됩니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * try (ShuffledDeckSupplier supplier = new ShuffledDeckSupplier(seed, 64, 1)) {
+ *     Dealer dealer = new Dealer(supplier);
+ *     dealer.playGame(players, 10_000);
+ * }
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class ShuffledDeckSupplier implements AutoCloseable {
+    private static final int DECK_SIZE = Card.COUNT;
+    // 기다릴 때 바쁘게 확인할 횟수, 이후로는 잠깐씩 쉬면서 확인
+    private static final int SPINS = 100;
+    private static final long PARK_NANOS = 20_000L;
+
+    private final long seed;
+    private final int capacity;
+    private final int mask;
+    private final byte[] orders;
+    // 칸마다의 순번: 값이 pos면 pos번째 덱을 쓸 수 있는 빈 칸, pos + 1이면 pos번째 덱이 채워진 칸
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong(); // 다음에 채울 덱 번호
+    private final AtomicLong head = new AtomicLong(); // 다음에 꺼낼 덱 번호
+    private final Thread[] producers;
+    private volatile boolean closed;
+
+    private final LongAdder stallNanos = new LongAdder();
+    private final LongAdder stalls = new LongAdder();
+
+    /**
+     * 공급기를 생성하고 생산자 스레드를 시작합니다.
+     *
+     * @param seed 덱 순서를 정하는 시드
+     * @param capacity 링 버퍼에 담아 둘 덱 수 (2의 거듭제곱)
+     * @param producerCount 덱을 섞을 생산자 스레드 수 (1 이상)
+     * @throws IllegalArgumentException capacity가 2의 거듭제곱이 아니거나 producerCount가 1보다 작을 때
+     */
+    public ShuffledDeckSupplier(long seed, int capacity, int producerCount) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1 || capacity > (1 << 20)) {
+            throw new IllegalArgumentException("버퍼 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        if (producerCount < 1) {
+            throw new IllegalArgumentException("생산자 스레드는 1개 이상이어야 합니다: " + producerCount);
+        }
+        this.seed = seed;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.orders = new byte[capacity * DECK_SIZE];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+
+        this.producers = new Thread[producerCount];
+        for (int i = 0; i < producerCount; i++) {
+            producers[i] = new Thread(this::produce, "deck-shuffler-" + i);
+            producers[i].setDaemon(true);
+            producers[i].start();
+        }
+    }
+
+    /**
+     * 다음 차례의 섞인 덱 순서를 덱에 옮깁니다.
+     *
+     * 덱은 52장으로 되돌아가고, 이미 섞인 상태가 됩니다. 버퍼가 비어 있으면 생산자가 채울 때까지 기다리며,
+     * 기다린 시간은 {@link #getStallNanos()}에 더해집니다.
+     *
+     * @param deck 순서를 받을 덱
+     * @throws IllegalArgumentException deck이 null일 때
+     * @throws IllegalStateException 공급기가 닫혔고, 채워졌거나 채우는 중인 덱이 더 없을 때
+     */
+    public void shuffleInto(Deck deck) {
+        if (deck == null) {
+            throw new IllegalArgumentException("덱은 null일 수 없습니다.");
+        }
+        long stallStart = 0L;
+        int spins = 0;
+        while (true) {
+            long pos = head.get();
+            int slot = (int) (pos & mask);
+            long sequence = sequences.getAcquire(slot);
+            if (sequence == pos + 1) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    deck.load(orders, slot * DECK_SIZE);
+                    sequences.setRelease(slot, pos + capacity);
+                    if (stallStart != 0L) {
+                        stallNanos.add(System.nanoTime() - stallStart);
+                        stalls.increment();
+                    }
+                    return;
+                }
+            } else if (sequence < pos + 1) {
+                // 버퍼가 비어 있음, 닫혔더라도 생산자가 이 칸을 차지했으면(tail > pos) 채울 때까지 기다린다
+                if (closed && tail.get() <= pos) {
+                    throw new IllegalStateException("공급기가 닫혔습니다.");
+                }
+                if (stallStart == 0L) {
+                    stallStart = System.nanoTime();
+                }
+                spins = await(spins);
+            }
+        }
+    }
+
+    /**
+     * 링 버퍼에 채워져 있는 덱 수를 반환합니다.
+     *
+     * 여러 스레드가 동시에 채우고 꺼내는 중에는 근삿값입니다.
+     *
+     * @return 채워진 덱 수 (0~capacity)
+     */
+    public int occupancy() {
+        long filled = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(capacity, filled));
+    }
+
+    /**
+     * 링 버퍼에 담을 수 있는 덱 수를 반환합니다.
+     *
+     * @return 버퍼 크기
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 지금까지 꺼낸 덱 수를 반환합니다.
+     *
+     * @return 꺼낸 덱 수
+     */
+    public long getDecksSupplied() {
+        return head.get();
+    }
+
+    /**
+     * 버퍼가 비어 있어 소비자가 기다린 횟수를 반환합니다.
+     *
+     * @return 기다린 횟수
+     */
+    public long getStallCount() {
+        return stalls.sum();
+    }
+
+    /**
+     * 버퍼가 비어 있어 소비자가 기다린 시간의 합을 반환합니다.
+     *
+     * @return 기다린 시간 (나노초)
+     */
+    public long getStallNanos() {
+        return stallNanos.sum();
+    }
+
+    /**
+     * 생산자 스레드를 멈추고, 생산자가 끝날 때까지 기다립니다.
+     *
+     * 닫기 전에 생산자가 차지한 칸은 마저 채워지므로, 이미 채워졌거나 채우는 중이던 덱은 모두 계속 꺼낼 수 있습니다.
+     * 그 덱을 모두 꺼낸 뒤에야 {@link #shuffleInto(Deck)}가 예외를 던집니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Thread producer : producers) {
+            LockSupport.unpark(producer);
+        }
+        boolean interrupted = false;
+        for (Thread producer : producers) {
+            while (producer.isAlive() && producer != Thread.currentThread()) {
+                try {
+                    producer.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 생산자 스레드의 작업: 빈 칸을 차지해 그 칸 번호의 덱을 섞어 채운다.
+     */
+    private void produce() {
+        int spins = 0;
+        while (!closed) {
+            long pos = tail.get();
+            int slot = (int) (pos & mask);
+            long sequence = sequences.getAcquire(slot);
+            if (sequence == pos) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    fill(pos, slot * DECK_SIZE);
+                    sequences.setRelease(slot, pos + 1);
+                    spins = 0;
+                }
+            } else if (sequence < pos) {
+                // 버퍼가 가득 참
+                spins = await(spins);
+            }
+        }
+    }
+
+    /**
+     * n번째 덱의 순서를 (시드, n)으로 정한 난수 생성기로 섞어 채운다.
+     */
+    private void fill(long deckNumber, int offset) {
+        SplittableRandom random = new SplittableRandom(mix(seed ^ mix(deckNumber)));
+        for (int i = 0; i < DECK_SIZE; i++) {
+            orders[offset + i] = (byte) i;
+        }
+        for (int i = DECK_SIZE - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte code = orders[offset + i];
+            orders[offset + i] = orders[offset + j];
+            orders[offset + j] = code;
+        }
+    }
+
+    /**
+     * 64비트 값을 고르게 섞는다. (MurmurHash3 마무리 단계)
+     * 가까운 덱 번호끼리도 난수 생성기의 시드가 서로 멀리 떨어지게 한다.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * 조금 바쁘게 기다리다가, 그 뒤로는 잠깐씩 쉬며 기다린다.
+     */
+    private static int await(int spins) {
+        if (spins < SPINS) {
+            Thread.onSpinWait();
+            return spins + 1;
+        }
+        LockSupport.parkNanos(PARK_NANOS);
+        return spins;
+    }
+}
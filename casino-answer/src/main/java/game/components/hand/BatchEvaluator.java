@@ -0,0 +1,140 @@
+package game.components.hand;
+
+import game.components.card.Card;
+import game.components.card.CardCodec;
+
+/**
+ * 원시 타입 배열에 담긴 핸드를 한꺼번에 판정하는 유틸리티 클래스
+ *
+ * <p>통계 작업처럼 수백만 개의 핸드를 판정할 때는 {@link Card}와 {@link Hand} 객체를 만드는 비용이
+ * 판정 자체보다 커집니다. 이 클래스는 카드를 6비트 코드(0~51)로 받아 객체 없이 판정합니다.</p>
+ *
+ * <p>카드 코드는 {@link CardCodec#encode(Card)}(= {@link Card#index()})로 얻으며,
+ * 한 핸드의 카드 5장은 배열에 연속으로 놓습니다. i번째 핸드는 {@code [i × 5, i × 5 + 5)} 구간입니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * int[] packed = new int[handCount * 5];   // 카드 코드를 채운다
+ * int[] strengths = new int[handCount];
+ * BatchEvaluator.evaluateAll(packed, handCount, strengths);
+ * HandRank rank = HandStrength.rankOf(strengths[0]);
+ * </pre>
+ *
+ * <p>판정 결과는 같은 카드로 만든 {@link Hand#strength()}와 비트 단위까지 같습니다.</p>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public final class BatchEvaluator {
+    /** 한 핸드를 이루는 카드 수 */
+    public static final int CARDS_PER_HAND = 5;
+    /** 카드 코드 → 랭크 비트 */
+    private static final int[] RANK_BIT = new int[CardCodec.CODES];
+    /** 카드 코드 → 무늬 비트 */
+    private static final int[] SUIT_BIT = new int[CardCodec.CODES];
+    /** 카드 코드 → 히스토그램에 더할 값 */
+    private static final long[] HISTOGRAM_UNIT = new long[CardCodec.CODES];
+
+    static {
+        // 코드와 랭크, 무늬의 대응은 CardCodec 한 곳에서만 정한다
+        for (int code = 0; code < CardCodec.CODES; code++) {
+            int rank = CardCodec.rankOf(code).ordinal();
+            RANK_BIT[code] = 1 << rank;
+            SUIT_BIT[code] = 1 << CardCodec.suitOf(code).ordinal();
+            HISTOGRAM_UNIT[code] = 1L << (rank << 2);
+        }
+    }
+
+    /** SIMD 판정기 클래스 이름 (src/vector/java) */
+    static final String VECTOR_BACKEND = "game.components.hand.VectorBatchEvaluator";
+
+    private static final Backend PREFERRED = loadPreferred();
+
+    private BatchEvaluator() {
+    }
+
+    /**
+     * 연속으로 놓인 핸드들의 핸드 강도를 한꺼번에 계산합니다.
+     *
+     * <p>핸드마다 객체를 만들지 않으며, 결과는 outStrength의 앞에서부터 handCount개에 씁니다.</p>
+     *
+     * @param packedCards 핸드마다 카드 코드 5개를 연속으로 담은 배열
+     * @param handCount 판정할 핸드 수
+     * @param outStrength 핸드 강도를 쓸 배열 ({@link HandStrength} 참고)
+     * @throws IllegalArgumentException 배열이 handCount개의 핸드를 담기에 부족하거나, 카드 코드가 0~51이 아닐 때
+     */
+    public static void evaluateAll(int[] packedCards, int handCount, int[] outStrength) {
+        checkBounds(packedCards, handCount, outStrength);
+        evaluateRange(packedCards, 0, handCount, outStrength);
+    }
+
+    /**
+     * 사용할 수 있는 가장 빠른 묶음 판정기를 반환합니다.
+     *
+     * <p>{@code -PvectorEvaluator}로 빌드해 {@value #VECTOR_BACKEND}가 클래스패스에 있고
+     * {@code jdk.incubator.vector} 모듈을 쓸 수 있으면 SIMD 판정기를, 아니면 {@link #evaluateAll}을 반환합니다.
+     * 어느 쪽이든 결과는 같습니다.</p>
+     *
+     * @return 묶음 판정기
+     */
+    public static Backend preferred() {
+        return PREFERRED;
+    }
+
+    /**
+     * 묶음 판정기
+     *
+     * <p>{@link BatchEvaluator#evaluateAll}과 같은 입력을 받아 같은 결과를 써야 합니다.</p>
+     */
+    @FunctionalInterface
+    public interface Backend {
+        void evaluateAll(int[] packedCards, int handCount, int[] outStrength);
+    }
+
+    private static Backend loadPreferred() {
+        try {
+            return (Backend) Class.forName(VECTOR_BACKEND).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // 벡터 백엔드 없이 빌드했거나 jdk.incubator.vector 모듈이 없으면 스칼라 판정으로 대신한다
+            return BatchEvaluator::evaluateAll;
+        }
+    }
+
+    /**
+     * 배열의 크기가 handCount개의 핸드를 담기에 충분한지 확인합니다.
+     */
+    static void checkBounds(int[] packedCards, int handCount, int[] outStrength) {
+        if (handCount < 0) {
+            throw new IllegalArgumentException("핸드 수는 음수일 수 없습니다: " + handCount);
+        }
+        if (packedCards.length < (long) handCount * CARDS_PER_HAND || outStrength.length < handCount) {
+            throw new IllegalArgumentException("배열의 크기가 " + handCount + "개의 핸드를 담기에 부족합니다.");
+        }
+    }
+
+    /**
+     * [from, to) 구간의 핸드를 하나씩 판정합니다. 범위는 호출한 쪽에서 확인합니다.
+     */
+    static void evaluateRange(int[] packedCards, int from, int to, int[] outStrength) {
+        for (int hand = from, offset = from * CARDS_PER_HAND; hand < to; hand++, offset += CARDS_PER_HAND) {
+            int rankMask = 0;
+            int suitMask = 0;
+            long histogram = 0L;
+            for (int i = offset; i < offset + CARDS_PER_HAND; i++) {
+                int code = packedCards[i];
+                if (code < 0 || code >= CardCodec.CODES) {
+                    throw invalidCode(code, i);
+                }
+                rankMask |= RANK_BIT[code];
+                suitMask |= SUIT_BIT[code];
+                histogram += HISTOGRAM_UNIT[code];
+            }
+            outStrength[hand] = BitmaskEvaluator.strength(rankMask, histogram, (suitMask & (suitMask - 1)) == 0);
+        }
+    }
+
+    static IllegalArgumentException invalidCode(int code, int position) {
+        return new IllegalArgumentException("잘못된 카드 코드입니다: " + code + " (위치 " + position + ")");
+    }
+}
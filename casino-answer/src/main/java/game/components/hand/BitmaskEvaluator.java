@@ -0,0 +1,105 @@
+package game.components.hand;
+
+import game.components.card.Card;
+
+import java.util.List;
+
+/**
+ * 비트마스크 기반 족보 판정기
+ *
+ * <p>5장의 카드를 한 번만 순회하면서 다음 세 가지 값을 만들고,
+ * 이 값들만으로 족보와 키커를 담은 핸드 강도({@link HandStrength})를 계산합니다.</p>
+ * <ul>
+ *   <li>랭크 비트마스크 - 등장한 랭크마다 1비트 (TWO = bit 0, ACE = bit 12)</li>
+ *   <li>무늬 비트마스크 - 등장한 무늬마다 1비트, 1비트만 켜져 있으면 플러시</li>
+ *   <li>랭크 히스토그램 - 랭크마다 4비트 칸에 장수를 누적한 long 값</li>
+ * </ul>
+ *
+ * <p>컬렉션이나 박싱된 값을 만들지 않으므로 판정 과정에서 힙 할당이 일어나지 않습니다.
+ * 판정 결과는 {@link RuleChainEvaluator}와 완전히 같습니다.</p>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public final class BitmaskEvaluator implements HandEvaluator {
+    /** 10, J, Q, K, A 랭크 비트 */
+    static final int ROYAL_MASK = 0x1F00;
+    /** A, 2, 3, 4, 5 랭크 비트 (백스트레이트) */
+    static final int WHEEL_MASK = 0x100F;
+
+    /** 히스토그램 각 칸의 최하위 비트 (13칸) */
+    private static final long NIBBLE_LOW_BITS = 0x1111111111111L;
+
+    @Override
+    public int strength(List<Card> cards) {
+        int rankMask = 0;
+        int suitMask = 0;
+        long histogram = 0L;
+        for (int i = 0; i < 5; i++) {
+            Card card = cards.get(i);
+            int rank = card.getRank().ordinal();
+            rankMask |= 1 << rank;
+            suitMask |= 1 << card.getSuit().ordinal();
+            histogram += 1L << (rank << 2);
+        }
+        return strength(rankMask, histogram, (suitMask & (suitMask - 1)) == 0);
+    }
+
+    /**
+     * {@link Hand}가 이미 누적해 둔 비트마스크와 히스토그램으로 분류만 마무리합니다.
+     */
+    @Override
+    public int strength(List<Card> cards, HandState state) {
+        return strength(state.getRankMask(), state.getHistogram(), state.isFlush());
+    }
+
+    /**
+     * 랭크 비트마스크와 히스토그램으로 핸드 강도를 계산합니다.
+     *
+     * @param rankMask 랭크 비트마스크
+     * @param histogram 랭크별 장수를 4비트씩 담은 히스토그램
+     * @param flush 모든 카드의 무늬가 같은지 여부
+     * @return 핸드 강도 ({@link HandStrength} 참고)
+     */
+    static int strength(int rankMask, long histogram, boolean flush) {
+        if (Integer.bitCount(rankMask) == 5) {
+            if (isStraight(rankMask)) {
+                int top = rankMask == WHEEL_MASK ? 3 : 31 - Integer.numberOfLeadingZeros(rankMask);
+                HandRank rank = !flush ? HandRank.STRAIGHT
+                    : rankMask == ROYAL_MASK ? HandRank.ROYAL_FLUSH : HandRank.STRAIGHT_FLUSH;
+                return HandStrength.of(rank, top);
+            }
+            HandRank rank = flush ? HandRank.FLUSH : HandRank.HIGH_CARD;
+            return HandStrength.of(rank, HandStrength.appendRanks(0, rankMask));
+        }
+
+        // 각 칸의 장수(0~4)를 비트로 나누어 장수별 랭크 비트마스크를 만든다
+        long bit0 = histogram & NIBBLE_LOW_BITS;
+        long bit1 = (histogram >>> 1) & NIBBLE_LOW_BITS;
+        long bit2 = (histogram >>> 2) & NIBBLE_LOW_BITS;
+        int quads = (int) Long.compress(bit2, NIBBLE_LOW_BITS);
+        int trips = (int) Long.compress(bit0 & bit1, NIBBLE_LOW_BITS);
+        int pairs = (int) Long.compress(bit1 & ~bit0, NIBBLE_LOW_BITS);
+        int singles = (int) Long.compress(bit0 & ~bit1, NIBBLE_LOW_BITS);
+
+        HandRank rank;
+        if (quads != 0) rank = HandRank.FOUR_OF_A_KIND;
+        else if (trips != 0) rank = pairs != 0 ? HandRank.FULL_HOUSE : HandRank.THREE_OF_A_KIND;
+        else rank = Integer.bitCount(pairs) == 2 ? HandRank.TWO_PAIR : HandRank.ONE_PAIR;
+
+        int tieBreaks = HandStrength.appendRanks(0, quads | trips);
+        tieBreaks = HandStrength.appendRanks(tieBreaks, pairs);
+        tieBreaks = HandStrength.appendRanks(tieBreaks, singles);
+        return HandStrength.of(rank, tieBreaks);
+    }
+
+    /**
+     * 서로 다른 5개의 랭크가 연속인지 확인합니다.
+     *
+     * <p>가장 낮은 비트로 나눈 값이 0b11111이면 연속된 5개 랭크입니다.</p>
+     */
+    static boolean isStraight(int rankMask) {
+        return rankMask == WHEEL_MASK || rankMask / Integer.lowestOneBit(rankMask) == 0x1F;
+    }
+}
@@ -0,0 +1,88 @@
+package game.components.hand;
+
+import game.components.card.Card;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 텍사스 홀덤에서 모든 플레이어가 함께 쓰는 공유 카드(보드)를 나타내는 클래스
+ *
+ * <p>플롭(3장), 턴(1장), 리버(1장) 순서로 최대 5장까지 깔리며,
+ * 테이블의 모든 {@link HoldemHand}가 같은 보드를 참조합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * Board board = new Board();
+ * HoldemHand hand = new HoldemHand(board);
+ * hand.add(hole1);
+ * hand.add(hole2);
+ * board.add(flop1);  // 플롭, 턴, 리버
+ * ...
+ * int strength = hand.strength();
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class Board {
+    /** 보드에 깔리는 최대 카드 수 */
+    public static final int MAX_CARDS = 5;
+
+    private final List<Card> cards = new ArrayList<>(MAX_CARDS);
+
+    /**
+     * 보드에 카드를 한 장 깝니다.
+     *
+     * @param card 깔 카드
+     * @throws IllegalArgumentException card가 null일 때
+     * @throws IllegalStateException 이미 5장이 깔려 있을 때
+     */
+    public void add(Card card) {
+        if (card == null) {
+            throw new IllegalArgumentException("카드는 null일 수 없습니다.");
+        }
+        if (cards.size() == MAX_CARDS) {
+            throw new IllegalStateException("보드에는 최대 " + MAX_CARDS + "장까지만 깔 수 있습니다.");
+        }
+        cards.add(card);
+    }
+
+    /**
+     * 보드에 깔린 카드를 반환합니다.
+     *
+     * @return 수정 불가능한 카드 리스트
+     */
+    public List<Card> getCards() {
+        return List.copyOf(cards);
+    }
+
+    /**
+     * 보드에 깔린 카드 수를 반환합니다.
+     *
+     * @return 카드 수 (0~5)
+     */
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * 보드의 카드를 모두 치웁니다.
+     */
+    public void clear() {
+        cards.clear();
+    }
+
+    /**
+     * 판정용으로 i번째 카드를 복사 없이 반환합니다.
+     */
+    Card get(int index) {
+        return cards.get(index);
+    }
+
+    @Override
+    public String toString() {
+        return cards.toString();
+    }
+}
@@ -1,10 +1,10 @@
 package game.components.hand;
 
 import game.components.card.Card;
-import game.components.card.Rank;
-import game.components.card.Suit;
+import game.components.card.CardSet;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 플레이어의 손패를 나타내는 클래스
@@ -32,10 +32,9 @@ import java.util.*;
  * </pre>
  * 
  * 구현이 필요한 메서드:
- * - evaluate() 메서드: 포커 족보 판정
+ * - evaluate() 메서드: 포커 족보 판정 ({@link HandEvaluator}에 위임)
  * - open() 메서드: 패를 공개하고 점수 반환
  * - compareTo() 메서드: 핸드 비교
- * - 각종 족보 판정 헬퍼 메서드들
  * 
  * @author XIYO
  * @version 1.0
@@ -44,11 +43,42 @@ import java.util.*;
 public class Hand implements Comparable<Hand> {
     private List<Card> cards  = new ArrayList<>();
     private static final int MAX_CARDS = 5;
+    private static final HandEvaluator DEFAULT_EVALUATOR = new BitmaskEvaluator();
+    
+    private final HandEvaluator evaluator;
+    private final HandState state = new HandState();
+    private long cardSet = CardSet.EMPTY;
+    
+    // 판정 결과 캐시 - add()와 clear()에서만 무효화됩니다
+    private boolean evaluated;
+    private int cachedStrength;
+    private long cacheHits;
+    private long cacheMisses;
+    
+    /**
+     * 기본 판정기({@link BitmaskEvaluator})를 사용하는 빈 손패를 생성합니다.
+     */
+    public Hand() {
+        this(DEFAULT_EVALUATOR);
+    }
+    
+    /**
+     * 지정한 판정기를 사용하는 빈 손패를 생성합니다.
+     * 
+     * @param evaluator 족보 판정에 사용할 판정기
+     * @throws IllegalArgumentException evaluator가 null일 때
+     */
+    public Hand(HandEvaluator evaluator) {
+        if (evaluator == null) {
+            throw new IllegalArgumentException("판정기는 null일 수 없습니다.");
+        }
+        this.evaluator = evaluator;
+    }
     
     /**
      * 손패에 카드를 추가합니다.
      * 
-     * 카드는 손패의 끝에 추가됩니다.
+     * 카드는 손패의 끝에 추가되며, 판정용 누적 상태({@link HandState})도 함께 갱신됩니다.
      * 
      * @param card 추가할 카드
      * @throws IllegalArgumentException card가 null일 때
@@ -61,6 +91,44 @@ public class Hand implements Comparable<Hand> {
             throw new IllegalStateException("핸드는 최대 " + MAX_CARDS + "장까지만 가질 수 있습니다.");
         }
         cards.add(card);
+        state.add(card);
+        cardSet |= 1L << card.index();
+        evaluated = false;
+    }
+    
+    /**
+     * 배열의 카드 여러 장을 한 번에 손패에 추가합니다.
+     * 
+     * source[start], source[start + step], source[start + 2 × step], ... 순서로 count장을 추가합니다.
+     * 덱이 여러 손패에 돌아가며 나눠줄 때처럼 카드가 일정한 간격으로 놓여 있을 때 사용합니다.
+     * 남은 자리는 추가하기 전에 한 번만 확인하므로, 예외가 발생하면 손패는 바뀌지 않습니다.
+     * 
+     * @param source 카드를 꺼낼 배열
+     * @param start 첫 카드의 위치
+     * @param step 카드 사이의 간격 (1 이상)
+     * @param count 추가할 카드 수
+     * @throws IllegalArgumentException 범위가 배열을 벗어나거나 추가할 카드 중 null이 있을 때
+     * @throws IllegalStateException 추가하면 5장을 넘을 때
+     */
+    public void addAll(Card[] source, int start, int step, int count) {
+        if (count < 0 || step < 1 || start < 0 || (count > 0 && start + (long) step * (count - 1) >= source.length)) {
+            throw new IllegalArgumentException("카드 범위가 배열을 벗어납니다: start=" + start + ", step=" + step + ", count=" + count);
+        }
+        if (cards.size() + count > MAX_CARDS) {
+            throw new IllegalStateException("핸드는 최대 " + MAX_CARDS + "장까지만 가질 수 있습니다.");
+        }
+        for (int i = 0, at = start; i < count; i++, at += step) {
+            if (source[at] == null) {
+                throw new IllegalArgumentException("카드는 null일 수 없습니다.");
+            }
+        }
+        for (int i = 0, at = start; i < count; i++, at += step) {
+            Card card = source[at];
+            cards.add(card);
+            state.add(card);
+            cardSet |= 1L << card.index();
+        }
+        evaluated = false;
     }
     
     /**
@@ -75,6 +143,37 @@ public class Hand implements Comparable<Hand> {
         return List.copyOf(cards);
     }
     
+    /**
+     * 손패의 카드를 카드 묶음({@link CardSet})으로 반환합니다.
+     * 
+     * 카드를 받을 때마다 갱신해 두므로 새로 계산하지 않습니다.
+     * 
+     * @return 손패의 카드 묶음
+     */
+    public long toCardSet() {
+        return cardSet;
+    }
+    
+    /**
+     * 카드 묶음({@link CardSet})의 카드로 기본 판정기를 사용하는 손패를 만듭니다.
+     * 
+     * 카드는 코드가 작은 것부터 추가됩니다.
+     * 
+     * @param cardSet 손패에 담을 카드 묶음
+     * @return 새 손패
+     * @throws IllegalArgumentException 카드 묶음이 5장을 넘거나 52장 밖의 비트가 있을 때
+     */
+    public static Hand fromCardSet(long cardSet) {
+        if (CardSet.size(cardSet) > MAX_CARDS) {
+            throw new IllegalArgumentException("핸드는 최대 " + MAX_CARDS + "장까지만 가질 수 있습니다: " + CardSet.toString(cardSet));
+        }
+        Hand hand = new Hand();
+        for (Card card : CardSet.toList(cardSet)) {
+            hand.add(card);
+        }
+        return hand;
+    }
+    
     /**
      * 손패가 가득 찼는지 확인합니다.
      * 
@@ -84,6 +183,15 @@ public class Hand implements Comparable<Hand> {
         return cards.size() == MAX_CARDS;
     }
     
+    /**
+     * 손패에 더 받을 수 있는 카드 수를 반환합니다.
+     * 
+     * @return 남은 자리 수 (0~5)
+     */
+    public int remainingCapacity() {
+        return MAX_CARDS - cards.size();
+    }
+    
     
     /**
      * 손패를 정리합니다.
@@ -93,6 +201,9 @@ public class Hand implements Comparable<Hand> {
      */
     public void clear() {
         cards.clear();
+        state.clear();
+        cardSet = CardSet.EMPTY;
+        evaluated = false;
     }
     
     
@@ -113,28 +224,14 @@ public class Hand implements Comparable<Hand> {
      * 손패의 포커 순위를 평가합니다.
      * 
      * 5장의 카드로 이루어진 손패를 평가하여 포커 족보를 반환합니다.
+     * 실제 판정은 생성 시 지정한 {@link HandEvaluator}에 위임합니다.
      * 카드가 5장이 아닌 경우 예외를 발생시킵니다.
      * 
      * @return 평가된 포커 족보
      * @throws IllegalStateException 카드가 정확히 5장이 아닐 때
      */
     public HandRank evaluate() {
-        if (cards.size() != 5) {
-            throw new IllegalStateException("핸드는 정확히 5장이어야 평가할 수 있습니다.");
-        }
-        
-        // 높은 족보부터 차례대로 확인
-        if (isRoyalFlush()) return HandRank.ROYAL_FLUSH;
-        if (isStraightFlush()) return HandRank.STRAIGHT_FLUSH;
-        if (isFourOfAKind()) return HandRank.FOUR_OF_A_KIND;
-        if (isFullHouse()) return HandRank.FULL_HOUSE;
-        if (isFlush()) return HandRank.FLUSH;
-        if (isStraight()) return HandRank.STRAIGHT;
-        if (isThreeOfAKind()) return HandRank.THREE_OF_A_KIND;
-        if (isTwoPair()) return HandRank.TWO_PAIR;
-        if (isOnePair()) return HandRank.ONE_PAIR;
-        
-        return HandRank.HIGH_CARD;
+        return HandStrength.rankOf(strength());
     }
     
     /**
@@ -150,268 +247,58 @@ public class Hand implements Comparable<Hand> {
         return evaluate().getScore();
     }
     
-    public int compareTo(Hand other) {
-        return Integer.compare(this.open(), other.open());
-    }
-    
-    // ===== 헬퍼 메서드들 =====
-    
-    /**
-     * 로열 플러시인지 확인
-     * @return 로열 플러시이면 true
-     */
-    private boolean isRoyalFlush() {
-        // TODO: 구현하세요 - 학생이 직접 구현해야 하는 메서드
-        // 
-        // 🌟 구현 힌트:
-        // 로열 플러시 = 같은 무늬의 10, J, Q, K, A
-        // 
-        // 구현 순서:
-        // 1. if (!isFlush()) return false;  // 플러시가 아니면 로열 플러시도 아님
-        // 2. 필요한 랭크들을 Set에 저장
-        //    Set<Rank> requiredRanks = new HashSet<>();
-        //    requiredRanks.add(Rank.TEN);
-        //    requiredRanks.add(Rank.JACK);
-        //    requiredRanks.add(Rank.QUEEN);
-        //    requiredRanks.add(Rank.KING);
-        //    requiredRanks.add(Rank.ACE);
-        // 3. 현재 카드들의 랭크를 Set에 저장
-        //    Set<Rank> currentRanks = new HashSet<>();
-        //    for (Card card : cards) {
-        //        currentRanks.add(card.getRank());
-        //    }
-        // 4. return currentRanks.equals(requiredRanks);
-        // 
-        // 필요한 import:
-        // import java.util.Set;
-        // import java.util.HashSet;
-        // 
-        // 테스트 실패 시:
-        // HandTest.java의 "15. 로열 플러시 판정 테스트"가 실패합니다.
-        // 이 메서드를 구현해야 테스트가 통과합니다.
-        
-        if (!isFlush()) return false;
-        
-        Set<Rank> requiredRanks = new HashSet<>();
-        requiredRanks.add(Rank.TEN);
-        requiredRanks.add(Rank.JACK);
-        requiredRanks.add(Rank.QUEEN);
-        requiredRanks.add(Rank.KING);
-        requiredRanks.add(Rank.ACE);
-        
-        Set<Rank> currentRanks = new HashSet<>();
-        for (Card card : cards) {
-            currentRanks.add(card.getRank());
-        }
-        
-        return currentRanks.equals(requiredRanks);
-    }
-    
-    /**
-     * 스트레이트 플러시인지 확인
-     * @return 스트레이트 플러시이면 true
-     */
-    private boolean isStraightFlush() {
-        // TODO: 구현하세요 - 학생이 직접 구현해야 하는 메서드
-        // 
-        // ✨ 구현 힌트:
-        // 스트레이트 플러시 = 플러시 + 스트레이트
-        // 
-        // 한 줄로 구현 가능:
-        // return isFlush() && isStraight();
-        // 
-        // 테스트 실패 시:
-        // HandTest.java의 "16. 스트레이트 플러시 판정 테스트"가 실패합니다.
-        // 이 메서드를 구현해야 테스트가 통과합니다.
-        
-        return isFlush() && isStraight();
-    }
-    
-    /**
-     * 포카드인지 확인
-     * @return 포카드이면 true
-     */
-    private boolean isFourOfAKind() {
-        Map<Rank, Integer> counts = getRankCounts();
-        return counts.containsValue(4);
-    }
-    
-    /**
-     * 풀하우스인지 확인
-     * @return 풀하우스이면 true
-     */
-    private boolean isFullHouse() {
-        // TODO: 구현하세요 - 학생이 직접 구현해야 하는 메서드
-        // 
-        // 🏠 구현 힌트:
-        // 풀하우스 = 3장 + 2장 조합
-        // 
-        // 예시:
-        // Map<Rank, Integer> counts = getRankCounts();
-        // return counts.containsValue(3) && counts.containsValue(2);
-        // 
-        // getRankCounts()는 이미 구현되어 있습니다!
-        // 
-        // 테스트 실패 시:
-        // HandTest.java의 "17. 풀하우스 판정 테스트"가 실패합니다.
-        // 이 메서드를 구현해야 테스트가 통과합니다.
-        
-        Map<Rank, Integer> counts = getRankCounts();
-        return counts.containsValue(3) && counts.containsValue(2);
-    }
-    
-    /**
-     * 플러시인지 확인
-     * @return 플러시이면 true
-     */
-    private boolean isFlush() {
-        Suit firstSuit = cards.get(0).getSuit();
-        for (Card card : cards) {
-            if (card.getSuit() != firstSuit) {
-                return false;
-            }
-        }
-        return true;
-    }
-    
     /**
-     * 스트레이트인지 확인
-     * @return 스트레이트이면 true
+     * 손패의 핸드 강도를 반환합니다.
+     * 
+     * 족보와 키커를 함께 담은 값으로, 같은 족보끼리도 승부를 가릴 수 있습니다.
+     * 예를 들어 K 투페어는 3 투페어보다 큰 값을 가집니다 ({@link HandStrength} 참고).
+     * 
+     * 판정 결과는 캐시되며, 카드가 바뀌기 전까지 다시 판정하지 않습니다.
+     * 
+     * @return 핸드 강도 (높을수록 강한 패)
+     * @throws IllegalStateException 카드가 정확히 5장이 아닐 때
      */
-    private boolean isStraight() {
-        // TODO: 구현하세요 - 학생이 직접 구현해야 하는 메서드
-        // 
-        // 📏 구현 힌트:
-        // 스트레이트 = 연속된 5장의 카드
-        // 
-        // 구현 순서:
-        // 1. 카드들의 값을 List에 저장하고 정렬
-        //    List<Integer> values = new ArrayList<>();
-        //    for (Card card : cards) {
-        //        values.add(card.getValue());
-        //    }
-        //    Collections.sort(values);
-        // 
-        // 2. 일반 스트레이트 체크 (연속된 5개 숫자)
-        //    boolean isNormalStraight = true;
-        //    for (int i = 0; i < 4; i++) {
-        //        if (values.get(i + 1) - values.get(i) != 1) {
-        //            isNormalStraight = false;
-        //            break;
-        //        }
-        //    }
-        // 
-        // 3. 특수 케이스: A-2-3-4-5 (백스트레이트)
-        //    - 정렬된 값이 [2, 3, 4, 5, 14]인지 확인
-        //    - 14는 ACE의 값
-        //    boolean isAceLowStraight = values.equals(Arrays.asList(2, 3, 4, 5, 14));
-        // 
-        // 4. return isNormalStraight || isAceLowStraight;
-        // 
-        // 필요한 import:
-        // import java.util.Arrays;
-        // import java.util.Collections;
-        // 
-        // 테스트 실패 시:
-        // HandTest.java의 "18. 스트레이트 판정 테스트"가 실패합니다.
-        // HandTest.java의 "19. 백스트레이트(A-2-3-4-5) 판정 테스트"도 확인하세요.
-        // 이 메서드를 구현해야 테스트가 통과합니다.
-        
-        List<Integer> values = new ArrayList<>();
-        for (Card card : cards) {
-            values.add(card.getValue());
+    public int strength() {
+        if (evaluated) {
+            cacheHits++;
+            return cachedStrength;
         }
-        Collections.sort(values);
-        
-        // 일반 스트레이트 체크
-        boolean isNormalStraight = true;
-        for (int i = 0; i < 4; i++) {
-            if (values.get(i + 1) - values.get(i) != 1) {
-                isNormalStraight = false;
-                break;
-            }
+        if (cards.size() != 5) {
+            throw new IllegalStateException("핸드는 정확히 5장이어야 평가할 수 있습니다.");
         }
-        
-        // 특수 케이스: A-2-3-4-5 (백스트레이트)
-        boolean isAceLowStraight = values.equals(Arrays.asList(2, 3, 4, 5, 14));
-        
-        return isNormalStraight || isAceLowStraight;
+        cacheMisses++;
+        cachedStrength = evaluator.strength(cards, state);
+        evaluated = true;
+        return cachedStrength;
     }
     
     /**
-     * 쓰리카드인지 확인
-     * @return 쓰리카드이면 true
-     */
-    private boolean isThreeOfAKind() {
-        // TODO: 구현하세요 - 학생이 직접 구현해야 하는 메서드
-        // 
-        // 🎯 구현 힌트:
-        // 쓰리카드 = 같은 랭크 3장
-        // 
-        // 한 줄로 구현 가능:
-        // Map<Rank, Integer> counts = getRankCounts();
-        // return counts.containsValue(3);
-        // 
-        // 테스트 실패 시:
-        // HandTest.java의 "20. 쓰리카드 판정 테스트"가 실패합니다.
-        // 이 메서드를 구현해야 테스트가 통과합니다.
-        
-        Map<Rank, Integer> counts = getRankCounts();
-        return counts.containsValue(3);
-    }
-    
-    /**
-     * 투페어인지 확인
-     * @return 투페어이면 true
+     * 캐시된 판정 결과를 재사용한 횟수를 반환합니다.
+     * 
+     * @return 캐시 적중 횟수
      */
-    private boolean isTwoPair() {
-        // TODO: 구현하세요 - 학생이 직접 구현해야 하는 메서드
-        // 
-        // 👥 구현 힌트:
-        // 투페어 = 페어가 2개
-        // 
-        // 예시:
-        // Map<Rank, Integer> counts = getRankCounts();
-        // int pairCount = 0;
-        // for (int count : counts.values()) {
-        //     if (count == 2) {
-        //         pairCount++;
-        //     }
-        // }
-        // return pairCount == 2;
-        // 
-        // 테스트 실패 시:
-        // HandTest.java의 "21. 투페어 판정 테스트"가 실패합니다.
-        // 이 메서드를 구현해야 테스트가 통과합니다.
-        
-        Map<Rank, Integer> counts = getRankCounts();
-        int pairCount = 0;
-        for (int count : counts.values()) {
-            if (count == 2) {
-                pairCount++;
-            }
-        }
-        return pairCount == 2;
+    public long getCacheHits() {
+        return cacheHits;
     }
     
     /**
-     * 원페어인지 확인
-     * @return 원페어이면 true
+     * 판정기를 실제로 호출한 횟수를 반환합니다.
+     * 
+     * @return 캐시 실패 횟수
      */
-    private boolean isOnePair() {
-        Map<Rank, Integer> counts = getRankCounts();
-        return counts.containsValue(2);
+    public long getCacheMisses() {
+        return cacheMisses;
     }
     
     /**
-     * 각 랭크별 카드 개수를 계산
-     * @return 랭크별 카드 개수 맵
+     * 두 손패의 핸드 강도를 비교합니다.
+     * 
+     * 족보가 같으면 키커까지 비교하며, 완전히 같은 강도일 때만 0을 반환합니다.
+     * 
+     * @param other 비교할 손패
+     * @return 이 손패가 강하면 양수, 약하면 음수, 같으면 0
      */
-    private Map<Rank, Integer> getRankCounts() {
-        Map<Rank, Integer> counts = new EnumMap<>(Rank.class);
-        for (Card card : cards) {
-            counts.put(card.getRank(), counts.getOrDefault(card.getRank(), 0) + 1);
-        }
-        return counts;
+    public int compareTo(Hand other) {
+        return Integer.compare(this.strength(), other.strength());
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package game.components.hand;
+
+import game.components.card.Card;
+
+import java.util.List;
+
+/**
+ * 5장의 카드로 포커 족보를 판정하는 판정기 인터페이스
+ * 
+ * <p>{@link Hand}는 족보 판정을 이 인터페이스에 위임합니다.
+ * 같은 카드에 대해서는 어떤 구현이든 같은 핸드 강도를 반환해야 합니다.</p>
+ * 
+ * <p>제공되는 구현:</p>
+ * <ul>
+ *   <li>{@link RuleChainEvaluator} - 족보 판정 헬퍼를 높은 족보부터 차례대로 적용 (기준 구현)</li>
+ *   <li>{@link BitmaskEvaluator} - 한 번의 순회로 만든 비트마스크로 판정 (기본값)</li>
+ *   <li>{@link LookupTableEvaluator} - 미리 계산한 표를 조회하여 판정</li>
+ * </ul>
+ * 
+ * <p>사용 예시:</p>
+ * <pre>
+ * Hand hand = new Hand(new LookupTableEvaluator());
+ * // 카드 5장 추가 후
+ * HandRank rank = hand.evaluate();
+ * </pre>
+ * 
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public interface HandEvaluator {
+    
+    /**
+     * 5장의 카드로 핸드 강도를 계산합니다.
+     * 
+     * <p>핸드 강도는 족보와 키커를 함께 담은 int 값으로,
+     * 값이 클수록 강한 핸드입니다 ({@link HandStrength} 참고).
+     * 카드 수 검증은 호출하는 쪽({@link Hand})에서 이미 끝났다고 가정합니다.</p>
+     * 
+     * @param cards 판정할 카드 (정확히 5장)
+     * @return 핸드 강도
+     */
+    int strength(List<Card> cards);
+    
+    /**
+     * {@link Hand}가 카드를 받을 때마다 갱신한 누적 상태를 활용해 핸드 강도를 계산합니다.
+     * 
+     * <p>누적 상태만으로 분류를 끝낼 수 있는 구현은 이 메서드를 재정의하여
+     * 카드를 다시 순회하지 않도록 할 수 있습니다. 기본 구현은 카드를 다시 판정합니다.</p>
+     * 
+     * @param cards 판정할 카드 (정확히 5장)
+     * @param state 같은 카드로 누적된 판정용 상태
+     * @return 핸드 강도
+     */
+    default int strength(List<Card> cards, HandState state) {
+        return strength(cards);
+    }
+    
+    /**
+     * 5장의 카드로 포커 족보를 판정합니다.
+     * 
+     * @param cards 판정할 카드 (정확히 5장)
+     * @return 판정된 포커 족보
+     */
+    default HandRank evaluate(List<Card> cards) {
+        return HandStrength.rankOf(strength(cards));
+    }
+}
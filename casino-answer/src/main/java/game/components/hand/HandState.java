@@ -0,0 +1,90 @@
+package game.components.hand;
+
+import game.components.card.Card;
+
+/**
+ * 손패에 카드가 들어올 때마다 갱신되는 판정용 누적 상태
+ *
+ * <p>{@link Hand#add(Card)}가 카드 한 장마다 아래 값들을 갱신해 두므로,
+ * 판정 시점에는 카드를 다시 순회하지 않고 분류만 마무리하면 됩니다.
+ * 드로우 단계처럼 카드가 한 장씩 바뀌는 경우에 특히 유리합니다.</p>
+ * <ul>
+ *   <li>랭크 비트마스크 - 등장한 랭크마다 1비트 (TWO = bit 0, ACE = bit 12)</li>
+ *   <li>무늬별 장수 - 무늬마다 8비트 칸에 장수를 누적한 int 값</li>
+ *   <li>랭크 히스토그램 - 랭크마다 4비트 칸에 장수를 누적한 long 값</li>
+ * </ul>
+ *
+ * <p>모든 값이 원시 타입이므로 카드를 추가하거나 비울 때 힙 할당이 일어나지 않습니다.</p>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public final class HandState {
+    private int rankMask;
+    private int suitCounts;
+    private long histogram;
+
+    /**
+     * 카드 한 장을 누적 상태에 반영합니다.
+     *
+     * @param card 추가된 카드
+     */
+    void add(Card card) {
+        int rank = card.getRank().ordinal();
+        rankMask |= 1 << rank;
+        suitCounts += 1 << (card.getSuit().ordinal() << 3);
+        histogram += 1L << (rank << 2);
+    }
+
+    /**
+     * 누적 상태를 빈 손패의 상태로 되돌립니다.
+     */
+    void clear() {
+        rankMask = 0;
+        suitCounts = 0;
+        histogram = 0L;
+    }
+
+    /**
+     * 랭크 비트마스크를 반환합니다.
+     *
+     * @return 등장한 랭크마다 1비트가 켜진 값
+     */
+    public int getRankMask() {
+        return rankMask;
+    }
+
+    /**
+     * 랭크 히스토그램을 반환합니다.
+     *
+     * @return 랭크마다 4비트 칸에 장수를 담은 값
+     */
+    public long getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * 특정 무늬의 카드 장수를 반환합니다.
+     *
+     * @param suitOrdinal 무늬의 순서값 ({@link game.components.card.Suit#ordinal()})
+     * @return 해당 무늬의 카드 장수
+     */
+    public int getSuitCount(int suitOrdinal) {
+        return (suitCounts >>> (suitOrdinal << 3)) & 0xFF;
+    }
+
+    /**
+     * 한 무늬의 카드가 5장 이상인지 확인합니다.
+     *
+     * @return 5장 이상 모인 무늬가 있으면 true
+     */
+    public boolean isFlush() {
+        for (int suit = 0; suit < 4; suit++) {
+            if (getSuitCount(suit) >= 5) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package game.components.hand;
+
+/**
+ * 핸드의 강도를 하나의 int 값으로 표현하는 유틸리티 클래스
+ *
+ * <p>{@link HandRank}의 점수(100~1000)는 족보만 구분하므로,
+ * 같은 족보끼리는 키커까지 비교해야 승부를 가릴 수 있습니다.
+ * 핸드 강도는 족보와 동점 판정용 랭크를 한 int에 담아,
+ * 두 핸드의 비교를 {@code Integer.compare} 한 번으로 끝낼 수 있게 합니다.</p>
+ *
+ * <p>비트 구성 (상위 비트일수록 우선):</p>
+ * <ul>
+ *   <li>20~23번 비트: 족보 ({@link HandRank#ordinal()}, 하이카드 0 ~ 로열 플러시 9)</li>
+ *   <li>0~19번 비트: 동점 판정용 랭크 ({@link game.components.card.Rank#ordinal()}, 4비트씩)</li>
+ * </ul>
+ *
+ * <p>동점 판정용 랭크는 같은 랭크끼리 묶은 뒤 장수가 많은 묶음부터,
+ * 장수가 같으면 높은 랭크부터 앞(상위 비트)에 놓습니다.
+ * 스트레이트 계열은 가장 높은 카드 하나만 기록하며, 백스트레이트(A-2-3-4-5)의 가장 높은 카드는 5입니다.</p>
+ *
+ * <p>예시:</p>
+ * <pre>
+ * K♠ K♥ 3♦ 3♣ 7♠ → 투페어, [K, 3, 7]
+ * A♠ A♥ A♦ 9♣ 9♠ → 풀하우스, [A, 9]
+ * A♠ 2♥ 3♦ 4♣ 5♠ → 스트레이트, [5]
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public final class HandStrength {
+    /** 족보가 시작되는 비트 위치 */
+    public static final int CATEGORY_SHIFT = 20;
+
+    private static final HandRank[] HAND_RANKS = HandRank.values();
+
+    private HandStrength() {
+    }
+
+    /**
+     * 족보와 동점 판정용 랭크로 핸드 강도를 만듭니다.
+     *
+     * @param rank 족보
+     * @param tieBreaks 4비트씩 이어 붙인 동점 판정용 랭크
+     * @return 핸드 강도
+     */
+    public static int of(HandRank rank, int tieBreaks) {
+        return (rank.ordinal() << CATEGORY_SHIFT) | tieBreaks;
+    }
+
+    /**
+     * 핸드 강도에서 족보를 꺼냅니다.
+     *
+     * @param strength 핸드 강도
+     * @return 족보
+     */
+    public static HandRank rankOf(int strength) {
+        return HAND_RANKS[strength >>> CATEGORY_SHIFT];
+    }
+
+    /**
+     * 랭크 비트마스크의 랭크들을 높은 것부터 4비트씩 이어 붙입니다.
+     *
+     * @param tieBreaks 지금까지 이어 붙인 값
+     * @param rankMask 이어 붙일 랭크 비트마스크 (TWO = bit 0, ACE = bit 12)
+     * @return 랭크를 이어 붙인 값
+     */
+    static int appendRanks(int tieBreaks, int rankMask) {
+        while (rankMask != 0) {
+            int highest = 31 - Integer.numberOfLeadingZeros(rankMask);
+            tieBreaks = (tieBreaks << 4) | highest;
+            rankMask ^= 1 << highest;
+        }
+        return tieBreaks;
+    }
+}
@@ -0,0 +1,132 @@
+package game.components.hand;
+
+import game.components.card.Card;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 텍사스 홀덤 플레이어의 패를 나타내는 클래스
+ *
+ * <p>플레이어가 혼자 받는 홀 카드 2장과 테이블이 함께 쓰는 {@link Board}로 이루어지며,
+ * 최대 7장 중 가장 강한 5장으로 판정합니다. 판정은 {@link SevenCardEvaluator}가 담당하므로
+ * 21가지 5장 조합을 모두 판정하지 않습니다.</p>
+ *
+ * <p>핸드 강도는 {@link Hand#strength()}와 같은 형식({@link HandStrength})이고
+ * 족보도 같은 {@link HandRank}를 사용합니다.</p>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class HoldemHand implements Comparable<HoldemHand> {
+    /** 플레이어가 받는 홀 카드 수 */
+    public static final int HOLE_CARDS = 2;
+
+    private final List<Card> holeCards = new ArrayList<>(HOLE_CARDS);
+    private final Board board;
+
+    /**
+     * 지정한 보드를 공유하는 빈 홀덤 패를 생성합니다.
+     *
+     * @param board 테이블이 공유하는 보드
+     * @throws IllegalArgumentException board가 null일 때
+     */
+    public HoldemHand(Board board) {
+        if (board == null) {
+            throw new IllegalArgumentException("보드는 null일 수 없습니다.");
+        }
+        this.board = board;
+    }
+
+    /**
+     * 홀 카드를 한 장 받습니다.
+     *
+     * @param card 받을 카드
+     * @throws IllegalArgumentException card가 null일 때
+     * @throws IllegalStateException 이미 홀 카드 2장을 받았을 때
+     */
+    public void add(Card card) {
+        if (card == null) {
+            throw new IllegalArgumentException("카드는 null일 수 없습니다.");
+        }
+        if (holeCards.size() == HOLE_CARDS) {
+            throw new IllegalStateException("홀 카드는 " + HOLE_CARDS + "장까지만 받을 수 있습니다.");
+        }
+        holeCards.add(card);
+    }
+
+    /**
+     * 홀 카드를 반환합니다.
+     *
+     * @return 수정 불가능한 홀 카드 리스트
+     */
+    public List<Card> getHoleCards() {
+        return List.copyOf(holeCards);
+    }
+
+    /**
+     * 이 패가 공유하는 보드를 반환합니다.
+     *
+     * @return 보드
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * 홀 카드를 모두 버립니다. 공유 보드는 건드리지 않습니다.
+     */
+    public void clear() {
+        holeCards.clear();
+    }
+
+    /**
+     * 홀 카드와 보드를 합친 카드 중 가장 강한 5장의 핸드 강도를 반환합니다.
+     *
+     * @return 핸드 강도 (높을수록 강한 패)
+     * @throws IllegalStateException 홀 카드와 보드를 합쳐 5장이 되지 않을 때
+     */
+    public int strength() {
+        int size = holeCards.size() + board.size();
+        if (size < SevenCardEvaluator.MIN_CARDS) {
+            throw new IllegalStateException("홀 카드와 보드를 합쳐 5장 이상이어야 평가할 수 있습니다.");
+        }
+        int rankMask = 0;
+        long suitRanks = 0L;
+        long histogram = 0L;
+        for (int i = 0; i < size; i++) {
+            Card card = i < holeCards.size() ? holeCards.get(i) : board.get(i - holeCards.size());
+            int rank = card.getRank().ordinal();
+            rankMask |= 1 << rank;
+            suitRanks |= 1L << (card.getSuit().ordinal() * SevenCardEvaluator.SUIT_SHIFT + rank);
+            histogram += 1L << (rank << 2);
+        }
+        return SevenCardEvaluator.strength(rankMask, histogram, suitRanks);
+    }
+
+    /**
+     * 가장 강한 5장의 족보를 반환합니다.
+     *
+     * @return 족보
+     * @throws IllegalStateException 홀 카드와 보드를 합쳐 5장이 되지 않을 때
+     */
+    public HandRank evaluate() {
+        return HandStrength.rankOf(strength());
+    }
+
+    /**
+     * 두 홀덤 패의 핸드 강도를 비교합니다.
+     *
+     * @param other 비교할 패
+     * @return 이 패가 강하면 양수, 약하면 음수, 같으면 0
+     */
+    public int compareTo(HoldemHand other) {
+        return Integer.compare(this.strength(), other.strength());
+    }
+
+    @Override
+    public String toString() {
+        return holeCards + " " + board;
+    }
+}
@@ -0,0 +1,81 @@
+package game.components.hand;
+
+import game.components.card.Card;
+
+import java.util.List;
+
+/**
+ * 미리 계산한 표를 조회하는 족보 판정기
+ *
+ * <p>핸드 강도는 "무늬가 모두 같은가"와 "랭크의 구성"만으로 정해집니다.
+ * 그래서 가능한 모든 랭크 구성의 핸드 강도를 클래스 로딩 시점에 한 번 계산해 두고,
+ * 판정할 때는 표를 한 번 조회합니다.</p>
+ *
+ * <p>두 개의 표를 사용합니다:</p>
+ * <ul>
+ *   <li>플러시 표 - 랭크 비트마스크(13비트)로 조회, 무늬가 모두 같을 때 사용</li>
+ *   <li>랭크 표 - 카드마다 {@link #RANK_KEYS} 값을 더한 키로 조회, 그 외 모든 경우에 사용</li>
+ * </ul>
+ *
+ * <p>{@link #RANK_KEYS}는 같은 랭크가 최대 4장인 어떤 5장 조합도 합이 겹치지 않도록 고른 값입니다.
+ * 따라서 키 합은 랭크 구성에 대한 완전 해시(perfect hash)가 되고, 충돌 처리가 필요 없습니다.</p>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public final class LookupTableEvaluator implements HandEvaluator {
+    /**
+     * 랭크별 키 (TWO부터 ACE까지)
+     *
+     * <p>앞에서부터 탐욕적으로 골라, 5장 조합의 합이 모두 서로 다르도록 만든 값입니다.</p>
+     */
+    private static final int[] RANK_KEYS = {
+        0, 1, 5, 22, 94, 312, 992, 2422, 5624, 12522, 19998, 43258, 79415
+    };
+
+    /** 가장 큰 키 합: ACE 4장 + KING 1장 */
+    private static final int MAX_KEY = RANK_KEYS[12] * 4 + RANK_KEYS[11];
+
+    /** 랭크 비트마스크 → 플러시일 때의 핸드 강도 */
+    private static final int[] FLUSH_TABLE = new int[1 << 13];
+
+    /** 키 합 → 플러시가 아닐 때의 핸드 강도 */
+    private static final int[] RANK_TABLE = new int[MAX_KEY + 1];
+
+    static {
+        // 같은 랭크가 최대 4장인 모든 5장 랭크 조합 (a <= b <= c <= d <= e)
+        for (int a = 0; a < 13; a++)
+            for (int b = a; b < 13; b++)
+                for (int c = b; c < 13; c++)
+                    for (int d = c; d < 13; d++)
+                        for (int e = d; e < 13; e++) {
+                            if (a == e) continue; // 같은 랭크 5장은 존재하지 않음
+                            int rankMask = (1 << a) | (1 << b) | (1 << c) | (1 << d) | (1 << e);
+                            long histogram = (1L << (a << 2)) + (1L << (b << 2)) + (1L << (c << 2))
+                                + (1L << (d << 2)) + (1L << (e << 2));
+                            int key = RANK_KEYS[a] + RANK_KEYS[b] + RANK_KEYS[c] + RANK_KEYS[d] + RANK_KEYS[e];
+
+                            RANK_TABLE[key] = BitmaskEvaluator.strength(rankMask, histogram, false);
+                            if (Integer.bitCount(rankMask) == 5) {
+                                FLUSH_TABLE[rankMask] = BitmaskEvaluator.strength(rankMask, histogram, true);
+                            }
+                        }
+    }
+
+    @Override
+    public int strength(List<Card> cards) {
+        int key = 0;
+        int rankMask = 0;
+        int suitMask = 0;
+        for (int i = 0; i < 5; i++) {
+            Card card = cards.get(i);
+            int rank = card.getRank().ordinal();
+            key += RANK_KEYS[rank];
+            rankMask |= 1 << rank;
+            suitMask |= 1 << card.getSuit().ordinal();
+        }
+        boolean flush = (suitMask & (suitMask - 1)) == 0;
+        return flush ? FLUSH_TABLE[rankMask] : RANK_TABLE[key];
+    }
+}
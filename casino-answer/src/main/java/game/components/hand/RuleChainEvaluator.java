@@ -0,0 +1,207 @@
+package game.components.hand;
+
+import game.components.card.Card;
+import game.components.card.Rank;
+import game.components.card.Suit;
+
+import java.util.*;
+
+/**
+ * 규칙 기반 족보 판정기
+ * 
+ * <p>로열 플러시부터 하이카드까지 족보 판정 헬퍼를 높은 족보부터 차례대로 적용합니다.
+ * 가장 읽기 쉬운 구현이므로 다른 판정기의 정확성을 검증하는 기준으로 사용합니다.</p>
+ * 
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public final class RuleChainEvaluator implements HandEvaluator {
+    
+    @Override
+    public int strength(List<Card> cards) {
+        HandRank rank = evaluate(cards);
+        return HandStrength.of(rank, getTieBreaks(rank, cards));
+    }
+    
+    @Override
+    public HandRank evaluate(List<Card> cards) {
+        // 높은 족보부터 차례대로 확인
+        if (isRoyalFlush(cards)) return HandRank.ROYAL_FLUSH;
+        if (isStraightFlush(cards)) return HandRank.STRAIGHT_FLUSH;
+        if (isFourOfAKind(cards)) return HandRank.FOUR_OF_A_KIND;
+        if (isFullHouse(cards)) return HandRank.FULL_HOUSE;
+        if (isFlush(cards)) return HandRank.FLUSH;
+        if (isStraight(cards)) return HandRank.STRAIGHT;
+        if (isThreeOfAKind(cards)) return HandRank.THREE_OF_A_KIND;
+        if (isTwoPair(cards)) return HandRank.TWO_PAIR;
+        if (isOnePair(cards)) return HandRank.ONE_PAIR;
+        
+        return HandRank.HIGH_CARD;
+    }
+    
+    // ===== 헬퍼 메서드들 =====
+    
+    
+    /**
+     * 로열 플러시인지 확인
+     * @return 로열 플러시이면 true
+     */
+    private static boolean isRoyalFlush(List<Card> cards) {
+        if (!isFlush(cards)) return false;
+        
+        Set<Rank> requiredRanks = new HashSet<>();
+        requiredRanks.add(Rank.TEN);
+        requiredRanks.add(Rank.JACK);
+        requiredRanks.add(Rank.QUEEN);
+        requiredRanks.add(Rank.KING);
+        requiredRanks.add(Rank.ACE);
+        
+        Set<Rank> currentRanks = new HashSet<>();
+        for (Card card : cards) {
+            currentRanks.add(card.getRank());
+        }
+        
+        return currentRanks.equals(requiredRanks);
+    }
+    
+    /**
+     * 스트레이트 플러시인지 확인
+     * @return 스트레이트 플러시이면 true
+     */
+    private static boolean isStraightFlush(List<Card> cards) {
+        return isFlush(cards) && isStraight(cards);
+    }
+    
+    /**
+     * 포카드인지 확인
+     * @return 포카드이면 true
+     */
+    private static boolean isFourOfAKind(List<Card> cards) {
+        Map<Rank, Integer> counts = getRankCounts(cards);
+        return counts.containsValue(4);
+    }
+    
+    /**
+     * 풀하우스인지 확인
+     * @return 풀하우스이면 true
+     */
+    private static boolean isFullHouse(List<Card> cards) {
+        Map<Rank, Integer> counts = getRankCounts(cards);
+        return counts.containsValue(3) && counts.containsValue(2);
+    }
+    
+    /**
+     * 플러시인지 확인
+     * @return 플러시이면 true
+     */
+    private static boolean isFlush(List<Card> cards) {
+        Suit firstSuit = cards.get(0).getSuit();
+        for (Card card : cards) {
+            if (card.getSuit() != firstSuit) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 스트레이트인지 확인
+     * @return 스트레이트이면 true
+     */
+    private static boolean isStraight(List<Card> cards) {
+        List<Integer> values = new ArrayList<>();
+        for (Card card : cards) {
+            values.add(card.getValue());
+        }
+        Collections.sort(values);
+        
+        // 일반 스트레이트 체크
+        boolean isNormalStraight = true;
+        for (int i = 0; i < 4; i++) {
+            if (values.get(i + 1) - values.get(i) != 1) {
+                isNormalStraight = false;
+                break;
+            }
+        }
+        
+        // 특수 케이스: A-2-3-4-5 (백스트레이트)
+        boolean isAceLowStraight = values.equals(Arrays.asList(2, 3, 4, 5, 14));
+        
+        return isNormalStraight || isAceLowStraight;
+    }
+    
+    /**
+     * 쓰리카드인지 확인
+     * @return 쓰리카드이면 true
+     */
+    private static boolean isThreeOfAKind(List<Card> cards) {
+        Map<Rank, Integer> counts = getRankCounts(cards);
+        return counts.containsValue(3);
+    }
+    
+    /**
+     * 투페어인지 확인
+     * @return 투페어이면 true
+     */
+    private static boolean isTwoPair(List<Card> cards) {
+        Map<Rank, Integer> counts = getRankCounts(cards);
+        int pairCount = 0;
+        for (int count : counts.values()) {
+            if (count == 2) {
+                pairCount++;
+            }
+        }
+        return pairCount == 2;
+    }
+    
+    /**
+     * 원페어인지 확인
+     * @return 원페어이면 true
+     */
+    private static boolean isOnePair(List<Card> cards) {
+        Map<Rank, Integer> counts = getRankCounts(cards);
+        return counts.containsValue(2);
+    }
+    
+    /**
+     * 각 랭크별 카드 개수를 계산
+     * @return 랭크별 카드 개수 맵
+     */
+    private static Map<Rank, Integer> getRankCounts(List<Card> cards) {
+        Map<Rank, Integer> counts = new EnumMap<>(Rank.class);
+        for (Card card : cards) {
+            counts.put(card.getRank(), counts.getOrDefault(card.getRank(), 0) + 1);
+        }
+        return counts;
+    }
+    
+    /**
+     * 동점 판정용 랭크를 4비트씩 이어 붙여 반환
+     * 
+     * <p>스트레이트 계열은 가장 높은 카드(백스트레이트는 5)만,
+     * 그 외에는 장수가 많은 랭크부터, 장수가 같으면 높은 랭크부터 이어 붙입니다.</p>
+     * 
+     * @return 동점 판정용 랭크
+     */
+    private static int getTieBreaks(HandRank handRank, List<Card> cards) {
+        Map<Rank, Integer> counts = getRankCounts(cards);
+        if (handRank == HandRank.STRAIGHT || handRank == HandRank.STRAIGHT_FLUSH
+                || handRank == HandRank.ROYAL_FLUSH) {
+            boolean aceLow = counts.containsKey(Rank.ACE) && counts.containsKey(Rank.TWO);
+            Rank top = aceLow ? Rank.FIVE : Collections.max(counts.keySet());
+            return top.ordinal();
+        }
+        
+        List<Rank> ranks = new ArrayList<>(counts.keySet());
+        ranks.sort(Comparator.comparing((Rank rank) -> counts.get(rank))
+            .thenComparing(Comparator.naturalOrder())
+            .reversed());
+        
+        int tieBreaks = 0;
+        for (Rank rank : ranks) {
+            tieBreaks = (tieBreaks << 4) | rank.ordinal();
+        }
+        return tieBreaks;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,168 @@
+package game.components.hand;
+
+import game.components.card.Card;
+
+import java.util.List;
+
+/**
+ * 5~7장 중 가장 강한 5장의 핸드 강도를 구하는 족보 판정기
+ *
+ * <p>텍사스 홀덤처럼 7장 중 5장을 고르는 게임에서 21가지 5장 조합을 모두 판정하지 않고,
+ * 카드를 한 번만 순회해 만든 값들로 곧바로 가장 강한 5장의 핸드 강도를 계산합니다.</p>
+ * <ul>
+ *   <li>랭크 비트마스크 - 등장한 랭크마다 1비트 (TWO = bit 0, ACE = bit 12)</li>
+ *   <li>무늬별 랭크 비트마스크 - 무늬마다 16비트 칸에 랭크 비트를 모은 long 값, 플러시 판단에 사용</li>
+ *   <li>랭크 히스토그램 - 랭크마다 4비트 칸에 장수를 누적한 long 값</li>
+ * </ul>
+ *
+ * <p>스트레이트는 랭크 비트마스크로 조회하는 표({@link #STRAIGHT_TOP})로 찾습니다.
+ * 플러시가 있으면 그 무늬의 랭크 비트마스크로 같은 표를 조회해 스트레이트 플러시를 찾습니다.</p>
+ *
+ * <p>5장이 주어지면 {@link BitmaskEvaluator}와 같은 핸드 강도를 반환하며,
+ * 반환값은 {@link HandStrength}의 형식을 그대로 따르므로 5장 핸드와 바로 비교할 수 있습니다.</p>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public final class SevenCardEvaluator implements HandEvaluator {
+    /** 판정할 수 있는 최소 카드 수 */
+    static final int MIN_CARDS = 5;
+    /** 판정할 수 있는 최대 카드 수 */
+    static final int MAX_CARDS = 7;
+
+    /** 히스토그램 각 칸의 최하위 비트 (13칸) */
+    private static final long NIBBLE_LOW_BITS = 0x1111111111111L;
+    /** 무늬별 랭크 비트마스크 한 칸의 크기 */
+    static final int SUIT_SHIFT = 16;
+
+    /** 랭크 비트마스크 → 가장 높은 스트레이트의 최상위 랭크, 스트레이트가 없으면 -1 */
+    private static final byte[] STRAIGHT_TOP = new byte[1 << 13];
+
+    static {
+        for (int rankMask = 0; rankMask < STRAIGHT_TOP.length; rankMask++) {
+            int top = -1;
+            for (int low = 8; low >= 0; low--) {
+                int run = 0x1F << low;
+                if ((rankMask & run) == run) {
+                    top = low + 4;
+                    break;
+                }
+            }
+            if (top < 0 && (rankMask & BitmaskEvaluator.WHEEL_MASK) == BitmaskEvaluator.WHEEL_MASK) {
+                top = 3; // 5, 4, 3, 2, A
+            }
+            STRAIGHT_TOP[rankMask] = (byte) top;
+        }
+    }
+
+    /**
+     * 5~7장의 카드 중 가장 강한 5장의 핸드 강도를 계산합니다.
+     *
+     * @param cards 판정할 카드 (5~7장)
+     * @return 핸드 강도 ({@link HandStrength} 참고)
+     * @throws IllegalArgumentException 카드가 5~7장이 아닐 때
+     */
+    @Override
+    public int strength(List<Card> cards) {
+        int size = cards.size();
+        if (size < MIN_CARDS || size > MAX_CARDS) {
+            throw new IllegalArgumentException("판정할 카드는 " + MIN_CARDS + "~" + MAX_CARDS + "장이어야 합니다: " + size);
+        }
+        int rankMask = 0;
+        long suitRanks = 0L;
+        long histogram = 0L;
+        for (int i = 0; i < size; i++) {
+            Card card = cards.get(i);
+            int rank = card.getRank().ordinal();
+            rankMask |= 1 << rank;
+            suitRanks |= 1L << (card.getSuit().ordinal() * SUIT_SHIFT + rank);
+            histogram += 1L << (rank << 2);
+        }
+        return strength(rankMask, histogram, suitRanks);
+    }
+
+    /**
+     * 누적해 둔 값들로 가장 강한 5장의 핸드 강도를 계산합니다.
+     *
+     * @param rankMask 랭크 비트마스크
+     * @param histogram 랭크별 장수를 4비트씩 담은 히스토그램
+     * @param suitRanks 무늬마다 16비트 칸에 랭크 비트를 모은 값 (무늬 순서값 × 16 + 랭크 순서값)
+     * @return 핸드 강도 ({@link HandStrength} 참고)
+     */
+    static int strength(int rankMask, long histogram, long suitRanks) {
+        int flushRanks = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            int ranks = (int) (suitRanks >>> (suit * SUIT_SHIFT)) & 0x1FFF;
+            if (Integer.bitCount(ranks) >= 5) {
+                flushRanks = ranks; // 7장 이하에서는 5장 이상 모인 무늬가 하나뿐이다
+                break;
+            }
+        }
+
+        if (flushRanks != 0) {
+            int top = STRAIGHT_TOP[flushRanks];
+            if (top >= 0) {
+                HandRank rank = top == 12 ? HandRank.ROYAL_FLUSH : HandRank.STRAIGHT_FLUSH;
+                return HandStrength.of(rank, top);
+            }
+        }
+
+        // 각 칸의 장수(0~4)를 비트로 나누어 장수별 랭크 비트마스크를 만든다
+        long bit0 = histogram & NIBBLE_LOW_BITS;
+        long bit1 = (histogram >>> 1) & NIBBLE_LOW_BITS;
+        long bit2 = (histogram >>> 2) & NIBBLE_LOW_BITS;
+        int quads = (int) Long.compress(bit2, NIBBLE_LOW_BITS);
+        int trips = (int) Long.compress(bit0 & bit1, NIBBLE_LOW_BITS);
+        int pairs = (int) Long.compress(bit1 & ~bit0, NIBBLE_LOW_BITS);
+
+        if (quads != 0) {
+            int quad = Integer.highestOneBit(quads);
+            int tieBreaks = HandStrength.appendRanks(0, quad);
+            tieBreaks = HandStrength.appendRanks(tieBreaks, keepHighest(rankMask & ~quad, 1));
+            return HandStrength.of(HandRank.FOUR_OF_A_KIND, tieBreaks);
+        }
+        if (trips != 0) {
+            int trip = Integer.highestOneBit(trips);
+            int pair = Integer.highestOneBit((trips & ~trip) | pairs); // 남은 쓰리카드도 페어로 쓸 수 있다
+            if (pair != 0) {
+                int tieBreaks = HandStrength.appendRanks(0, trip);
+                return HandStrength.of(HandRank.FULL_HOUSE, HandStrength.appendRanks(tieBreaks, pair));
+            }
+        }
+        if (flushRanks != 0) {
+            return HandStrength.of(HandRank.FLUSH, HandStrength.appendRanks(0, keepHighest(flushRanks, 5)));
+        }
+        int straightTop = STRAIGHT_TOP[rankMask];
+        if (straightTop >= 0) {
+            return HandStrength.of(HandRank.STRAIGHT, straightTop);
+        }
+        if (trips != 0) {
+            int tieBreaks = HandStrength.appendRanks(0, trips);
+            tieBreaks = HandStrength.appendRanks(tieBreaks, keepHighest(rankMask & ~trips, 2));
+            return HandStrength.of(HandRank.THREE_OF_A_KIND, tieBreaks);
+        }
+        if (Integer.bitCount(pairs) >= 2) {
+            int twoPairs = keepHighest(pairs, 2); // 세 번째 페어는 키커 후보가 된다
+            int tieBreaks = HandStrength.appendRanks(0, twoPairs);
+            tieBreaks = HandStrength.appendRanks(tieBreaks, keepHighest(rankMask & ~twoPairs, 1));
+            return HandStrength.of(HandRank.TWO_PAIR, tieBreaks);
+        }
+        if (pairs != 0) {
+            int tieBreaks = HandStrength.appendRanks(0, pairs);
+            tieBreaks = HandStrength.appendRanks(tieBreaks, keepHighest(rankMask & ~pairs, 3));
+            return HandStrength.of(HandRank.ONE_PAIR, tieBreaks);
+        }
+        return HandStrength.of(HandRank.HIGH_CARD, HandStrength.appendRanks(0, keepHighest(rankMask, 5)));
+    }
+
+    /**
+     * 랭크 비트마스크에서 높은 랭크부터 count개만 남깁니다.
+     */
+    private static int keepHighest(int rankMask, int count) {
+        while (Integer.bitCount(rankMask) > count) {
+            rankMask &= rankMask - 1; // 가장 낮은 랭크 제거
+        }
+        return rankMask;
+    }
+}
@@ -1,10 +1,13 @@
 package game.management.casino;
 
 import game.participants.dealer.Dealer;
+import game.participants.player.Leaderboard;
+import game.participants.player.Participant;
 import game.participants.player.Player;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * 카지노 메인 클래스
@@ -41,37 +44,36 @@ public class Casino {
             players.add(new Player(name, INITIAL_MONEY));
         }
         
-        // 딜러 객체 생성
-        Dealer dealer = new Dealer();
+        // 딜러 객체 생성 - 시드를 주면 같은 게임을 그대로 다시 진행
+        Dealer dealer = args.length > 0
+            ? new Dealer(new SplittableRandom(Long.parseLong(args[0])))
+            : new Dealer();
         
         // 게임 진행
         dealer.playGame(players, TOTAL_ROUNDS);
         
         // 최종 결과 출력
-        printFinalResults(players);
+        printFinalResults(dealer.getLeaderboard());
     }
     
     /**
      * 최종 결과를 출력합니다.
      * 
-     * @param players 플레이어 목록
+     * @param leaderboard 딜러가 라운드마다 고쳐 둔 자금 순위표
      */
-    private static void printFinalResults(List<? extends Player> players) {
+    private static void printFinalResults(Leaderboard<Participant> leaderboard) {
         System.out.println("\n🎰 라스베가스 드림 카지노 - 베타 테스트 결과 🎰");
         System.out.println("════════════════════════════════════════");
         
-        // 정렬을 위한 새로운 리스트 생성
-        List<Player> sortedPlayers = new ArrayList<>(players);
-        
-        // 플레이어를 자금 기준으로 내림차순 정렬
-        sortedPlayers.sort((p1, p2) -> Integer.compare(p2.getMoney(), p1.getMoney()));
-        
         // 메달 배열
         String[] medals = {"🥇", "🥈", "🥉", "😢"};
         
+        // 순위표는 이미 자금 내림차순이므로 다시 정렬하지 않고 상위 플레이어만 꺼낸다
+        List<Participant> sortedPlayers = leaderboard.topK(medals.length);
+        
         // 순위별로 결과 출력
         for (int i = 0; i < sortedPlayers.size(); i++) {
-            Player player = sortedPlayers.get(i);
+            Participant player = sortedPlayers.get(i);
             System.out.printf("%s %d위: %s - %,d원 (%d승 %d패 %d무)\n",
                 medals[i], 
                 i + 1,
@@ -0,0 +1,289 @@
+package game.management.simulation;
+
+import game.components.card.Card;
+import game.components.deck.Deck;
+import game.components.hand.Hand;
+import game.components.hand.BitmaskEvaluator;
+import game.components.hand.HandEvaluator;
+import game.components.hand.HandRank;
+import game.components.hand.LookupTableEvaluator;
+import game.components.hand.RuleChainEvaluator;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 52장으로 만들 수 있는 모든 5장 조합(2,598,960개)을 판정하는 작업
+ *
+ * <p>족보별 개수를 알려진 값과 비교하므로 {@link Hand#evaluate()}의 정답 확인용으로,
+ * 걸린 시간을 함께 출력하므로 판정 속도를 추적하는 벤치마크로 사용합니다.</p>
+ *
+ * <p>조합은 앞의 두 장(1,326가지 중 뒤에 3장이 남는 것)을 기준으로 나누어
+ * {@link ForkJoinPool}의 작업으로 분할합니다. 작업마다 {@link Hand}를 하나만 만들어 비우고 채우며 재사용합니다.</p>
+ *
+ * <p>실행 방법:</p>
+ * <pre>
+ * java game.management.simulation.HandEnumeration            # 비트마스크 판정기, 모든 코어
+ * java game.management.simulation.HandEnumeration lookup 8   # 표 조회 판정기, 8개 스레드
+ * java game.management.simulation.HandEnumeration rules      # 규칙 체인 판정기
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class HandEnumeration {
+    /** 전체 5장 조합 수 */
+    public static final long TOTAL_HANDS = 2_598_960L;
+
+    /** 족보별로 알려진 5장 조합 수 */
+    private static final Map<HandRank, Long> EXPECTED = new EnumMap<>(HandRank.class);
+
+    static {
+        EXPECTED.put(HandRank.HIGH_CARD, 1_302_540L);
+        EXPECTED.put(HandRank.ONE_PAIR, 1_098_240L);
+        EXPECTED.put(HandRank.TWO_PAIR, 123_552L);
+        EXPECTED.put(HandRank.THREE_OF_A_KIND, 54_912L);
+        EXPECTED.put(HandRank.STRAIGHT, 10_200L);
+        EXPECTED.put(HandRank.FLUSH, 5_108L);
+        EXPECTED.put(HandRank.FULL_HOUSE, 3_744L);
+        EXPECTED.put(HandRank.FOUR_OF_A_KIND, 624L);
+        EXPECTED.put(HandRank.STRAIGHT_FLUSH, 36L);
+        EXPECTED.put(HandRank.ROYAL_FLUSH, 4L);
+    }
+
+    /** 한 작업이 맡는 앞 두 장 조합 수, 이보다 많으면 둘로 나눈다 */
+    private static final int PREFIXES_PER_TASK = 16;
+
+    private final HandEvaluator evaluator;
+    private final ForkJoinPool pool;
+
+    /**
+     * 지정한 판정기와 스레드 풀로 조합을 판정하는 작업을 만듭니다.
+     *
+     * @param evaluator 족보 판정기
+     * @param pool 작업을 나누어 실행할 스레드 풀
+     * @throws IllegalArgumentException evaluator나 pool이 null일 때
+     */
+    public HandEnumeration(HandEvaluator evaluator, ForkJoinPool pool) {
+        if (evaluator == null) {
+            throw new IllegalArgumentException("판정기는 null일 수 없습니다.");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("스레드 풀은 null일 수 없습니다.");
+        }
+        this.evaluator = evaluator;
+        this.pool = pool;
+    }
+
+    /**
+     * 모든 5장 조합을 판정해 족보별 개수와 걸린 시간을 반환합니다.
+     *
+     * @return 판정 결과
+     */
+    public Result run() {
+        Card[] cards = drawAll(new Deck());
+        int[] prefixes = prefixes(cards.length);
+
+        long start = System.nanoTime();
+        long[] counts = pool.invoke(new EnumerationTask(cards, prefixes, 0, prefixes.length, evaluator));
+        long elapsedNanos = System.nanoTime() - start;
+
+        Map<HandRank, Long> byRank = new EnumMap<>(HandRank.class);
+        for (HandRank rank : HandRank.values()) {
+            byRank.put(rank, counts[rank.ordinal()]);
+        }
+        return new Result(byRank, elapsedNanos, pool.getParallelism());
+    }
+
+    /**
+     * 섞지 않은 새 덱에서 52장을 모두 뽑습니다.
+     */
+    private static Card[] drawAll(Deck deck) {
+        List<Card> cards = new ArrayList<>();
+        while (!deck.isEmpty()) {
+            cards.add(deck.drawCard());
+        }
+        return cards.toArray(new Card[0]);
+    }
+
+    /**
+     * 뒤에 3장이 더 올 수 있는 앞 두 장의 조합을 (첫째 × 카드 수 + 둘째)로 모읍니다.
+     */
+    private static int[] prefixes(int cardCount) {
+        List<Integer> prefixes = new ArrayList<>();
+        for (int a = 0; a < cardCount - 4; a++) {
+            for (int b = a + 1; b < cardCount - 3; b++) {
+                prefixes.add(a * cardCount + b);
+            }
+        }
+        return prefixes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 앞 두 장 조합의 [from, to) 구간을 맡아 족보별 개수를 세는 작업
+     */
+    private static class EnumerationTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        // 직렬화할 수 없는 참조만 transient (작업은 직렬화하지 않음)
+        private final transient Card[] cards;
+        private final int[] prefixes;
+        private final int from;
+        private final int to;
+        private final transient HandEvaluator evaluator;
+
+        EnumerationTask(Card[] cards, int[] prefixes, int from, int to, HandEvaluator evaluator) {
+            this.cards = cards;
+            this.prefixes = prefixes;
+            this.from = from;
+            this.to = to;
+            this.evaluator = evaluator;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from > PREFIXES_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                EnumerationTask left = new EnumerationTask(cards, prefixes, from, mid, evaluator);
+                left.fork();
+                long[] right = new EnumerationTask(cards, prefixes, mid, to, evaluator).compute();
+                long[] counts = left.join();
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += right[i];
+                }
+                return counts;
+            }
+
+            long[] counts = new long[HandRank.values().length];
+            Hand hand = new Hand(evaluator);
+            int n = cards.length;
+            for (int i = from; i < to; i++) {
+                int a = prefixes[i] / n;
+                int b = prefixes[i] % n;
+                for (int c = b + 1; c < n - 2; c++)
+                    for (int d = c + 1; d < n - 1; d++)
+                        for (int e = d + 1; e < n; e++) {
+                            hand.clear();
+                            hand.add(cards[a]);
+                            hand.add(cards[b]);
+                            hand.add(cards[c]);
+                            hand.add(cards[d]);
+                            hand.add(cards[e]);
+                            counts[hand.evaluate().ordinal()]++;
+                        }
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * 전체 조합 판정 결과
+     */
+    public static class Result {
+        private final Map<HandRank, Long> counts;
+        private final long elapsedNanos;
+        private final int parallelism;
+
+        Result(Map<HandRank, Long> counts, long elapsedNanos, int parallelism) {
+            this.counts = counts;
+            this.elapsedNanos = elapsedNanos;
+            this.parallelism = parallelism;
+        }
+
+        /**
+         * 족보별 조합 수를 반환합니다.
+         *
+         * @return 족보 → 조합 수 (수정 불가능)
+         */
+        public Map<HandRank, Long> getCounts() {
+            return Map.copyOf(counts);
+        }
+
+        /**
+         * 판정한 전체 조합 수를 반환합니다.
+         *
+         * @return 전체 조합 수
+         */
+        public long getTotal() {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        /**
+         * 판정에 걸린 시간을 반환합니다. (덱 준비 시간 제외)
+         *
+         * @return 걸린 시간 (나노초)
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * 작업에 사용한 스레드 수를 반환합니다.
+         *
+         * @return 스레드 풀의 병렬 수준
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * 모든 족보의 조합 수가 알려진 값과 같은지 확인합니다.
+         *
+         * @return 모두 같으면 true
+         */
+        public boolean matchesExpected() {
+            return counts.equals(EXPECTED);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (HandRank rank : HandRank.values()) {
+                long count = counts.get(rank);
+                long expected = EXPECTED.get(rank);
+                sb.append(String.format("%-10s %,10d%s%n", rank.getDisplayName(), count,
+                    count == expected ? "" : String.format("  (기대값 %,d)", expected)));
+            }
+            double millis = elapsedNanos / 1_000_000.0;
+            sb.append(String.format("합계       %,10d%n", getTotal()));
+            sb.append(String.format("%d개 스레드, %.1fms, 초당 %,.0f핸드", parallelism, millis,
+                getTotal() / (elapsedNanos / 1_000_000_000.0)));
+            return sb.toString();
+        }
+    }
+
+    public static void main(String[] args) {
+        HandEvaluator evaluator = evaluatorOf(args.length > 0 ? args[0] : "bitmask");
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        System.out.println("🃏 전체 5장 조합 판정 (" + String.format("%,d", TOTAL_HANDS) + "개)");
+        System.out.println("════════════════════════════════════════");
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            Result result = new HandEnumeration(evaluator, pool).run();
+            System.out.println(result);
+            if (!result.matchesExpected()) {
+                System.out.println("❌ 족보별 개수가 알려진 값과 다릅니다.");
+                System.exit(1);
+            }
+            System.out.println("✅ 족보별 개수가 알려진 값과 모두 같습니다.");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static HandEvaluator evaluatorOf(String name) {
+        return switch (name) {
+            case "bitmask" -> new BitmaskEvaluator();
+            case "lookup" -> new LookupTableEvaluator();
+            case "rules" -> new RuleChainEvaluator();
+            default -> throw new IllegalArgumentException("알 수 없는 판정기입니다: " + name + " (bitmask, lookup, rules)");
+        };
+    }
+}
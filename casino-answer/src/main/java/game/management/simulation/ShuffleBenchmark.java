@@ -0,0 +1,84 @@
+package game.management.simulation;
+
+import game.components.deck.BufferedSecureRandom;
+import game.components.deck.Deck;
+import game.components.deck.ShuffleMode;
+
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * 난수 생성기별 셔플 속도를 비교하는 벤치마크
+ *
+ * <p>같은 {@link Deck}을 난수 생성기만 바꿔 반복해서 섞고, 초당 셔플 수를 출력합니다.</p>
+ * <ul>
+ *   <li>SplittableRandom - 기본 난수 생성기</li>
+ *   <li>SecureRandom - 카드마다 SecureRandom을 직접 호출</li>
+ *   <li>BufferedSecureRandom - SecureRandom을 묶음으로 받아 나눠 씀</li>
+ * </ul>
+ *
+ * <p>실행 방법:</p>
+ * <pre>
+ * java game.management.simulation.ShuffleBenchmark            # 각 200,000번
+ * java game.management.simulation.ShuffleBenchmark 1000000    # 각 1,000,000번
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class ShuffleBenchmark {
+    private static final int DEFAULT_SHUFFLES = 200_000;
+    private static final int WARMUP_ROUNDS = 3;
+
+    // 결과가 쓰이지 않는다고 JIT가 셔플을 없애지 않도록 뽑은 카드를 모아 두는 곳
+    // volatile 필드에 쓰는 값은 JIT가 버릴 수 없으므로 출력하지 않아도 된다
+    private static volatile int sink;
+
+    public static void main(String[] args) {
+        int shuffles = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SHUFFLES;
+
+        Map<String, Supplier<RandomGenerator>> generators = new LinkedHashMap<>();
+        generators.put("SplittableRandom", SplittableRandom::new);
+        generators.put("SecureRandom", SecureRandom::new);
+        generators.put("BufferedSecureRandom", BufferedSecureRandom::new);
+
+        System.out.println("🔀 난수 생성기별 52장 셔플 속도 (" + String.format("%,d", shuffles) + "번)");
+        System.out.println("════════════════════════════════════════");
+
+        double baseline = 0;
+        for (Map.Entry<String, Supplier<RandomGenerator>> entry : generators.entrySet()) {
+            Deck deck = new Deck(entry.getValue().get(), ShuffleMode.EAGER);
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                run(deck, shuffles / 10);
+            }
+            long elapsedNanos = run(deck, shuffles);
+
+            double perSecond = shuffles / (elapsedNanos / 1_000_000_000.0);
+            if (baseline == 0) {
+                baseline = perSecond;
+            }
+            System.out.printf("%-22s %,12.0f회/초  %6.1fns/회  (기본 대비 %.2f배)%n",
+                entry.getKey(), perSecond, (double) elapsedNanos / shuffles, perSecond / baseline);
+        }
+    }
+
+    /**
+     * 덱을 되돌려 섞고 맨 위 카드를 뽑는 일을 반복해 걸린 시간을 잽니다.
+     */
+    private static long run(Deck deck, int shuffles) {
+        int drawn = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < shuffles; i++) {
+            deck.reshuffle();
+            drawn += deck.drawCard().index();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        sink = drawn;
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,457 @@
+package game.management.simulation;
+
+import game.components.card.Card;
+import game.components.deck.BufferedSecureRandom;
+import game.components.deck.Deck;
+import game.components.deck.ShuffleMode;
+import game.components.deck.ShuffledDeckSupplier;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 덱 셔플이 고르게 섞는지 통계적으로 검증하는 작업
+ *
+ * <p>덱을 수백만 번 섞어 (위치, 카드)마다 나온 횟수를 52 × 52 행렬로 셉니다.
+ * 고르게 섞는다면 모든 칸의 기대값은 덱 수 / 52입니다. 여기에 다음 통계량을 계산합니다.</p>
+ * <ul>
+ *   <li>카이제곱 통계량과 p값 - 자유도는 행과 열의 합이 모두 정해져 있으므로 51 × 51</li>
+ *   <li>G 통계량 (우도비 검정) - 카이제곱과 같은 자유도를 따르는 다른 적합도 통계량</li>
+ *   <li>가장 큰 표준화 잔차 - 특정 위치에 특정 카드가 몰리는 치우침을 찾음</li>
+ * </ul>
+ * <p>세 검정을 함께 보므로, 그중 가장 작은 p값에 검정 수(3)를 곱한 값(본페로니 보정)을 하나의 p값으로 씁니다.
+ * 최대 잔차의 p값도 2704칸에 대해 같은 방식으로 보정합니다. 이 값이 {@value #BIAS_P_VALUE}보다 작으면 치우침으로 판정하므로,
+ * 고르게 섞는 셔플을 치우쳤다고 잘못 판정할 확률은 {@value #BIAS_P_VALUE} 이하입니다.</p>
+ *
+ * <p>덱은 {@link ForkJoinPool}의 작업으로 나누어 섞고, 작업마다 자기 행렬(long 배열)에 센 뒤 마지막에 합칩니다.
+ * 작업마다의 난수 생성기는 시드 하나에서 미리 {@code split()}해 두고, {@link #sources()}의 모든 방식은
+ * 이 난수 생성기로만 시드를 정하므로 같은 시드면 결과가 같습니다.</p>
+ *
+ * <p>실행 방법:</p>
+ * <pre>
+ * java game.management.simulation.ShuffleFairness                # 셔플 방식마다 2,000,000덱
+ * java game.management.simulation.ShuffleFairness 10000000 42    # 10,000,000덱, 시드 42
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class ShuffleFairness {
+    /** 보정한 p값이 이 값보다 작으면 치우침으로 판정 (고른 셔플을 잘못 판정할 확률) */
+    public static final double BIAS_P_VALUE = 0.001;
+
+    // 함께 보는 검정 수: 카이제곱, G, 최대 잔차
+    private static final int TESTS = 3;
+
+    private static final int SIZE = Card.COUNT;
+    private static final int CHUNKS = 256;
+    private static final int CHUNKS_PER_TASK = 4;
+    private static final long DEFAULT_DECKS = 2_000_000L;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * 셔플할 덱을 만드는 방법
+     */
+    @FunctionalInterface
+    public interface DeckSource {
+        /**
+         * 작업 하나가 사용할 덱 공급 방식을 엽니다.
+         *
+         * @param random 작업마다 나눈 난수 생성기 (같은 시드로 재현하려면 덱의 난수는 이 생성기로만 정해야 함)
+         * @return 덱을 섞는 방식
+         */
+        Shuffler open(SplittableRandom random);
+    }
+
+    /**
+     * 한 작업 안에서 같은 덱을 반복해서 섞는 방식
+     */
+    public interface Shuffler extends AutoCloseable {
+        /**
+         * 52장으로 되돌려 섞은 덱을 반환합니다.
+         *
+         * @return 섞인 덱
+         */
+        Deck next();
+
+        @Override
+        default void close() {
+        }
+    }
+
+    /**
+     * 지정한 스레드 풀로 셔플을 나누어 실행하는 작업을 만듭니다.
+     *
+     * @param pool 작업을 나누어 실행할 스레드 풀
+     * @throws IllegalArgumentException pool이 null일 때
+     */
+    public ShuffleFairness(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("스레드 풀은 null일 수 없습니다.");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * 덱을 decks번 섞어 위치별 카드 빈도를 세고 적합도를 계산합니다.
+     *
+     * @param source 덱을 만드는 방법
+     * @param decks 섞을 덱 수
+     * @param seed 작업마다의 난수 생성기를 나눌 시드
+     * @return 검정 결과
+     * @throws IllegalArgumentException source가 null이거나 decks가 양수가 아닐 때
+     */
+    public Result run(DeckSource source, long decks, long seed) {
+        if (source == null) {
+            throw new IllegalArgumentException("덱을 만드는 방법은 null일 수 없습니다.");
+        }
+        if (decks <= 0) {
+            throw new IllegalArgumentException("덱 수는 양수여야 합니다: " + decks);
+        }
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[CHUNKS];
+        for (int i = 0; i < CHUNKS; i++) {
+            randoms[i] = root.split();
+        }
+
+        long start = System.nanoTime();
+        long[] counts = pool.invoke(new CountTask(source, randoms, decks, 0, CHUNKS));
+        long elapsedNanos = System.nanoTime() - start;
+        return new Result(counts, decks, elapsedNanos);
+    }
+
+    /**
+     * 덱 묶음 [from, to)를 맡아 위치별 카드 빈도를 세는 작업
+     */
+    private static class CountTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        // 직렬화할 수 없는 참조만 transient (작업은 직렬화하지 않음)
+        private final transient DeckSource source;
+        private final transient SplittableRandom[] randoms;
+        private final long decks;
+        private final int from;
+        private final int to;
+
+        CountTask(DeckSource source, SplittableRandom[] randoms, long decks, int from, int to) {
+            this.source = source;
+            this.randoms = randoms;
+            this.decks = decks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from > CHUNKS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                CountTask left = new CountTask(source, randoms, decks, from, mid);
+                left.fork();
+                long[] right = new CountTask(source, randoms, decks, mid, to).compute();
+                long[] counts = left.join();
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += right[i];
+                }
+                return counts;
+            }
+
+            // 작업마다 자기 행렬에 세므로 스레드끼리 같은 카운터를 두고 경쟁하지 않는다
+            long[] counts = new long[SIZE * SIZE];
+            for (int chunk = from; chunk < to; chunk++) {
+                // 덱 수를 묶음마다 고르게 나누고, 나머지는 앞 묶음부터 한 덱씩 더 맡는다
+                long share = decks / CHUNKS + (chunk < decks % CHUNKS ? 1 : 0);
+                try (Shuffler shuffler = source.open(randoms[chunk])) {
+                    for (long n = 0; n < share; n++) {
+                        Deck deck = shuffler.next();
+                        for (int position = 0; position < SIZE; position++) {
+                            counts[position * SIZE + deck.drawCard().index()]++;
+                        }
+                    }
+                }
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * 셔플 적합도 검정 결과
+     */
+    public static class Result {
+        private final long[] counts;
+        private final long decks;
+        private final long elapsedNanos;
+        private final double chiSquare;
+        private final double gStatistic;
+        private final double maxResidual;
+        private final int worstCell;
+
+        Result(long[] counts, long decks, long elapsedNanos) {
+            this.counts = counts;
+            this.decks = decks;
+            this.elapsedNanos = elapsedNanos;
+
+            double expected = (double) decks / SIZE;
+            // 칸 하나는 이항분포 B(decks, 1/52)이므로 표준편차는 sqrt(expected × (1 - 1/52))
+            double deviation = Math.sqrt(expected * (1 - 1.0 / SIZE));
+            double chi = 0;
+            double g = 0;
+            double worst = 0;
+            int worstAt = 0;
+            for (int i = 0; i < counts.length; i++) {
+                double diff = counts[i] - expected;
+                chi += diff * diff / expected;
+                if (counts[i] > 0) {
+                    g += counts[i] * Math.log(counts[i] / expected);
+                }
+                double residual = diff / deviation;
+                if (Math.abs(residual) > Math.abs(worst)) {
+                    worst = residual;
+                    worstAt = i;
+                }
+            }
+            // 덱 하나는 행과 열마다 정확히 한 번씩 더하는 순열 행렬이라, 칸마다 따로 뽑은 분할표와 흩어짐이 다르다.
+            // 칸의 분산은 기대값 × 51/52인데 통계량은 기대값으로 나누므로, 고르게 섞어도 평균이 2601이 아니라
+            // 2704 × 51/52 = 2652가 되고 분포는 (52/51) × χ²(2601)을 따른다. 51/52를 곱해 χ²(2601)에 맞춘다.
+            double scale = (double) (SIZE - 1) / SIZE;
+            this.chiSquare = chi * scale;
+            this.gStatistic = 2 * g * scale;
+            this.maxResidual = worst;
+            this.worstCell = worstAt;
+        }
+
+        /**
+         * 위치에 카드가 나온 횟수를 반환합니다.
+         *
+         * @param position 덱에서의 위치 (0 = 맨 위)
+         * @param card 카드
+         * @return 나온 횟수
+         */
+        public long count(int position, Card card) {
+            return counts[position * SIZE + card.index()];
+        }
+
+        /**
+         * 섞은 덱 수를 반환합니다.
+         *
+         * @return 덱 수
+         */
+        public long getDecks() {
+            return decks;
+        }
+
+        /**
+         * 카이제곱 통계량을 반환합니다.
+         *
+         * 덱마다 순열 행렬 하나를 더하므로 Σ(관측 - 기대)² / 기대에 51/52를 곱해, 고르게 섞였을 때
+         * 자유도 {@link #getDegreesOfFreedom()}의 카이제곱 분포(평균 2601)를 따르도록 보정한 값입니다.
+         *
+         * @return 보정한 카이제곱 통계량
+         */
+        public double getChiSquare() {
+            return chiSquare;
+        }
+
+        /**
+         * 카이제곱 검정의 자유도를 반환합니다.
+         *
+         * @return 자유도 (51 × 51)
+         */
+        public int getDegreesOfFreedom() {
+            return (SIZE - 1) * (SIZE - 1);
+        }
+
+        /**
+         * 카이제곱 검정의 p값을 반환합니다. (윌슨-힐퍼티 정규 근사)
+         *
+         * @return 고르게 섞였을 때 이만큼 이상 벗어날 확률
+         */
+        public double getPValue() {
+            return upperTail(chiSquare, getDegreesOfFreedom());
+        }
+
+        /**
+         * G 통계량(우도비 검정)을 반환합니다. 카이제곱과 같은 51/52 보정을 거쳐 같은 자유도를 따릅니다.
+         *
+         * @return 보정한 G 통계량
+         */
+        public double getGStatistic() {
+            return gStatistic;
+        }
+
+        /**
+         * G 검정의 p값을 반환합니다.
+         *
+         * @return 고르게 섞였을 때 이만큼 이상 벗어날 확률
+         */
+        public double getGPValue() {
+            return upperTail(gStatistic, getDegreesOfFreedom());
+        }
+
+        /**
+         * 절댓값이 가장 큰 표준화 잔차를 반환합니다.
+         *
+         * @return (관측값 - 기대값) / 표준편차
+         */
+        public double getMaxResidual() {
+            return maxResidual;
+        }
+
+        /**
+         * 최대 잔차의 p값을 반환합니다. 2704칸 중 가장 큰 잔차이므로 칸 수를 곱해 보정합니다.
+         *
+         * @return 고르게 섞였을 때 어느 한 칸이라도 이만큼 이상 벗어날 확률 (1 이하)
+         */
+        public double getResidualPValue() {
+            return Math.min(1.0, (double) SIZE * SIZE * erfc(Math.abs(maxResidual) / Math.sqrt(2)));
+        }
+
+        /**
+         * 세 검정을 합친 p값을 반환합니다. 가장 작은 p값에 검정 수를 곱합니다. (본페로니 보정)
+         *
+         * @return 보정한 p값 (1 이하)
+         */
+        public double getBiasPValue() {
+            double smallest = Math.min(getPValue(), Math.min(getGPValue(), getResidualPValue()));
+            return Math.min(1.0, TESTS * smallest);
+        }
+
+        /**
+         * 걸린 시간을 반환합니다.
+         *
+         * @return 걸린 시간 (나노초)
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * 셔플이 치우쳤는지 판정합니다.
+         *
+         * @return 보정한 p값({@link #getBiasPValue()})이 {@value #BIAS_P_VALUE}보다 작으면 true
+         */
+        public boolean isBiased() {
+            return getBiasPValue() < BIAS_P_VALUE;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "덱 %,d개, %.1fs%n" +
+                "  카이제곱 %.1f (자유도 %d, p = %.4f)%n" +
+                "  G 통계량 %.1f (p = %.4f)%n" +
+                "  최대 잔차 %+.2f (%d번째 자리의 %s, p = %.4f)%n" +
+                "  %s (보정한 p = %.4f)",
+                decks, elapsedNanos / 1_000_000_000.0,
+                chiSquare, getDegreesOfFreedom(), getPValue(),
+                gStatistic, getGPValue(),
+                maxResidual, worstCell / SIZE + 1, Card.fromIndex(worstCell % SIZE), getResidualPValue(),
+                isBiased() ? "❌ 치우침 의심" : "✅ 치우침 없음", getBiasPValue());
+        }
+    }
+
+    /**
+     * 카이제곱 분포의 위쪽 꼬리 확률을 윌슨-힐퍼티 변환으로 근사한다.
+     * 자유도가 2601처럼 클 때는 소수 넷째 자리까지 충분히 정확하다.
+     */
+    static double upperTail(double statistic, int degreesOfFreedom) {
+        double k = degreesOfFreedom;
+        double z = (Math.cbrt(statistic / k) - (1 - 2 / (9 * k))) / Math.sqrt(2 / (9 * k));
+        return 0.5 * erfc(z / Math.sqrt(2));
+    }
+
+    /**
+     * 상보 오차 함수 (Numerical Recipes의 erfc 근사, 상대 오차 1.2e-7 이하)
+     */
+    private static double erfc(double x) {
+        double t = 1 / (1 + 0.5 * Math.abs(x));
+        double y = t * Math.exp(-x * x - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+            + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+            + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? y : 2 - y;
+    }
+
+    /**
+     * 이 저장소에 있는 셔플 방식들을 반환합니다.
+     *
+     * @return 이름 → 덱을 만드는 방법
+     */
+    public static Map<String, DeckSource> sources() {
+        Map<String, DeckSource> sources = new LinkedHashMap<>();
+        sources.put("EAGER (SplittableRandom)", random -> reshuffling(new Deck(random, ShuffleMode.EAGER)));
+        sources.put("LAZY (SplittableRandom)", random -> reshuffling(new Deck(random, ShuffleMode.LAZY)));
+        sources.put("EAGER (BufferedSecureRandom)",
+            random -> reshuffling(new Deck(new BufferedSecureRandom(seededSecureRandom(random.nextLong()),
+                BufferedSecureRandom.DEFAULT_BLOCK_SIZE), ShuffleMode.EAGER)));
+        sources.put("ShuffledDeckSupplier", random -> {
+            ShuffledDeckSupplier supplier = new ShuffledDeckSupplier(random.nextLong(), 64, 1);
+            Deck deck = new Deck();
+            return new Shuffler() {
+                @Override
+                public Deck next() {
+                    supplier.shuffleInto(deck);
+                    return deck;
+                }
+
+                @Override
+                public void close() {
+                    supplier.close();
+                }
+            };
+        });
+        return sources;
+    }
+
+    /**
+     * 시드로 출력이 정해지는 SecureRandom을 만든다.
+     * SHA1PRNG는 처음 쓰기 전에 setSeed()를 부르면 그 시드만으로 출력이 정해지므로, 검증을 재현할 수 있다.
+     * 실제 테이블에서는 시드를 주지 않은 기본 SecureRandom을 쓴다.
+     */
+    private static SecureRandom seededSecureRandom(long seed) {
+        try {
+            SecureRandom random = SecureRandom.getInstance("SHA1PRNG");
+            random.setSeed(seed);
+            return random;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA1PRNG를 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static Shuffler reshuffling(Deck deck) {
+        return () -> {
+            deck.reshuffle();
+            return deck;
+        };
+    }
+
+    public static void main(String[] args) {
+        long decks = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_DECKS;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+
+        System.out.println("🔀 셔플 공정성 검증 (덱 " + String.format("%,d", decks) + "개, 시드 " + seed + ")");
+        System.out.println("════════════════════════════════════════");
+
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        boolean biased = false;
+        try {
+            ShuffleFairness fairness = new ShuffleFairness(pool);
+            for (Map.Entry<String, DeckSource> entry : sources().entrySet()) {
+                Result result = fairness.run(entry.getValue(), decks, seed);
+                System.out.println(entry.getKey());
+                System.out.println(result);
+                biased |= result.isBiased();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        if (biased) {
+            System.exit(1);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package game.participants.dealer;
 
 import game.components.deck.Deck;
+import game.components.deck.ShuffleMode;
+import game.components.deck.ShuffledDeckSupplier;
 import game.components.hand.Hand;
-import game.participants.player.Player;
+import game.participants.player.Leaderboard;
+import game.participants.player.Participant;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * 딜러의 기본 동작을 정의하는 클래스입니다.
@@ -23,7 +28,9 @@ import java.util.List;
  * @since 2024-01-01
  */
 public class Dealer {
-    private Deck deck;
+    private final Deck deck;
+    private final ShuffledDeckSupplier supplier; // 없으면 null, 딜러가 직접 섞음
+    private final Leaderboard<Participant> leaderboard = new Leaderboard<>(); // 자금 순위표
     private static final int CARDS_PER_PLAYER = 5;
     private static final int PRIZE_PER_ROUND = 100;
     
@@ -31,17 +38,51 @@ public class Dealer {
      * Dealer 생성자
      */
     public Dealer() {
+        this(new SplittableRandom());
+    }
+    
+    /**
+     * 지정한 난수 생성기로 덱을 섞는 Dealer 생성자
+     * 
+     * 시드를 고정한 난수 생성기를 넘기면 모든 라운드의 셔플을 그대로 재현할 수 있습니다.
+     * 
+     * @param random 덱을 섞을 때 사용할 난수 생성기
+     * @throws IllegalArgumentException random이 null일 때
+     */
+    public Dealer(RandomGenerator random) {
+        // 한 라운드에 52장 중 일부만 나눠주므로, 나눠주는 카드만큼만 섞는 LAZY 덱을 사용
+        this.deck = new Deck(random, ShuffleMode.LAZY);
+        this.supplier = null;
+    }
+    
+    /**
+     * 미리 섞어 둔 덱 순서를 받아 쓰는 Dealer 생성자
+     * 
+     * 게임을 시작할 때 덱을 직접 섞지 않고 공급기에서 다음 순서를 받아오므로, 셔플이 라운드 진행을 막지 않습니다.
+     * 딜러가 나눠주는 카드는 공급기의 시드로 재현됩니다.
+     * 
+     * @param supplier 섞인 덱 순서 공급기
+     * @throws IllegalArgumentException supplier가 null일 때
+     */
+    public Dealer(ShuffledDeckSupplier supplier) {
+        if (supplier == null) {
+            throw new IllegalArgumentException("덱 공급기는 null일 수 없습니다.");
+        }
         this.deck = new Deck();
+        this.supplier = supplier;
     }
     
     /**
      * 새로운 게임을 시작합니다.
-     * 덱을 초기화하고 셔플합니다.
+     * 덱을 52장으로 되돌리고 셔플합니다.
      */
     public void startNewGame() {
-        // 새로운 덱 생성
-        deck = new Deck();
-        deck.shuffle();
+        // 덱은 딜러가 만들어질 때 한 번만 생성하고, 매 게임 같은 덱을 되돌려 사용
+        if (supplier != null) {
+            supplier.shuffleInto(deck);
+        } else {
+            deck.reshuffle();
+        }
     }
     
     /**
@@ -49,42 +90,42 @@ public class Dealer {
      * 
      * @param players 카드를 받을 플레이어 목록
      */
-    public void dealCards(List<? extends Player> players) {
+    public void dealCards(List<? extends Participant> players) {
         // 모든 플레이어의 핸드를 초기화
-        for (Player player : players) {
-            player.setHand(new Hand());
+        Hand[] hands = new Hand[players.size()];
+        for (int i = 0; i < hands.length; i++) {
+            hands[i] = new Hand();
+            players.get(i).setHand(hands[i]);
         }
         
-        // 각 플레이어에게 5장씩 분배
-        for (int i = 0; i < CARDS_PER_PLAYER; i++) {
-            for (Player player : players) {
-                player.getHand().add(deck.drawCard());
-            }
-        }
+        // 각 플레이어에게 한 장씩 돌아가며 5장씩 분배
+        deck.dealInto(hands, CARDS_PER_PLAYER);
     }
     
     /**
      * 라운드의 승자를 결정합니다.
      * 
+     * @param <P> 참가자 타입
      * @param players 참가 플레이어 목록
      * @return 승자 목록 (동점일 경우 여러 명)
      */
-    public List<? extends Player> determineWinners(List<? extends Player> players) {
-        List<Player> winners = new ArrayList<>();
-        int highestScore = 0;
+    public <P extends Participant> List<P> determineWinners(List<? extends P> players) {
+        List<P> winners = new ArrayList<>();
+        int[] strengths = new int[players.size()];
+        int highestStrength = Integer.MIN_VALUE;
         
-        // 최고 점수 찾기
-        for (Player player : players) {
-            int score = player.getHand().open();
-            if (score > highestScore) {
-                highestScore = score;
+        // 핸드 강도는 족보와 키커를 모두 담고 있어 한 번의 int 비교로 승부가 갈린다
+        for (int i = 0; i < strengths.length; i++) {
+            strengths[i] = players.get(i).getHand().strength();
+            if (strengths[i] > highestStrength) {
+                highestStrength = strengths[i];
             }
         }
         
-        // 최고 점수를 가진 모든 플레이어 찾기
-        for (Player player : players) {
-            if (player.getHand().open() == highestScore) {
-                winners.add(player);
+        // 최고 강도를 가진 모든 플레이어 찾기
+        for (int i = 0; i < strengths.length; i++) {
+            if (strengths[i] == highestStrength) {
+                winners.add(players.get(i));
             }
         }
         
@@ -97,19 +138,60 @@ public class Dealer {
      * @param winners 승자 목록
      * @param prizeAmount 각 승자가 받을 상금
      */
-    public void distributePrize(List<? extends Player> winners, int prizeAmount) {
-        for (Player winner : winners) {
+    public void distributePrize(List<? extends Participant> winners, int prizeAmount) {
+        for (Participant winner : winners) {
             winner.addMoney(prizeAmount);
+            updateStanding(winner);
         }
     }
     
+    /**
+     * 이 딜러의 테이블을 거쳐 간 플레이어들의 자금 순위표를 반환합니다.
+     * 
+     * 순위표는 다음 때에 고쳐지므로, 순위를 볼 때 전체를 다시 정렬하지 않습니다.
+     * <ul>
+     *   <li>{@link #distributePrize(List, int)}로 상금을 준 직후 - 받은 플레이어만</li>
+     *   <li>{@link #playGame(List, int)}의 매 라운드 시작 - 앉은 플레이어 중 자금이 바뀐 플레이어만</li>
+     * </ul>
+     * 라운드 사이에 딜러를 거치지 않고 바꾼 자금은 다음 라운드를 시작할 때 반영됩니다.
+     * 게임이 끝난 뒤에 자금을 바꿨다면 {@link #updateStanding(Participant)}로 알려야 합니다.
+     * 
+     * @return 자금 순위표
+     */
+    public Leaderboard<Participant> getLeaderboard() {
+        return leaderboard;
+    }
+    
+    /**
+     * 플레이어의 현재 자금으로 순위표를 고칩니다. 순위표에 없던 플레이어면 추가합니다.
+     * 
+     * @param player 자금이 바뀐 플레이어
+     * @throws IllegalArgumentException player가 null일 때
+     */
+    public void updateStanding(Participant player) {
+        if (player == null) {
+            throw new IllegalArgumentException("플레이어는 null일 수 없습니다.");
+        }
+        leaderboard.update(player, player.getMoney());
+    }
+    
+    /**
+     * 테이블을 떠난 플레이어를 순위표에서 뺍니다.
+     * 
+     * @param player 떠난 플레이어
+     * @return 순위표에 있었으면 true
+     */
+    public boolean removeFromLeaderboard(Participant player) {
+        return leaderboard.remove(player);
+    }
+    
     /**
      * 전체 게임을 진행합니다.
      * 
      * @param players 참가 플레이어 목록
      * @param rounds 진행할 라운드 수
      */
-    public void playGame(List<? extends Player> players, int rounds) {
+    public void playGame(List<? extends Participant> players, int rounds) {
         if (players == null || players.isEmpty()) {
             throw new IllegalArgumentException("플레이어가 없습니다.");
         }
@@ -120,6 +202,11 @@ public class Dealer {
         for (int round = 1; round <= rounds; round++) {
             System.out.println("\n=== 라운드 " + round + " ===");
             
+            // 라운드 사이에 딜러 밖에서 바뀐 자금을 반영 (자금이 그대로면 순위표는 아무것도 하지 않음)
+            for (Participant player : players) {
+                updateStanding(player);
+            }
+            
             // 새 게임 시작
             startNewGame();
             
@@ -128,33 +215,33 @@ public class Dealer {
             
             // 각 플레이어의 핸드 출력
             System.out.println("플레이어 핸드:");
-            for (Player player : players) {
+            for (Participant player : players) {
                 System.out.println(player.getName() + ": " + player.getHand() + 
                     " (" + player.getHand().evaluate() + ")");
             }
             
             // 승자 판정
-            List<? extends Player> winners = determineWinners(players);
+            List<? extends Participant> winners = determineWinners(players);
             
             // 결과 출력 및 기록 업데이트
             if (winners.size() == players.size()) {
                 // 모든 플레이어가 동점 - 무승부
                 System.out.println("\n결과: 무승부!");
                 System.out.println("상금: 없음");
-                for (Player player : players) {
+                for (Participant player : players) {
                     player.recordDraw();
                 }
                 // 무승부 시에는 상금 분배 없음
             } else {
                 // 승자 출력
                 System.out.println("\n승자:");
-                for (Player winner : winners) {
+                for (Participant winner : winners) {
                     System.out.println("  🏆 " + winner.getName() + " - " + 
                         winner.getHand().evaluate() + " (+" + PRIZE_PER_ROUND + "원)");
                 }
                 
                 // 승자와 패자 기록
-                for (Player player : players) {
+                for (Participant player : players) {
                     if (winners.contains(player)) {
                         player.recordWin();
                     } else {
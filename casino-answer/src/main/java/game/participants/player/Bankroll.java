@@ -0,0 +1,110 @@
+package game.participants.player;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 플레이어의 자금을 나타내는 클래스
+ *
+ * 한 플레이어가 여러 테이블에 동시에 앉아 있어도 입금과 출금이 사라지지 않도록,
+ * 잠금 없이 {@link AtomicLong}의 비교 후 교환(CAS)으로 잔액을 바꿉니다.
+ *
+ * <p>구현 방식:</p>
+ * <ul>
+ *   <li>잔액은 long이므로 약 21억 원을 넘어도 넘치지 않습니다</li>
+ *   <li>출금({@link #tryDebit(long)})은 잔액을 읽고, 충분할 때만 CAS로 뺍니다.
+ *       그 사이 다른 스레드가 잔액을 바꿨다면 다시 읽어 판단합니다</li>
+ *   <li>CAS에 실패하면 {@link Thread#onSpinWait()}로 잠깐 양보한 뒤 다시 시도해,
+ *       수십 개의 스레드가 한 플레이어에게 몰려도 서로 계속 부딪히지 않게 합니다</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * Bankroll bankroll = new Bankroll(10_000);
+ * if (bankroll.tryDebit(500)) {   // 잔액이 부족하면 false, 잔액은 그대로
+ *     ...
+ * }
+ * bankroll.credit(1_000);
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class Bankroll {
+    private final AtomicLong balance;
+
+    /**
+     * 초기 잔액으로 자금을 생성합니다.
+     *
+     * @param initialBalance 초기 잔액
+     * @throws IllegalArgumentException initialBalance가 음수일 때
+     */
+    public Bankroll(long initialBalance) {
+        if (initialBalance < 0) {
+            throw new IllegalArgumentException("초기 자금은 음수일 수 없습니다.");
+        }
+        this.balance = new AtomicLong(initialBalance);
+    }
+
+    /**
+     * 현재 잔액을 반환합니다.
+     *
+     * @return 현재 잔액
+     */
+    public long getBalance() {
+        return balance.get();
+    }
+
+    /**
+     * 잔액에 금액을 더합니다.
+     *
+     * @param amount 더할 금액
+     * @return 더한 뒤의 잔액
+     * @throws IllegalArgumentException amount가 음수일 때
+     * @throws ArithmeticException 잔액이 long 범위를 넘을 때 (잔액은 그대로)
+     */
+    public long credit(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("금액은 음수일 수 없습니다.");
+        }
+        long current = balance.get();
+        while (true) {
+            long next = Math.addExact(current, amount);
+            long witness = balance.compareAndExchange(current, next);
+            if (witness == current) {
+                return next;
+            }
+            current = witness;
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 잔액이 충분할 때만 금액을 뺍니다.
+     *
+     * 잔액 확인과 차감이 한 번의 CAS로 이루어지므로, 여러 스레드가 동시에 출금해도 잔액이 음수가 되지 않습니다.
+     *
+     * @param amount 뺄 금액
+     * @return 뺐으면 true, 금액이 음수이거나 잔액이 부족하면 false (잔액은 그대로)
+     */
+    public boolean tryDebit(long amount) {
+        if (amount < 0) {
+            return false;
+        }
+        long current = balance.get();
+        while (current >= amount) {
+            long witness = balance.compareAndExchange(current, current - amount);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+            Thread.onSpinWait();
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d원", getBalance());
+    }
+}
@@ -0,0 +1,256 @@
+package game.participants.player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 점수가 바뀔 때마다 순위를 고쳐 두는 순위표
+ *
+ * 라운드마다 전체 목록을 다시 정렬하지 않고, 점수가 바뀐 항목만 제자리로 옮깁니다.
+ *
+ * <p>구현 방식 (인덱스 스킵 리스트):</p>
+ * <ul>
+ *   <li>항목을 점수 내림차순으로 연결한 스킵 리스트에 담습니다. 점수가 같으면 먼저 들어온 항목이 앞섭니다</li>
+ *   <li>각 층의 링크마다 건너뛰는 항목 수(span)를 함께 기록해, 위층부터 내려오며 더하면 순위가 나옵니다</li>
+ *   <li>점수 변경, 순위 조회는 평균 O(log n), 상위 K개 조회는 O(K)입니다</li>
+ * </ul>
+ *
+ * <p>순위표는 항목의 점수를 직접 읽지 않습니다. 점수가 바뀌면 {@link #update(Object, long)}로 알려야 합니다.
+ * 여러 스레드가 동시에 쓰려면 외부에서 동기화해야 합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * Leaderboard&lt;Player&gt; leaderboard = new Leaderboard&lt;&gt;();
+ * leaderboard.update(player, player.getMoney());   // 자금이 바뀔 때마다
+ * List&lt;Player&gt; top3 = leaderboard.topK(3);
+ * int rank = leaderboard.rank(player);               // 1등이면 1
+ * </pre>
+ *
+ * @param <T> 순위를 매길 항목의 타입
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class Leaderboard<T> {
+    private static final int MAX_LEVEL = 32;
+
+    private final Node<T> head = new Node<>(null, 0L, 0L, MAX_LEVEL);
+    private final Map<T, Node<T>> nodes = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private int level = 1;
+    private int length; // 스킵 리스트에 연결된 노드 수
+    private long nextSequence;
+
+    /**
+     * 항목의 점수를 기록합니다. 처음 보는 항목이면 추가합니다.
+     *
+     * @param item 항목
+     * @param score 새 점수 (클수록 앞 순위)
+     * @throws IllegalArgumentException item이 null일 때
+     */
+    public void update(T item, long score) {
+        if (item == null) {
+            throw new IllegalArgumentException("항목은 null일 수 없습니다.");
+        }
+        Node<T> node = nodes.get(item);
+        if (node == null) {
+            nodes.put(item, insert(item, score, nextSequence++));
+        } else if (node.score != score) {
+            // 점수가 같을 때의 순서는 처음 들어온 차례를 그대로 유지한다
+            unlink(node);
+            nodes.put(item, insert(item, score, node.sequence));
+        }
+    }
+
+    /**
+     * 항목을 순위표에서 뺍니다.
+     *
+     * @param item 항목
+     * @return 순위표에 있었으면 true
+     */
+    public boolean remove(T item) {
+        Node<T> node = nodes.remove(item);
+        if (node == null) {
+            return false;
+        }
+        unlink(node);
+        return true;
+    }
+
+    /**
+     * 항목의 순위를 반환합니다.
+     *
+     * @param item 항목
+     * @return 1부터 시작하는 순위, 순위표에 없으면 -1
+     */
+    public int rank(T item) {
+        Node<T> node = nodes.get(item);
+        if (node == null) {
+            return -1;
+        }
+        int rank = 0;
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && !node.precedes(x.next[i])) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x == node) {
+                return rank;
+            }
+        }
+        throw new IllegalStateException("순위표의 연결이 끊어졌습니다.");
+    }
+
+    /**
+     * 항목의 기록된 점수를 반환합니다.
+     *
+     * @param item 항목
+     * @return 점수
+     * @throws IllegalArgumentException 순위표에 없는 항목일 때
+     */
+    public long scoreOf(T item) {
+        Node<T> node = nodes.get(item);
+        if (node == null) {
+            throw new IllegalArgumentException("순위표에 없는 항목입니다: " + item);
+        }
+        return node.score;
+    }
+
+    /**
+     * 상위 k개 항목을 순위대로 반환합니다.
+     *
+     * @param k 가져올 항목 수 (순위표보다 크면 전체)
+     * @return 변경할 수 없는 목록
+     * @throws IllegalArgumentException k가 음수일 때
+     */
+    public List<T> topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k는 음수일 수 없습니다: " + k);
+        }
+        List<T> top = new ArrayList<>(Math.min(k, size()));
+        for (Node<T> x = head.next[0]; x != null && top.size() < k; x = x.next[0]) {
+            top.add(x.item);
+        }
+        return Collections.unmodifiableList(top);
+    }
+
+    /**
+     * 순위표에 있는 항목 수를 반환합니다.
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        return length;
+    }
+
+    /**
+     * 새 노드를 제자리에 연결한다. 내려오면서 지나간 칸 수(rank)로 새 링크의 span을 계산한다.
+     */
+    private Node<T> insert(T item, long score, long sequence) {
+        Node<T>[] update = newLinks(MAX_LEVEL);
+        int[] rank = new int[MAX_LEVEL];
+        Node<T> node = new Node<>(item, score, sequence, randomLevel());
+
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && x.next[i].precedes(node)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = node.next.length;
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = length;
+            }
+            level = nodeLevel;
+        }
+
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        length++;
+        return node;
+    }
+
+    /**
+     * 노드를 모든 층에서 떼어 내고, 노드를 건너던 링크의 span을 하나씩 줄인다.
+     */
+    private void unlink(Node<T> node) {
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].precedes(node)) {
+                x = x.next[i];
+            }
+            if (x.next[i] == node) {
+                x.span[i] += node.span[i] - 1;
+                x.next[i] = node.next[i];
+            } else {
+                x.span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        length--;
+    }
+
+    /**
+     * 층 수를 1/4 확률로 하나씩 높인다. 평균 1.33층이라 노드당 링크가 적다.
+     */
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && (random.nextInt() & 3) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    /**
+     * 제네릭 배열은 직접 만들 수 없으므로 와일드카드 배열을 만들어 변환한다. 배열에는 {@code Node<T>}만 담는다.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newLinks(int level) {
+        return (Node<T>[]) new Node<?>[level];
+    }
+
+    private static final class Node<T> {
+        final T item;
+        final long score;
+        final long sequence;
+        final Node<T>[] next;
+        // span[i]: next[i]까지 건너뛰는 항목 수 (next[i]가 없으면 마지막 항목까지)
+        final int[] span;
+
+        Node(T item, long score, long sequence, int level) {
+            this.item = item;
+            this.score = score;
+            this.sequence = sequence;
+            this.next = newLinks(level);
+            this.span = new int[level];
+        }
+
+        /**
+         * 이 노드가 other보다 앞 순위인지 확인한다. (점수 내림차순, 같으면 먼저 들어온 순)
+         */
+        boolean precedes(Node<T> other) {
+            return score > other.score || (score == other.score && sequence < other.sequence);
+        }
+    }
+}
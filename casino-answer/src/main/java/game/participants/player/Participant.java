@@ -0,0 +1,97 @@
+package game.participants.player;
+
+import game.components.hand.Hand;
+
+/**
+ * 딜러의 테이블에 앉는 참가자가 제공해야 하는 동작
+ *
+ * 딜러는 이 인터페이스만으로 카드를 나누고, 승자를 가리고, 상금과 전적을 기록합니다.
+ * 객체 하나가 자기 상태를 모두 가지는 {@link Player}와, 저장소의 한 칸을 가리키는
+ * {@link PlayerStore}의 플레이어가 모두 이 인터페이스를 구현합니다.
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public interface Participant {
+    /**
+     * 참가자의 이름을 반환합니다.
+     *
+     * @return 이름
+     */
+    String getName();
+
+    /**
+     * 참가자의 현재 자금을 반환합니다.
+     *
+     * @return 현재 보유 자금
+     */
+    long getMoney();
+
+    /**
+     * 참가자에게 돈을 추가합니다.
+     *
+     * @param amount 추가할 금액
+     * @throws IllegalArgumentException amount가 음수일 때
+     */
+    void addMoney(long amount);
+
+    /**
+     * 잔액이 충분할 때만 참가자로부터 돈을 차감합니다.
+     *
+     * @param amount 차감할 금액
+     * @return 차감 성공 여부 (금액이 음수이거나 잔액 부족시 false)
+     */
+    boolean removeMoney(long amount);
+
+    /**
+     * 참가자의 현재 핸드를 반환합니다.
+     *
+     * @return 핸드
+     */
+    Hand getHand();
+
+    /**
+     * 참가자의 핸드를 설정합니다.
+     *
+     * @param hand 설정할 핸드
+     * @throws IllegalArgumentException hand가 null일 때
+     */
+    void setHand(Hand hand);
+
+    /**
+     * 승리 횟수를 반환합니다.
+     *
+     * @return 승리 횟수
+     */
+    long getWinCount();
+
+    /**
+     * 패배 횟수를 반환합니다.
+     *
+     * @return 패배 횟수
+     */
+    long getLoseCount();
+
+    /**
+     * 무승부 횟수를 반환합니다.
+     *
+     * @return 무승부 횟수
+     */
+    long getDrawCount();
+
+    /**
+     * 승리를 기록합니다.
+     */
+    void recordWin();
+
+    /**
+     * 패배를 기록합니다.
+     */
+    void recordLose();
+
+    /**
+     * 무승부를 기록합니다.
+     */
+    void recordDraw();
+}
@@ -13,20 +13,18 @@ import game.components.hand.Hand;
  * @version 1.0
  * @since 2024-01-01
  */
-public class Player {
+public class Player implements Participant {
     private String name;
-    private int money;
+    private final Bankroll bankroll;
     private Hand hand;
-    private int winCount;
-    private int loseCount;
-    private int drawCount;
+    private final PlayerStats stats;
     
     /**
      * Player 생성자
      * @param name 플레이어 이름
      * @param initialMoney 초기 자금
      */
-    public Player(String name, int initialMoney) {
+    public Player(String name, long initialMoney) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("이름은 비어있을 수 없습니다.");
         }
@@ -35,11 +33,9 @@ public class Player {
         }
         
         this.name = name;
-        this.money = initialMoney;
+        this.bankroll = new Bankroll(initialMoney);
         this.hand = new Hand();
-        this.winCount = 0;
-        this.loseCount = 0;
-        this.drawCount = 0;
+        this.stats = new PlayerStats();
     }
     
     /**
@@ -47,6 +43,7 @@ public class Player {
      * 
      * @return 플레이어의 이름
      */
+    @Override
     public String getName() {
         return name;
     }
@@ -56,8 +53,19 @@ public class Player {
      * 
      * @return 현재 보유 자금
      */
-    public int getMoney() {
-        return money;
+    @Override
+    public long getMoney() {
+        return bankroll.getBalance();
+    }
+    
+    /**
+     * 플레이어의 자금을 반환합니다.
+     * 여러 테이블에서 동시에 정산할 때는 이 자금에 직접 입금, 출금합니다.
+     * 
+     * @return 플레이어의 자금
+     */
+    public Bankroll getBankroll() {
+        return bankroll;
     }
     
     /**
@@ -65,11 +73,9 @@ public class Player {
      * 
      * @param amount 추가할 금액
      */
-    public void addMoney(int amount) {
-        if (amount < 0) {
-            throw new IllegalArgumentException("금액은 음수일 수 없습니다.");
-        }
-        money += amount;
+    @Override
+    public void addMoney(long amount) {
+        bankroll.credit(amount);
     }
     
     /**
@@ -78,15 +84,9 @@ public class Player {
      * @param amount 차감할 금액
      * @return 차감 성공 여부 (잔액 부족시 false)
      */
-    public boolean removeMoney(int amount) {
-        if (amount < 0) {
-            return false;
-        }
-        if (money >= amount) {
-            money -= amount;
-            return true;
-        }
-        return false;
+    @Override
+    public boolean removeMoney(long amount) {
+        return bankroll.tryDebit(amount);
     }
     
     /**
@@ -94,6 +94,7 @@ public class Player {
      * 
      * @return 플레이어의 핸드
      */
+    @Override
     public Hand getHand() {
         return hand;
     }
@@ -103,6 +104,7 @@ public class Player {
      * 
      * @param hand 설정할 핸드
      */
+    @Override
     public void setHand(Hand hand) {
         if (hand == null) {
             throw new IllegalArgumentException("핸드는 null일 수 없습니다.");
@@ -115,8 +117,9 @@ public class Player {
      * 
      * @return 승리 횟수
      */
-    public int getWinCount() {
-        return winCount;
+    @Override
+    public long getWinCount() {
+        return stats.getWins();
     }
     
     /**
@@ -124,8 +127,9 @@ public class Player {
      * 
      * @return 패배 횟수
      */
-    public int getLoseCount() {
-        return loseCount;
+    @Override
+    public long getLoseCount() {
+        return stats.getLosses();
     }
     
     /**
@@ -133,34 +137,47 @@ public class Player {
      * 
      * @return 무승부 횟수
      */
-    public int getDrawCount() {
-        return drawCount;
+    @Override
+    public long getDrawCount() {
+        return stats.getDraws();
+    }
+    
+    /**
+     * 플레이어의 전적을 반환합니다.
+     * 승, 패, 무승부 횟수를 함께 볼 때는 {@link PlayerStats#snapshot()}으로 같은 순간의 값을 읽습니다.
+     * 
+     * @return 플레이어의 전적
+     */
+    public PlayerStats getStats() {
+        return stats;
     }
     
     /**
      * 승리를 기록합니다.
      */
+    @Override
     public void recordWin() {
-        winCount++;
+        stats.recordWin();
     }
     
     /**
      * 패배를 기록합니다.
      */
+    @Override
     public void recordLose() {
-        loseCount++;
+        stats.recordLose();
     }
     
     /**
      * 무승부를 기록합니다.
      */
+    @Override
     public void recordDraw() {
-        drawCount++;
+        stats.recordDraw();
     }
     
     @Override
     public String toString() {
-        return String.format("%s (자금: %d원, 전적: %d승 %d패 %d무)", 
-            name, money, winCount, loseCount, drawCount);
+        return String.format("%s (자금: %d원, 전적: %s)", name, getMoney(), stats.snapshot());
     }
 }
\ No newline at end of file
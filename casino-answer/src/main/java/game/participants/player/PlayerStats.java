@@ -0,0 +1,174 @@
+package game.participants.player;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 플레이어의 승, 패, 무승부 횟수를 세는 클래스
+ *
+ * 여러 테이블이 같은 플레이어의 결과를 동시에 기록해도 횟수가 사라지지 않고, 서로 기다리지도 않도록
+ * 횟수마다 {@link LongAdder}를 둡니다. LongAdder는 스레드마다 다른 칸(셀)에 더하고, 읽을 때 칸을 합칩니다.
+ *
+ * <p>스냅샷:</p>
+ * 세 횟수를 따로 합치면 그 사이에 기록된 결과 때문에 서로 다른 순간의 값이 섞일 수 있습니다.
+ * {@link #snapshot()}은 세 횟수를 두 번 연속으로 읽어 같을 때의 값을 반환합니다.
+ * 횟수는 늘기만 하므로, 두 번 읽은 값이 같다면 그 사이의 한 순간에 세 횟수가 정확히 그 값이었습니다.
+ * 다시 읽기 전에는 {@link Thread#onSpinWait()}로 잠깐 기다려, 기록이 잠시 멈추는 틈에 두 번의 읽기가 맞도록 합니다.
+ * 기록이 계속 몰려 {@value #SNAPSHOT_RETRIES}번 안에 같아지지 않으면, 기록하는 쪽을 붙잡지 않도록 마지막에 읽은 값을
+ * 반환하되 {@link Snapshot#isConsistent()}가 false를 반환합니다. 이때 각 횟수는 읽는 동안의 어느 순간의 값이지만,
+ * 세 횟수가 같은 순간의 값이라는 보장은 없습니다. 같은 순간의 전적이 꼭 필요한 쪽은 이 값을 보고 다시 읽습니다.
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class PlayerStats {
+    private static final int SNAPSHOT_RETRIES = 8;
+
+    private final LongAdder wins = new LongAdder();
+    private final LongAdder losses = new LongAdder();
+    private final LongAdder draws = new LongAdder();
+
+    /**
+     * 승리를 기록합니다.
+     */
+    public void recordWin() {
+        wins.increment();
+    }
+
+    /**
+     * 패배를 기록합니다.
+     */
+    public void recordLose() {
+        losses.increment();
+    }
+
+    /**
+     * 무승부를 기록합니다.
+     */
+    public void recordDraw() {
+        draws.increment();
+    }
+
+    /**
+     * 승리 횟수를 반환합니다. 다른 횟수와 함께 볼 때는 {@link #snapshot()}을 사용합니다.
+     *
+     * @return 승리 횟수
+     */
+    public long getWins() {
+        return wins.sum();
+    }
+
+    /**
+     * 패배 횟수를 반환합니다. 다른 횟수와 함께 볼 때는 {@link #snapshot()}을 사용합니다.
+     *
+     * @return 패배 횟수
+     */
+    public long getLosses() {
+        return losses.sum();
+    }
+
+    /**
+     * 무승부 횟수를 반환합니다. 다른 횟수와 함께 볼 때는 {@link #snapshot()}을 사용합니다.
+     *
+     * @return 무승부 횟수
+     */
+    public long getDraws() {
+        return draws.sum();
+    }
+
+    /**
+     * 세 횟수를 같은 순간의 값으로 읽습니다. 기록이 계속 몰리면 같은 순간의 값이 아닐 수 있습니다(클래스 설명 참고).
+     *
+     * @return 승, 패, 무승부 횟수와 같은 순간의 값인지 여부
+     */
+    public Snapshot snapshot() {
+        long w = wins.sum();
+        long l = losses.sum();
+        long d = draws.sum();
+        for (int i = 0; i < SNAPSHOT_RETRIES; i++) {
+            Thread.onSpinWait();
+            long w2 = wins.sum();
+            long l2 = losses.sum();
+            long d2 = draws.sum();
+            if (w == w2 && l == l2 && d == d2) {
+                return new Snapshot(w, l, d, true);
+            }
+            w = w2;
+            l = l2;
+            d = d2;
+        }
+        return new Snapshot(w, l, d, false);
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    /**
+     * 한 번에 읽은 승, 패, 무승부 횟수
+     */
+    public static final class Snapshot {
+        private final long wins;
+        private final long losses;
+        private final long draws;
+        private final boolean consistent;
+
+        Snapshot(long wins, long losses, long draws, boolean consistent) {
+            this.wins = wins;
+            this.losses = losses;
+            this.draws = draws;
+            this.consistent = consistent;
+        }
+
+        /**
+         * 세 횟수가 같은 순간의 값인지 반환합니다.
+         *
+         * @return 두 번 연속으로 읽은 값이 같았으면 true, 재시도 횟수 안에 같아지지 않았으면 false
+         */
+        public boolean isConsistent() {
+            return consistent;
+        }
+
+        /**
+         * 승리 횟수를 반환합니다.
+         *
+         * @return 승리 횟수
+         */
+        public long getWins() {
+            return wins;
+        }
+
+        /**
+         * 패배 횟수를 반환합니다.
+         *
+         * @return 패배 횟수
+         */
+        public long getLosses() {
+            return losses;
+        }
+
+        /**
+         * 무승부 횟수를 반환합니다.
+         *
+         * @return 무승부 횟수
+         */
+        public long getDraws() {
+            return draws;
+        }
+
+        /**
+         * 기록된 전체 게임 수를 반환합니다.
+         *
+         * @return 승, 패, 무승부 횟수의 합
+         */
+        public long getGames() {
+            return wins + losses + draws;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d승 %d패 %d무", wins, losses, draws);
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package game.participants.player;
+
+import game.components.hand.Hand;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 수백만 명의 플레이어를 열(column)별 배열에 모아 담는 저장소
+ *
+ * {@link Player} 객체는 이름 문자열, 핸드, 자금, 전적 객체를 따로 가지므로 한 명에 수백 바이트를 쓰고,
+ * 자금으로 정렬하거나 합칠 때 힙 여기저기를 읽게 됩니다. 이 저장소는 플레이어를 번호(0부터)로 가리키고,
+ * 같은 항목을 한 열에 연속으로 담습니다.
+ *
+ * <p>저장 방식:</p>
+ * <ul>
+ *   <li>자금(long), 승/패/무승부 횟수(int), 이름이 끝나는 위치(int)를 각각 한 열로 담습니다 - 한 명에 {@value #FIXED_BYTES}바이트</li>
+ *   <li>이름은 UTF-8 바이트로 하나의 byte 배열에 이어 붙입니다 - 영문 10자 이름이면 한 명에 모두 34바이트</li>
+ *   <li>숫자 열은 {@link ByteBuffer}에 담으며, 힙 밖(direct)에 둘 수도 있습니다. 이때 수백만 명의 자금이 GC 대상이 아닙니다</li>
+ *   <li>자금 합계처럼 한 열만 훑는 작업은 그 열만 순서대로 읽으므로 메모리 대역폭만큼 빠릅니다</li>
+ * </ul>
+ *
+ * <p>딜러와 함께 쓰기:</p>
+ * {@link #view(int)}와 {@link #table(int...)}은 저장소의 한 칸을 가리키는 가벼운 {@link Participant}를 반환합니다.
+ * 뷰의 자금, 전적을 바꾸면 저장소의 값이 바뀌므로, {@code Dealer}가 뷰 목록으로 그대로 게임을 진행할 수 있습니다.
+ * 핸드는 게임 중에만 필요하므로 저장소가 아니라 뷰가 가집니다.
+ *
+ * <p>동시성:</p>
+ * 저장소의 값은 잠그지 않고 읽고 씁니다. 한 플레이어는 한 번에 한 스레드(테이블)에서만 다루어야 하며,
+ * 여러 테이블이 동시에 같은 플레이어를 정산해야 한다면 {@link Player}와 {@link Bankroll}을 사용합니다.
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * PlayerStore store = new PlayerStore(1_000_000, true);   // 숫자 열을 힙 밖에 둠
+ * for (int i = 0; i &lt; 1_000_000; i++) {
+ *     store.add("player" + i, 10_000);
+ * }
+ * dealer.playGame(store.table(0, 1, 2, 3), 100);
+ * long total = store.totalMoney();
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class PlayerStore {
+    /** 이름을 뺀 한 명의 크기 (자금 8 + 승/패/무승부 4 × 3 + 이름 끝 위치 4) */
+    public static final int FIXED_BYTES = 24;
+    /** 담을 수 있는 최대 플레이어 수 */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / FIXED_BYTES;
+
+    private static final int INITIAL_NAME_BYTES_PER_PLAYER = 8;
+
+    private final int capacity;
+    private final boolean offHeap;
+    private final ByteBuffer columns;
+    // 열마다 columns 안에서 시작하는 위치
+    private final int moneyBase;
+    private final int winBase;
+    private final int loseBase;
+    private final int drawBase;
+    private final int nameEndBase;
+
+    private byte[] names;
+    private int nameBytes;
+    private int size;
+
+    /**
+     * 숫자 열을 힙에 두는 저장소를 생성합니다.
+     *
+     * @param capacity 담을 수 있는 플레이어 수
+     * @throws IllegalArgumentException capacity가 1보다 작거나 {@link #MAX_CAPACITY}보다 클 때
+     */
+    public PlayerStore(int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * 저장소를 생성합니다.
+     *
+     * @param capacity 담을 수 있는 플레이어 수
+     * @param offHeap true이면 숫자 열을 힙 밖(direct buffer)에 둠 (이름 바이트는 항상 힙에 둠)
+     * @throws IllegalArgumentException capacity가 1보다 작거나 {@link #MAX_CAPACITY}보다 클 때
+     */
+    public PlayerStore(int capacity, boolean offHeap) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("저장소 크기는 1부터 " + MAX_CAPACITY + "까지입니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.offHeap = offHeap;
+
+        int bytes = capacity * FIXED_BYTES;
+        this.columns = (offHeap ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes))
+            .order(ByteOrder.nativeOrder());
+        this.moneyBase = 0;
+        this.winBase = moneyBase + capacity * Long.BYTES;
+        this.loseBase = winBase + capacity * Integer.BYTES;
+        this.drawBase = loseBase + capacity * Integer.BYTES;
+        this.nameEndBase = drawBase + capacity * Integer.BYTES;
+
+        this.names = new byte[(int) Math.min(Integer.MAX_VALUE - 8, (long) capacity * INITIAL_NAME_BYTES_PER_PLAYER)];
+    }
+
+    /**
+     * 플레이어를 추가합니다.
+     *
+     * @param name 플레이어 이름
+     * @param initialMoney 초기 자금
+     * @return 추가한 플레이어의 번호
+     * @throws IllegalArgumentException 이름이 비어 있거나 초기 자금이 음수일 때
+     * @throws IllegalStateException 저장소가 가득 찼을 때
+     */
+    public int add(String name, long initialMoney) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("이름은 비어있을 수 없습니다.");
+        }
+        if (initialMoney < 0) {
+            throw new IllegalArgumentException("초기 자금은 음수일 수 없습니다.");
+        }
+        if (size == capacity) {
+            throw new IllegalStateException("저장소가 가득 찼습니다: " + capacity);
+        }
+
+        byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+        if (nameBytes + encoded.length > names.length) {
+            // 두 배씩 늘리면 마지막에 절반 가까이 비어 있을 수 있으므로 1.5배씩 늘린다
+            long grown = Math.max(names.length + (names.length >> 1), (long) nameBytes + encoded.length);
+            names = Arrays.copyOf(names, (int) Math.min(Integer.MAX_VALUE - 8, grown));
+        }
+        System.arraycopy(encoded, 0, names, nameBytes, encoded.length);
+        nameBytes += encoded.length;
+
+        int index = size++;
+        columns.putLong(moneyBase + index * Long.BYTES, initialMoney);
+        columns.putInt(winBase + index * Integer.BYTES, 0);
+        columns.putInt(loseBase + index * Integer.BYTES, 0);
+        columns.putInt(drawBase + index * Integer.BYTES, 0);
+        columns.putInt(nameEndBase + index * Integer.BYTES, nameBytes);
+        return index;
+    }
+
+    /**
+     * 담긴 플레이어 수를 반환합니다.
+     *
+     * @return 플레이어 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 담을 수 있는 플레이어 수를 반환합니다.
+     *
+     * @return 저장소 크기
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 숫자 열을 힙 밖에 두었는지 확인합니다. 이름 바이트는 이 값과 상관없이 힙에 있습니다.
+     *
+     * @return 힙 밖에 두었으면 true
+     */
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * 담긴 플레이어가 실제로 쓰는 바이트 수를 반환합니다. (숫자 열 + 이름 바이트)
+     *
+     * @return 사용 중인 바이트 수
+     */
+    public long usedBytes() {
+        return (long) size * FIXED_BYTES + nameBytes;
+    }
+
+    /**
+     * 저장소가 잡아 둔 바이트 수를 반환합니다. (크기만큼의 숫자 열 + 이름 배열의 길이)
+     *
+     * 아직 채우지 않은 자리와 이름 배열의 남는 부분까지 포함하므로 {@link #usedBytes()}보다 크거나 같습니다.
+     *
+     * @return 할당한 바이트 수
+     */
+    public long allocatedBytes() {
+        return (long) capacity * FIXED_BYTES + names.length;
+    }
+
+    /**
+     * 이름 배열의 남는 부분을 돌려줍니다. 플레이어를 모두 추가한 뒤에 부르면 이름에 쓰는 메모리가 딱 맞게 줄어듭니다.
+     */
+    public void trimToSize() {
+        if (names.length > nameBytes) {
+            names = Arrays.copyOf(names, nameBytes);
+        }
+    }
+
+    /**
+     * 플레이어의 이름을 반환합니다. 부를 때마다 이름 바이트로 새 문자열을 만듭니다.
+     *
+     * @param index 플레이어 번호
+     * @return 이름
+     */
+    public String getName(int index) {
+        Objects.checkIndex(index, size);
+        int start = index == 0 ? 0 : columns.getInt(nameEndBase + (index - 1) * Integer.BYTES);
+        int end = columns.getInt(nameEndBase + index * Integer.BYTES);
+        return new String(names, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 플레이어의 자금을 반환합니다.
+     *
+     * @param index 플레이어 번호
+     * @return 자금
+     */
+    public long getMoney(int index) {
+        Objects.checkIndex(index, size);
+        return columns.getLong(moneyBase + index * Long.BYTES);
+    }
+
+    /**
+     * 플레이어에게 돈을 추가합니다.
+     *
+     * @param index 플레이어 번호
+     * @param amount 추가할 금액
+     * @throws IllegalArgumentException amount가 음수일 때
+     * @throws ArithmeticException 자금이 long 범위를 넘을 때 (자금은 그대로)
+     */
+    public void addMoney(int index, long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("금액은 음수일 수 없습니다.");
+        }
+        int at = moneyBase + Objects.checkIndex(index, size) * Long.BYTES;
+        columns.putLong(at, Math.addExact(columns.getLong(at), amount));
+    }
+
+    /**
+     * 잔액이 충분할 때만 플레이어로부터 돈을 차감합니다.
+     *
+     * @param index 플레이어 번호
+     * @param amount 차감할 금액
+     * @return 차감 성공 여부 (금액이 음수이거나 잔액 부족시 false)
+     */
+    public boolean removeMoney(int index, long amount) {
+        int at = moneyBase + Objects.checkIndex(index, size) * Long.BYTES;
+        long money = columns.getLong(at);
+        if (amount < 0 || money < amount) {
+            return false;
+        }
+        columns.putLong(at, money - amount);
+        return true;
+    }
+
+    /**
+     * 플레이어의 승리 횟수를 반환합니다.
+     *
+     * @param index 플레이어 번호
+     * @return 승리 횟수
+     */
+    public int getWinCount(int index) {
+        return columns.getInt(winBase + Objects.checkIndex(index, size) * Integer.BYTES);
+    }
+
+    /**
+     * 플레이어의 패배 횟수를 반환합니다.
+     *
+     * @param index 플레이어 번호
+     * @return 패배 횟수
+     */
+    public int getLoseCount(int index) {
+        return columns.getInt(loseBase + Objects.checkIndex(index, size) * Integer.BYTES);
+    }
+
+    /**
+     * 플레이어의 무승부 횟수를 반환합니다.
+     *
+     * @param index 플레이어 번호
+     * @return 무승부 횟수
+     */
+    public int getDrawCount(int index) {
+        return columns.getInt(drawBase + Objects.checkIndex(index, size) * Integer.BYTES);
+    }
+
+    /**
+     * 승리를 기록합니다.
+     *
+     * @param index 플레이어 번호
+     */
+    public void recordWin(int index) {
+        increment(winBase, index);
+    }
+
+    /**
+     * 패배를 기록합니다.
+     *
+     * @param index 플레이어 번호
+     */
+    public void recordLose(int index) {
+        increment(loseBase, index);
+    }
+
+    /**
+     * 무승부를 기록합니다.
+     *
+     * @param index 플레이어 번호
+     */
+    public void recordDraw(int index) {
+        increment(drawBase, index);
+    }
+
+    /**
+     * 모든 플레이어의 자금 합계를 구합니다. 자금 열만 순서대로 읽습니다.
+     *
+     * @return 자금 합계
+     * @throws ArithmeticException 합계가 long 범위를 넘을 때
+     */
+    public long totalMoney() {
+        long total = 0;
+        int end = moneyBase + size * Long.BYTES;
+        for (int at = moneyBase; at < end; at += Long.BYTES) {
+            total = Math.addExact(total, columns.getLong(at));
+        }
+        return total;
+    }
+
+    /**
+     * 저장소의 한 칸을 가리키는 참가자 뷰를 반환합니다.
+     *
+     * 뷰는 번호와 게임 중의 핸드만 가지며, 자금과 전적은 저장소에서 읽고 씁니다. 같은 번호의 뷰끼리는 같은 참가자로 취급합니다.
+     *
+     * @param index 플레이어 번호
+     * @return 참가자 뷰
+     */
+    public Participant view(int index) {
+        return new View(this, Objects.checkIndex(index, size));
+    }
+
+    /**
+     * 한 테이블에 앉을 플레이어들의 뷰 목록을 반환합니다. {@code Dealer.playGame()}에 그대로 넘길 수 있습니다.
+     *
+     * @param indexes 플레이어 번호들
+     * @return 변경할 수 없는 뷰 목록
+     */
+    public List<Participant> table(int... indexes) {
+        List<Participant> players = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            players.add(view(index));
+        }
+        return Collections.unmodifiableList(players);
+    }
+
+    private void increment(int base, int index) {
+        int at = base + Objects.checkIndex(index, size) * Integer.BYTES;
+        columns.putInt(at, columns.getInt(at) + 1);
+    }
+
+    /**
+     * 저장소의 한 칸을 가리키는 참가자
+     */
+    private static final class View implements Participant {
+        private final PlayerStore store;
+        private final int index;
+        private Hand hand = new Hand();
+
+        View(PlayerStore store, int index) {
+            this.store = store;
+            this.index = index;
+        }
+
+        @Override
+        public String getName() {
+            return store.getName(index);
+        }
+
+        @Override
+        public long getMoney() {
+            return store.getMoney(index);
+        }
+
+        @Override
+        public void addMoney(long amount) {
+            store.addMoney(index, amount);
+        }
+
+        @Override
+        public boolean removeMoney(long amount) {
+            return store.removeMoney(index, amount);
+        }
+
+        @Override
+        public Hand getHand() {
+            return hand;
+        }
+
+        @Override
+        public void setHand(Hand hand) {
+            if (hand == null) {
+                throw new IllegalArgumentException("핸드는 null일 수 없습니다.");
+            }
+            this.hand = hand;
+        }
+
+        @Override
+        public long getWinCount() {
+            return store.getWinCount(index);
+        }
+
+        @Override
+        public long getLoseCount() {
+            return store.getLoseCount(index);
+        }
+
+        @Override
+        public long getDrawCount() {
+            return store.getDrawCount(index);
+        }
+
+        @Override
+        public void recordWin() {
+            store.recordWin(index);
+        }
+
+        @Override
+        public void recordLose() {
+            store.recordLose(index);
+        }
+
+        @Override
+        public void recordDraw() {
+            store.recordDraw(index);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof View other && other.store == store && other.index == index;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(store) + index;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (자금: %d원, 전적: %d승 %d패 %d무)",
+                getName(), getMoney(), getWinCount(), getLoseCount(), getDrawCount());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package game.components.card;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CardCodec, CardSet 클래스 테스트
+ *
+ * <p>카드 코드 변환과 비트마스크 카드 묶음의 연산을 검증합니다.</p>
+ */
+public class CardSetTest {
+
+    @Test
+    @DisplayName("1. 카드 코드 변환 테스트 - 52장 모두 코드로 바꾸고 되돌릴 수 있는지 확인")
+    void testCodecRoundTrip() {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                // given
+                Card card = Card.of(suit, rank);
+
+                // when
+                int code = CardCodec.encode(card);
+
+                // then
+                assertSame(card, CardCodec.decode(code), card + "의 코드를 되돌리면 같은 카드여야 합니다.");
+                assertEquals(rank, CardCodec.rankOf(code), card + "의 코드에서 랭크를 꺼낼 수 있어야 합니다.");
+                assertEquals(suit, CardCodec.suitOf(code), card + "의 코드에서 무늬를 꺼낼 수 있어야 합니다.");
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> CardCodec.encode(null),
+            "null 카드는 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> CardCodec.rankOf(52),
+            "52 이상의 코드는 IllegalArgumentException이 발생해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("2. 카드 묶음 연산 테스트 - 추가, 제거, 포함 여부, 장 수")
+    void testSetOperations() {
+        // given
+        int aceOfSpades = CardCodec.encode(Card.of(Suit.SPADES, Rank.ACE));
+        int kingOfHearts = CardCodec.encode(Card.of(Suit.HEARTS, Rank.KING));
+
+        // when
+        long set = CardSet.add(CardSet.add(CardSet.EMPTY, aceOfSpades), kingOfHearts);
+
+        // then
+        assertEquals(2, CardSet.size(set));
+        assertTrue(CardSet.contains(set, aceOfSpades), "추가한 카드가 있어야 합니다.");
+        assertEquals(set, CardSet.add(set, aceOfSpades), "이미 있는 카드를 추가해도 그대로여야 합니다.");
+
+        set = CardSet.remove(set, aceOfSpades);
+        assertFalse(CardSet.contains(set, aceOfSpades), "제거한 카드는 없어야 합니다.");
+        assertEquals(1, CardSet.size(set));
+        assertEquals(52, CardSet.size(CardSet.FULL_DECK), "52장 전체 묶음은 52장이어야 합니다.");
+
+        assertThrows(IllegalArgumentException.class, () -> CardSet.add(CardSet.EMPTY, 64),
+            "잘못된 코드를 추가하면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> CardSet.first(CardSet.EMPTY),
+            "빈 묶음의 첫 카드를 찾으면 IllegalArgumentException이 발생해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("3. 카드 묶음 순회 테스트 - 코드가 작은 카드부터 차례로 꺼내는지 확인")
+    void testIteration() {
+        // given
+        Card twoOfDiamonds = Card.of(Suit.DIAMONDS, Rank.TWO);
+        Card aceOfSpades = Card.of(Suit.SPADES, Rank.ACE);
+        Card tenOfHearts = Card.of(Suit.HEARTS, Rank.TEN);
+        long set = CardSet.of(twoOfDiamonds, aceOfSpades, tenOfHearts);
+
+        // when
+        List<Integer> codes = new ArrayList<>();
+        CardSet.forEach(set, codes::add);
+        List<Integer> stepped = new ArrayList<>();
+        for (long s = set; s != CardSet.EMPTY; s = CardSet.rest(s)) {
+            stepped.add(CardSet.first(s));
+        }
+
+        // then
+        List<Integer> expected = List.of(aceOfSpades.index(), tenOfHearts.index(), twoOfDiamonds.index());
+        assertEquals(expected, codes, "forEach()는 코드가 작은 카드부터 넘겨줘야 합니다.");
+        assertEquals(expected, stepped, "first()/rest()로도 같은 순서로 꺼낼 수 있어야 합니다.");
+        assertEquals(List.of(aceOfSpades, tenOfHearts, twoOfDiamonds), CardSet.toList(set));
+        assertThrows(IllegalArgumentException.class, () -> CardSet.toList(1L << 60),
+            "52장 밖의 비트가 있으면 IllegalArgumentException이 발생해야 합니다.");
+    }
+}
@@ -31,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.*;
  *   <li>equals() 테스트 - 카드 동등성 비교</li>
  *   <li>hashCode() 테스트 - equals()와 일관성 확인</li>
  *   <li>실제 게임 시나리오 테스트 - 포커 게임에서의 카드 비교</li>
+ *   <li>인스턴스 공유 테스트 - 같은 카드는 같은 인스턴스인지, 인덱스로 찾을 수 있는지</li>
  * </ol>
  * 
  * @author XIYO
@@ -46,8 +47,8 @@ public class CardTest {
         Suit expectedSuit = Suit.SPADES;     // 예상 무늬: 스페이드
         Rank expectedRank = Rank.ACE;        // 예상 랭크: 에이스
         
-        // when (실행) - Card 생성자를 호출합니다
-        Card card = new Card(expectedSuit, expectedRank);
+        // when (실행) - Card.of()를 호출합니다
+        Card card = Card.of(expectedSuit, expectedRank);
         
         // then (검증) - 생성된 카드의 속성을 확인합니다
         assertEquals(expectedSuit, card.getSuit(), 
@@ -65,21 +66,21 @@ public class CardTest {
     @DisplayName("2. null 입력 방어 테스트 - 생성자가 null을 올바르게 처리하는지 확인")
     void testCardCreationWithNull() {
         // 무늬가 null일 때
-        assertThrows(IllegalArgumentException.class, () -> new Card(null, Rank.ACE),
+        assertThrows(IllegalArgumentException.class, () -> Card.of(null, Rank.ACE),
             "무늬(Suit)가 null일 때 IllegalArgumentException이 발생해야 합니다.\n" +
-            "생성자에서 if (suit == null) 체크를 추가하세요.");
+            "Card.of()에서 if (suit == null) 체크를 추가하세요.");
             
         // 랭크가 null일 때
-        assertThrows(IllegalArgumentException.class, () -> new Card(Suit.SPADES, null),
+        assertThrows(IllegalArgumentException.class, () -> Card.of(Suit.SPADES, null),
             "랭크(Rank)가 null일 때 IllegalArgumentException이 발생해야 합니다.\n" +
-            "생성자에서 if (rank == null) 체크를 추가하세요.");
+            "Card.of()에서 if (rank == null) 체크를 추가하세요.");
     }
     
     @Test
     @DisplayName("3. toString() 테스트 - 카드가 올바른 형식으로 출력되는지 확인")
     void testCardToString() {
         // 테스트 케이스 1: 스페이드 에이스
-        Card aceOfSpades = new Card(Suit.SPADES, Rank.ACE);
+        Card aceOfSpades = Card.of(Suit.SPADES, Rank.ACE);
         String result1 = aceOfSpades.toString();
         
         // toString()은 "랭크심볼+무늬기호" 형식이어야 합니다
@@ -90,7 +91,7 @@ public class CardTest {
             "힌트: rank.getSymbol() + suit.getSymbol()을 사용하세요.");
         
         // 테스트 케이스 2: 하트 10
-        Card tenOfHearts = new Card(Suit.HEARTS, Rank.TEN);
+        Card tenOfHearts = Card.of(Suit.HEARTS, Rank.TEN);
         String result2 = tenOfHearts.toString();
         assertTrue(result2.contains("10") && result2.contains("♥"), 
             "하트 10의 toString() 결과가 올바르지 않습니다.\n" +
@@ -102,17 +103,17 @@ public class CardTest {
     @DisplayName("4. getValue() 테스트 - 포커 게임에서의 카드 값이 올바른지 확인")
     void testGetValue() {
         // 각 랭크별 예상 값
-        assertEquals(2, new Card(Suit.SPADES, Rank.TWO).getValue(), 
+        assertEquals(2, Card.of(Suit.SPADES, Rank.TWO).getValue(), 
             "TWO의 getValue()는 2를 반환해야 합니다.\n" +
             "힌트: return rank.getValue(); 를 사용하세요.");
             
-        assertEquals(10, new Card(Suit.HEARTS, Rank.TEN).getValue(), 
+        assertEquals(10, Card.of(Suit.HEARTS, Rank.TEN).getValue(), 
             "TEN의 getValue()는 10을 반환해야 합니다.");
             
-        assertEquals(11, new Card(Suit.DIAMONDS, Rank.JACK).getValue(), 
+        assertEquals(11, Card.of(Suit.DIAMONDS, Rank.JACK).getValue(), 
             "JACK의 getValue()는 11을 반환해야 합니다.");
             
-        assertEquals(14, new Card(Suit.CLUBS, Rank.ACE).getValue(), 
+        assertEquals(14, Card.of(Suit.CLUBS, Rank.ACE).getValue(), 
             "ACE의 getValue()는 14를 반환해야 합니다.\n" +
             "ACE는 포커에서 가장 강한 카드입니다.");
     }
@@ -120,9 +121,9 @@ public class CardTest {
     @Test
     @DisplayName("5. compareTo() 테스트 - 다른 랭크의 카드 비교")
     void testCompareToWithDifferentRanks() {
-        Card ace = new Card(Suit.SPADES, Rank.ACE);      // 가장 강한 카드
-        Card king = new Card(Suit.HEARTS, Rank.KING);    // 두 번째로 강한 카드
-        Card two = new Card(Suit.DIAMONDS, Rank.TWO);    // 가장 약한 카드
+        Card ace = Card.of(Suit.SPADES, Rank.ACE);      // 가장 강한 카드
+        Card king = Card.of(Suit.HEARTS, Rank.KING);    // 두 번째로 강한 카드
+        Card two = Card.of(Suit.DIAMONDS, Rank.TWO);    // 가장 약한 카드
         
         // ACE > KING
         assertTrue(ace.compareTo(king) > 0, 
@@ -147,10 +148,10 @@ public class CardTest {
     @DisplayName("6. compareTo() 테스트 - 같은 랭크일 때 무늬 비교")
     void testCompareToWithSameRank() {
         // 모두 ACE이지만 무늬가 다른 카드들
-        Card aceSpades = new Card(Suit.SPADES, Rank.ACE);
-        Card aceHearts = new Card(Suit.HEARTS, Rank.ACE);
-        Card aceDiamonds = new Card(Suit.DIAMONDS, Rank.ACE);
-        Card aceClubs = new Card(Suit.CLUBS, Rank.ACE);
+        Card aceSpades = Card.of(Suit.SPADES, Rank.ACE);
+        Card aceHearts = Card.of(Suit.HEARTS, Rank.ACE);
+        Card aceDiamonds = Card.of(Suit.DIAMONDS, Rank.ACE);
+        Card aceClubs = Card.of(Suit.CLUBS, Rank.ACE);
         
         // Suit enum의 선언 순서: SPADES < HEARTS < DIAMONDS < CLUBS
         assertTrue(aceSpades.compareTo(aceHearts) < 0, 
@@ -161,7 +162,7 @@ public class CardTest {
             "return this.suit.compareTo(other.getSuit());");
             
         // 같은 카드끼리 비교
-        Card anotherAceSpades = new Card(Suit.SPADES, Rank.ACE);
+        Card anotherAceSpades = Card.of(Suit.SPADES, Rank.ACE);
         assertEquals(0, aceSpades.compareTo(anotherAceSpades), 
             "compareTo() 오류: 완전히 같은 카드는 0을 반환해야 합니다.");
     }
@@ -169,10 +170,10 @@ public class CardTest {
     @Test
     @DisplayName("7. equals() 테스트 - 카드 동등성 비교")
     void testEquals() {
-        Card card1 = new Card(Suit.HEARTS, Rank.QUEEN);
-        Card card2 = new Card(Suit.HEARTS, Rank.QUEEN);  // card1과 같음
-        Card card3 = new Card(Suit.HEARTS, Rank.KING);   // 다른 랭크
-        Card card4 = new Card(Suit.SPADES, Rank.QUEEN);  // 다른 무늬
+        Card card1 = Card.of(Suit.HEARTS, Rank.QUEEN);
+        Card card2 = Card.of(Suit.HEARTS, Rank.QUEEN);  // card1과 같음
+        Card card3 = Card.of(Suit.HEARTS, Rank.KING);   // 다른 랭크
+        Card card4 = Card.of(Suit.SPADES, Rank.QUEEN);  // 다른 무늬
         
         // 같은 카드
         assertEquals(card1, card2, 
@@ -205,9 +206,9 @@ public class CardTest {
     @Test
     @DisplayName("8. hashCode() 테스트 - equals()와 일관성 확인")
     void testHashCode() {
-        Card card1 = new Card(Suit.HEARTS, Rank.QUEEN);
-        Card card2 = new Card(Suit.HEARTS, Rank.QUEEN);  // card1과 같음
-        Card card3 = new Card(Suit.SPADES, Rank.QUEEN);  // 다름
+        Card card1 = Card.of(Suit.HEARTS, Rank.QUEEN);
+        Card card2 = Card.of(Suit.HEARTS, Rank.QUEEN);  // card1과 같음
+        Card card3 = Card.of(Suit.SPADES, Rank.QUEEN);  // 다름
         
         // equals()가 true이면 hashCode()도 같아야 함
         assertEquals(card1.hashCode(), card2.hashCode(), 
@@ -225,18 +226,43 @@ public class CardTest {
     @DisplayName("9. 실제 게임 시나리오 테스트 - 포커 게임에서의 카드 비교")
     void testRealGameScenario() {
         // 시나리오: 플레이어가 Q를 가지고, 딜러가 J을 가진 경우
-        Card playerCard = new Card(Suit.HEARTS, Rank.QUEEN);
-        Card dealerCard = new Card(Suit.SPADES, Rank.JACK);
+        Card playerCard = Card.of(Suit.HEARTS, Rank.QUEEN);
+        Card dealerCard = Card.of(Suit.SPADES, Rank.JACK);
         
         assertTrue(playerCard.compareTo(dealerCard) > 0, 
             "게임 시나리오 오류: 플레이어의 Queen이 딜러의 Jack을 이겨야 합니다.");
         
         // 시나리오: 두 플레이어가 같은 랭크(K)를 가진 경우
-        Card player1King = new Card(Suit.HEARTS, Rank.KING);
-        Card player2King = new Card(Suit.DIAMONDS, Rank.KING);
+        Card player1King = Card.of(Suit.HEARTS, Rank.KING);
+        Card player2King = Card.of(Suit.DIAMONDS, Rank.KING);
         
         assertTrue(player2King.compareTo(player1King) > 0, 
             "게임 시나리오 오류: 같은 King일 때, 다이아몬드가 하트보다 높아야 합니다.\n" +
             "Suit의 enum 순서를 확인하세요: SPADES < HEARTS < DIAMONDS < CLUBS");
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("10. 인스턴스 공유 테스트 - 같은 카드는 같은 인스턴스이고 인덱스로 찾을 수 있는지 확인")
+    void testCanonicalInstances() {
+        // given & when
+        Card first = Card.of(Suit.CLUBS, Rank.SEVEN);
+        Card second = Card.of(Suit.CLUBS, Rank.SEVEN);
+        
+        // then
+        assertSame(first, second, "같은 무늬와 랭크의 카드는 같은 인스턴스여야 합니다.");
+        
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                Card card = Card.of(suit, rank);
+                assertEquals(suit.ordinal() * 13 + rank.ordinal(), card.index(),
+                    card + "의 인덱스는 무늬 순서값 × 13 + 랭크 순서값이어야 합니다.");
+                assertSame(card, Card.fromIndex(card.index()), card + "를 인덱스로 다시 찾을 수 있어야 합니다.");
+            }
+        }
+        
+        assertThrows(IllegalArgumentException.class, () -> Card.fromIndex(-1),
+            "인덱스가 음수이면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> Card.fromIndex(Card.COUNT),
+            "인덱스가 52 이상이면 IllegalArgumentException이 발생해야 합니다.");
+    }
+}
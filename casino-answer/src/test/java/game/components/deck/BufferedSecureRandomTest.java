@@ -0,0 +1,64 @@
+package game.components.deck;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BufferedSecureRandom 클래스 테스트
+ *
+ * <p>묶음으로 받은 바이트로 만든 값이 범위 안에 고르게 나오는지 검증합니다.</p>
+ */
+public class BufferedSecureRandomTest {
+
+    @Test
+    @DisplayName("1. 분포 테스트 - nextInt(52)가 모든 값을 고르게 내는지 확인")
+    void testUniformSmallBound() {
+        // given - 묶음을 여러 번 새로 받도록 작은 묶음 크기
+        BufferedSecureRandom random = new BufferedSecureRandom(new SecureRandom(), 64);
+        int[] counts = new int[52];
+
+        // when
+        for (int i = 0; i < 104_000; i++) {
+            counts[random.nextInt(52)]++;
+        }
+
+        // then - 값마다 기대값 2000, 표준편차 약 44
+        for (int value = 0; value < counts.length; value++) {
+            assertTrue(counts[value] > 1700 && counts[value] < 2300,
+                value + "가 나온 횟수가 고르지 않습니다: " + counts[value]);
+        }
+    }
+
+    @Test
+    @DisplayName("2. 범위 테스트 - 여러 bound에서 값이 범위 안에 있는지 확인")
+    void testBounds() {
+        BufferedSecureRandom random = new BufferedSecureRandom();
+        for (int bound : new int[]{1, 2, 52, 255, 256, 257, 416, 65_536, 1_000_000}) {
+            for (int i = 0; i < 1_000; i++) {
+                int value = random.nextInt(bound);
+                assertTrue(value >= 0 && value < bound, "nextInt(" + bound + ")가 범위를 벗어났습니다: " + value);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(0),
+            "bound가 0이면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> new BufferedSecureRandom(new SecureRandom(), 4),
+            "묶음 크기가 8바이트보다 작으면 IllegalArgumentException이 발생해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("3. 덱 연동 테스트 - 덱을 섞는 난수 생성기로 사용할 수 있는지 확인")
+    void testShufflesDeck() {
+        Deck deck = new Deck(new BufferedSecureRandom(), ShuffleMode.EAGER);
+        deck.shuffle();
+        int drawn = 0;
+        while (!deck.isEmpty()) {
+            deck.drawCard();
+            drawn++;
+        }
+        assertEquals(52, drawn, "섞은 뒤에도 52장을 모두 뽑을 수 있어야 합니다.");
+    }
+}
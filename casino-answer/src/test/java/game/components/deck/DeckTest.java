@@ -3,13 +3,17 @@ package game.components.deck;
 import game.components.card.Card;
 import game.components.card.Rank;
 import game.components.card.Suit;
+import game.components.hand.Hand;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.List;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -37,6 +41,13 @@ import static org.junit.jupiter.api.Assertions.*;
  *   <li>isEmpty() 테스트 - 빈 덱을 올바르게 감지하는지</li>
  *   <li>연속 카드 뽑기 테스트 - 여러 장을 연속으로 뽑을 때</li>
  *   <li>실제 게임 시나리오 테스트 - 블랙잭 게임 시뮬레이션</li>
+ *   <li>reset() 테스트 - 뽑은 카드를 되돌려 52장이 되는지</li>
+ *   <li>reshuffle() 테스트 - 같은 저장 공간으로 다시 섞는지</li>
+ *   <li>시드 테스트 - 같은 시드의 덱은 같은 순서로 섞이는지</li>
+ *   <li>LAZY 셔플 테스트 - 뽑은 카드 수만큼만 난수를 쓰는지</li>
+ *   <li>LAZY 셔플 분포 테스트 - 모든 카드가 고르게 나오는지</li>
+ *   <li>dealInto() 테스트 - drawCard()로 돌아가며 나눠준 것과 같은지</li>
+ *   <li>dealInto() 예외 테스트 - 자리가 부족하면(같은 손패가 여러 번 있을 때 포함) 아무것도 바꾸지 않는지</li>
  * </ol>
  * 
  * @author XIYO
@@ -46,20 +57,37 @@ import static org.junit.jupiter.api.Assertions.*;
 public class DeckTest {
 
     /**
-     * 리플렉션을 사용하여 private cards 필드에 접근하는 헬퍼 메서드
+     * 리플렉션을 사용하여 private cards, top 필드에서 남은 카드를 읽는 헬퍼 메서드
      * 
      * <p>테스트 목적으로만 사용되며, 실제 코드에서는 사용하지 않아야 합니다.</p>
      * 
      * @param deck 카드 리스트를 가져올 Deck 객체
-     * @return Deck 객체의 cards 필드
+     * @return Deck 객체의 cards 배열 중 아직 뽑지 않은 [top, 52) 구간
      * @throws RuntimeException 리플렉션 접근 실패 시
      */
-    @SuppressWarnings("unchecked")
     private List<Card> getCardsFromDeck(Deck deck) {
+        Card[] cards = getCardArray(deck);
+        try {
+            Field topField = Deck.class.getDeclaredField("top");
+            topField.setAccessible(true);
+            return Arrays.asList(cards).subList(topField.getInt(deck), cards.length);
+        } catch (Exception e) {
+            throw new RuntimeException("리플렉션을 통한 top 필드 접근 실패", e);
+        }
+    }
+    
+    /**
+     * 리플렉션을 사용하여 private cards 배열 자체를 가져오는 헬퍼 메서드
+     * 
+     * @param deck 카드 배열을 가져올 Deck 객체
+     * @return Deck 객체의 cards 필드
+     * @throws RuntimeException 리플렉션 접근 실패 시
+     */
+    private Card[] getCardArray(Deck deck) {
         try {
             Field cardsField = Deck.class.getDeclaredField("cards");
             cardsField.setAccessible(true);
-            return (List<Card>) cardsField.get(deck);
+            return (Card[]) cardsField.get(deck);
         } catch (Exception e) {
             throw new RuntimeException("리플렉션을 통한 cards 필드 접근 실패", e);
         }
@@ -145,8 +173,7 @@ public class DeckTest {
         
         assertNotEquals(orderBefore.toString(), orderAfter.toString(),
             "shuffle() 호출 후 카드 순서가 변경되지 않았습니다.\n" +
-            "힌트: Collections.shuffle() 메서드를 사용하세요.\n" +
-            "구현 예시: Collections.shuffle(cards);");
+            "힌트: 피셔-예이츠 셔플로 카드를 맞바꾸세요.");
             
         // 여전히 모든 카드가 존재하는지 확인
         Set<String> cardsAfterShuffle = new HashSet<>();
@@ -177,13 +204,13 @@ public class DeckTest {
             "drawCard() 호출 후 덱의 카드 수가 1장 줄어야 합니다.\n" +
             "이전 카드 수: " + initialSize + "\n" +
             "현재 카드 수: " + remainingCards.size() + "\n" +
-            "힌트: cards.remove(0) 또는 cards.remove(cards.size()-1)을 사용하세요.");
+            "힌트: cards[top++]처럼 다음에 뽑을 위치를 옮기세요.");
         
         // 뽑은 카드가 덱에서 제거되었는지 확인
         for (Card card : remainingCards) {
             assertNotSame(drawnCard, card, 
                 "뽑은 카드가 여전히 덱에 있습니다.\n" +
-                "remove() 메서드를 호출하여 카드를 제거했는지 확인하세요.");
+                "top을 옮겨 카드를 덱에서 뺐는지 확인하세요.");
         }
     }
     
@@ -214,7 +241,7 @@ public class DeckTest {
         assertFalse(deck.isEmpty(), 
             "새로 생성된 덱은 비어있지 않아야 합니다.\n" +
             "isEmpty()가 true를 반환했습니다.\n" +
-            "힌트: return cards.isEmpty();");
+            "힌트: return top == cards.length;");
         
         // 모든 카드를 뽑은 후
         for (int i = 0; i < 52; i++) {
@@ -225,7 +252,7 @@ public class DeckTest {
         assertTrue(deck.isEmpty(), 
             "52장을 모두 뽑은 후 덱은 비어있어야 합니다.\n" +
             "isEmpty()가 false를 반환했습니다.\n" +
-            "cards 리스트가 비었는지 확인하세요.");
+            "남은 카드 수가 0인지 확인하세요.");
     }
     
     @Test
@@ -284,4 +311,216 @@ public class DeckTest {
         assertEquals(48, getCardsFromDeck(deck).size(), 
             "4장을 배분한 후 덱에는 48장이 남아야 합니다.");
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("8. reset() 테스트 - 뽑은 카드를 되돌려 52장의 새 덱이 되는지 확인")
+    void testReset() {
+        // given (준비) - 섞고 몇 장 뽑은 덱
+        Deck deck = new Deck();
+        List<Card> freshOrder = List.copyOf(getCardsFromDeck(deck));
+        deck.shuffle();
+        for (int i = 0; i < 20; i++) {
+            deck.drawCard();
+        }
+        
+        // when (실행)
+        deck.reset();
+        
+        // then (검증)
+        assertEquals(52, deck.size(), "reset() 후에는 52장이 남아야 합니다.");
+        assertEquals(freshOrder, getCardsFromDeck(deck),
+            "reset() 후에는 새 덱과 같은 순서여야 합니다.");
+    }
+    
+    @Test
+    @DisplayName("9. reshuffle() 테스트 - 같은 저장 공간을 재사용해 다시 섞는지 확인")
+    void testReshuffleReusesStorage() {
+        // given (준비) - 모두 뽑은 덱
+        Deck deck = new Deck();
+        Card[] storage = getCardArray(deck);
+        while (!deck.isEmpty()) {
+            deck.drawCard();
+        }
+        
+        // when (실행)
+        deck.reshuffle();
+        
+        // then (검증)
+        assertSame(storage, getCardArray(deck), "reshuffle()은 카드 배열을 새로 만들지 않아야 합니다.");
+        assertEquals(52, new HashSet<>(getCardsFromDeck(deck)).size(),
+            "reshuffle() 후에는 서로 다른 52장이 모두 있어야 합니다.");
+        for (int i = 0; i < 5; i++) {
+            deck.drawCard();
+        }
+        assertEquals(47, deck.size(), "size()는 남은 카드 수를 반환해야 합니다.");
+    }
+    
+    @Test
+    @DisplayName("10. 시드 테스트 - 같은 시드의 덱은 같은 순서로, 나눈 난수 생성기의 덱은 다른 순서로 섞이는지 확인")
+    void testSeededShuffle() {
+        // given (준비)
+        Deck deck1 = Deck.seeded(42);
+        Deck deck2 = new Deck(new SplittableRandom(42));
+        SplittableRandom root = new SplittableRandom(42);
+        Deck table1 = new Deck(root.split());
+        Deck table2 = new Deck(root.split());
+        
+        // when (실행)
+        deck1.shuffle();
+        deck2.shuffle();
+        table1.shuffle();
+        table2.shuffle();
+        
+        // then (검증)
+        assertEquals(getCardsFromDeck(deck1), getCardsFromDeck(deck2),
+            "같은 시드로 섞은 두 덱은 순서가 같아야 합니다.");
+        assertNotEquals(getCardsFromDeck(table1), getCardsFromDeck(table2),
+            "split()으로 나눈 난수 생성기로 섞은 두 덱은 순서가 달라야 합니다.");
+        
+        deck1.reshuffle();
+        deck2.reshuffle();
+        assertEquals(getCardsFromDeck(deck1), getCardsFromDeck(deck2),
+            "같은 시드의 덱은 다음 셔플도 같은 순서여야 합니다.");
+        
+        assertThrows(IllegalArgumentException.class, () -> new Deck(null),
+            "null 난수 생성기로 만들면 IllegalArgumentException이 발생해야 합니다.");
+    }
+    
+    @Test
+    @DisplayName("11. LAZY 셔플 테스트 - 뽑은 카드 수만큼만 난수를 쓰는지 확인")
+    void testLazyShuffleDrawsRandomPerCard() {
+        // given (준비) - 난수를 뽑은 횟수를 세는 생성기
+        int[] calls = new int[1];
+        SplittableRandom source = new SplittableRandom(1);
+        RandomGenerator counting = new RandomGenerator() {
+            @Override
+            public long nextLong() {
+                return source.nextLong();
+            }
+            
+            @Override
+            public int nextInt(int bound) {
+                calls[0]++;
+                return source.nextInt(bound);
+            }
+        };
+        Deck deck = new Deck(counting, ShuffleMode.LAZY);
+        
+        // when (실행) - 2명에게 5장씩
+        deck.shuffle();
+        Set<Card> dealt = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            dealt.add(deck.drawCard());
+        }
+        
+        // then (검증)
+        assertEquals(10, calls[0], "LAZY 덱은 뽑은 카드 수만큼만 난수를 뽑아야 합니다.");
+        assertEquals(10, dealt.size(), "뽑은 카드는 모두 달라야 합니다.");
+        assertEquals(42, deck.size(), "10장을 뽑은 후 덱에는 42장이 남아야 합니다.");
+        
+        // reset() 후에는 섞지 않은 순서로 뽑혀야 함
+        deck.reset();
+        assertEquals(Card.of(Suit.SPADES, Rank.TWO), deck.drawCard(),
+            "reset() 후 shuffle()하지 않으면 처음 순서대로 뽑혀야 합니다.");
+        assertEquals(10, calls[0], "shuffle()하지 않은 덱은 난수를 뽑지 않아야 합니다.");
+    }
+    
+    @Test
+    @DisplayName("12. LAZY 셔플 분포 테스트 - 모든 카드가 고르게 나오는지 확인")
+    void testLazyShuffleIsUniform() {
+        // given (준비)
+        Deck deck = new Deck(new SplittableRandom(2024), ShuffleMode.LAZY);
+        int trials = 52_000;
+        int[] firstCard = new int[52];
+        int[] fifthCard = new int[52];
+        
+        // when (실행) - 매번 다시 섞어 1번째, 5번째 카드를 기록
+        for (int t = 0; t < trials; t++) {
+            deck.reshuffle();
+            firstCard[deck.drawCard().index()]++;
+            for (int i = 0; i < 3; i++) {
+                deck.drawCard();
+            }
+            fifthCard[deck.drawCard().index()]++;
+        }
+        
+        // then (검증) - 카드마다 기대값 1000, 표준편차 약 31
+        for (int i = 0; i < 52; i++) {
+            assertTrue(firstCard[i] > 850 && firstCard[i] < 1150,
+                Card.fromIndex(i) + "가 첫 카드로 나온 횟수가 고르지 않습니다: " + firstCard[i]);
+            assertTrue(fifthCard[i] > 850 && fifthCard[i] < 1150,
+                Card.fromIndex(i) + "가 다섯 번째 카드로 나온 횟수가 고르지 않습니다: " + fifthCard[i]);
+        }
+    }
+    
+    @Test
+    @DisplayName("13. dealInto() 테스트 - drawCard()로 한 장씩 돌아가며 나눠준 것과 같은지 확인")
+    void testDealIntoMatchesDrawCard() {
+        for (ShuffleMode mode : ShuffleMode.values()) {
+            // given (준비) - 같은 시드의 두 덱
+            Deck bulk = new Deck(new SplittableRandom(99), mode);
+            Deck single = new Deck(new SplittableRandom(99), mode);
+            bulk.shuffle();
+            single.shuffle();
+            Hand[] bulkHands = {new Hand(), new Hand(), new Hand(), new Hand()};
+            Hand[] singleHands = {new Hand(), new Hand(), new Hand(), new Hand()};
+            
+            // when (실행)
+            bulk.dealInto(bulkHands, 5);
+            for (int i = 0; i < 5; i++) {
+                for (Hand hand : singleHands) {
+                    hand.add(single.drawCard());
+                }
+            }
+            
+            // then (검증)
+            for (int h = 0; h < bulkHands.length; h++) {
+                assertEquals(singleHands[h].getCards(), bulkHands[h].getCards(),
+                    mode + " 덱의 dealInto()는 " + (h + 1) + "번째 손패에 drawCard()와 같은 카드를 나눠줘야 합니다.");
+                assertEquals(singleHands[h].strength(), bulkHands[h].strength(),
+                    "dealInto()로 받은 손패도 같은 강도로 판정되어야 합니다.");
+            }
+            assertEquals(32, bulk.size(), "20장을 나눠준 후 덱에는 32장이 남아야 합니다.");
+            assertSame(single.drawCard(), bulk.drawCard(), "나눠준 다음 카드도 같아야 합니다.");
+        }
+    }
+    
+    @Test
+    @DisplayName("14. dealInto() 예외 테스트 - 자리나 카드가 부족하면 아무것도 바꾸지 않는지 확인")
+    void testDealIntoChecksCapacityFirst() {
+        // given (준비) - 두 번째 손패에는 이미 3장이 있음
+        Deck deck = new Deck();
+        Hand empty = new Hand();
+        Hand partial = new Hand();
+        for (int i = 0; i < 3; i++) {
+            partial.add(deck.drawCard());
+        }
+        
+        // when & then
+        assertThrows(IllegalStateException.class, () -> deck.dealInto(new Hand[]{empty, partial}, 5),
+            "5장을 더 받을 자리가 없는 손패가 있으면 IllegalStateException이 발생해야 합니다.");
+        assertEquals(0, empty.getCards().size(), "예외가 발생하면 앞의 손패도 카드를 받지 않아야 합니다.");
+        assertEquals(49, deck.size(), "예외가 발생하면 덱에서 카드가 빠지지 않아야 합니다.");
+        
+        Hand[] tenHands = new Hand[10];
+        for (int i = 0; i < tenHands.length; i++) {
+            tenHands[i] = new Hand();
+        }
+        assertThrows(IllegalStateException.class, () -> deck.dealInto(tenHands, 5),
+            "덱에 카드가 부족하면 IllegalStateException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> deck.dealInto(new Hand[]{empty, null}, 1),
+            "null 손패가 있으면 IllegalArgumentException이 발생해야 합니다.");
+        assertEquals(49, deck.size());
+        
+        // 같은 손패가 두 번 있으면 2장씩 두 번, 모두 4장을 받아야 하지만 자리는 2장뿐
+        assertThrows(IllegalStateException.class, () -> deck.dealInto(new Hand[]{empty, partial, partial}, 2),
+            "같은 손패가 여러 번 있으면 받을 카드를 모두 더해 자리를 확인해야 합니다.");
+        assertEquals(0, empty.getCards().size(), "예외가 발생하면 앞의 손패도 카드를 받지 않아야 합니다.");
+        assertEquals(3, partial.getCards().size(), "예외가 발생하면 손패가 카드를 받지 않아야 합니다.");
+        assertEquals(49, deck.size());
+        
+        deck.dealInto(new Hand[]{partial, partial}, 1);
+        assertTrue(partial.isFull(), "같은 손패가 두 번 있으면 두 번 모두 카드를 받아야 합니다.");
+        assertEquals(47, deck.size());
+    }
+}
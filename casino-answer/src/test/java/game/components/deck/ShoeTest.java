@@ -0,0 +1,75 @@
+package game.components.deck;
+
+import game.components.card.Card;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shoe 클래스 테스트
+ *
+ * <p>여러 벌의 덱을 담은 슈의 구성, 컷 카드, 다시 섞기를 검증합니다.</p>
+ */
+public class ShoeTest {
+
+    @Test
+    @DisplayName("1. 슈 구성 테스트 - 6벌이면 카드마다 6장씩 312장인지 확인")
+    void testShoeHoldsAllDecks() {
+        // given
+        Shoe shoe = new Shoe(6, 1.0, new SplittableRandom(1));
+        shoe.shuffle();
+
+        // when - 전부 뽑기
+        int[] counts = new int[Card.COUNT];
+        while (shoe.size() > 0) {
+            counts[shoe.drawCode()]++;
+        }
+
+        // then
+        for (int code = 0; code < Card.COUNT; code++) {
+            assertEquals(6, counts[code], Card.fromIndex(code) + "는 6장이어야 합니다.");
+        }
+        assertThrows(IllegalStateException.class, shoe::drawCard,
+            "빈 슈에서 뽑으면 IllegalStateException이 발생해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("2. 컷 카드 테스트 - penetration 비율만큼 뽑으면 컷 카드가 나오는지 확인")
+    void testCutCard() {
+        // given - 8벌 416장, 75% = 312장
+        Shoe shoe = new Shoe(8, 0.75, new SplittableRandom(2));
+        shoe.shuffle();
+        assertEquals(312, shoe.getCutPosition());
+
+        // when & then
+        for (int i = 0; i < 311; i++) {
+            shoe.drawCard();
+        }
+        assertFalse(shoe.isCutCardReached(), "311장을 뽑았을 때는 컷 카드가 나오지 않아야 합니다.");
+        shoe.drawCard();
+        assertTrue(shoe.isCutCardReached(), "312장을 뽑으면 컷 카드가 나와야 합니다.");
+        assertEquals(104, shoe.size());
+
+        shoe.shuffle();
+        assertFalse(shoe.isCutCardReached(), "다시 섞으면 컷 카드 전으로 돌아가야 합니다.");
+        assertEquals(416, shoe.size(), "다시 섞으면 모든 카드가 돌아와야 합니다.");
+    }
+
+    @Test
+    @DisplayName("3. 잘못된 설정에 대한 예외 확인")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(0, 0.75),
+            "덱이 없으면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(Shoe.MAX_DECKS + 1, 0.75),
+            "최대 덱 수를 넘으면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(6, 0),
+            "penetration이 0이면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(6, Double.NaN),
+            "penetration이 NaN이면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(6, 0.75, null),
+            "null 난수 생성기로 만들면 IllegalArgumentException이 발생해야 합니다.");
+    }
+}
@@ -0,0 +1,133 @@
+package game.components.deck;
+
+import game.components.card.Card;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ShuffledDeckSupplier 클래스 테스트
+ *
+ * <p>미리 섞은 덱 순서가 시드로 재현되는지, 링 버퍼의 지표가 올바른지 검증합니다.</p>
+ */
+public class ShuffledDeckSupplierTest {
+
+    private static List<Card> drawAll(Deck deck) {
+        List<Card> cards = new ArrayList<>(Card.COUNT);
+        while (!deck.isEmpty()) {
+            cards.add(deck.drawCard());
+        }
+        return cards;
+    }
+
+    @Test
+    @DisplayName("1. 재현성 테스트 - 생산자 스레드 수와 상관없이 같은 시드면 같은 덱이 같은 차례로 나오는지 확인")
+    void testSameSeedSameDecks() {
+        // given
+        Deck single = new Deck();
+        Deck parallel = new Deck();
+        try (ShuffledDeckSupplier one = new ShuffledDeckSupplier(42, 8, 1);
+             ShuffledDeckSupplier four = new ShuffledDeckSupplier(42, 8, 4)) {
+            for (int n = 0; n < 200; n++) {
+                // when
+                one.shuffleInto(single);
+                four.shuffleInto(parallel);
+
+                // then
+                List<Card> expected = drawAll(single);
+                assertEquals(expected, drawAll(parallel), (n + 1) + "번째 덱의 순서가 같아야 합니다.");
+                assertEquals(Card.COUNT, new HashSet<>(expected).size(), "덱에는 서로 다른 52장이 있어야 합니다.");
+            }
+            assertEquals(200, one.getDecksSupplied());
+        }
+    }
+
+    @Test
+    @DisplayName("2. 독립성 테스트 - 시드가 다르면 다른 덱이 나오는지 확인")
+    void testDifferentSeedsDiffer() {
+        Deck first = new Deck();
+        Deck second = new Deck();
+        try (ShuffledDeckSupplier a = new ShuffledDeckSupplier(1, 4, 1);
+             ShuffledDeckSupplier b = new ShuffledDeckSupplier(2, 4, 1)) {
+            a.shuffleInto(first);
+            b.shuffleInto(second);
+            assertNotEquals(drawAll(first), drawAll(second), "시드가 다른 공급기의 덱은 순서가 달라야 합니다.");
+
+            a.shuffleInto(first);
+            List<Card> secondDeck = drawAll(first);
+            a.shuffleInto(first);
+            assertNotEquals(secondDeck, drawAll(first), "같은 공급기의 연속된 덱은 순서가 달라야 합니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("3. 지표 테스트 - 버퍼 점유량과 닫은 뒤의 동작 확인")
+    void testMetricsAndClose() {
+        ShuffledDeckSupplier supplier = new ShuffledDeckSupplier(7, 4, 2);
+        Deck deck = new Deck();
+        supplier.shuffleInto(deck);
+
+        int occupancy = supplier.occupancy();
+        assertTrue(occupancy >= 0 && occupancy <= supplier.getCapacity(),
+            "버퍼 점유량은 0부터 버퍼 크기 사이여야 합니다: " + occupancy);
+        assertTrue(supplier.getStallNanos() >= 0);
+        assertTrue(supplier.getStallCount() <= 1, "한 번 꺼냈으면 기다린 횟수도 1번 이하여야 합니다.");
+
+        // 닫은 뒤에는 남은 덱만 꺼낼 수 있음
+        supplier.close();
+        int remaining = 0;
+        while (remaining <= supplier.getCapacity() + 2) {
+            try {
+                supplier.shuffleInto(deck);
+                remaining++;
+            } catch (IllegalStateException e) {
+                break;
+            }
+        }
+        assertTrue(remaining <= supplier.getCapacity() + 2, "닫은 뒤에는 채워 둔 덱만 꺼낼 수 있어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("5. 닫은 뒤에도 생산자가 차지한 덱을 빠짐없이 차례대로 꺼내는지 확인")
+    void testDrainAfterClose() {
+        // given - 버퍼를 채우는 도중에 닫음
+        ShuffledDeckSupplier supplier = new ShuffledDeckSupplier(11, 64, 4);
+        supplier.close();
+
+        // when
+        List<List<Card>> drained = new ArrayList<>();
+        Deck deck = new Deck();
+        while (true) {
+            try {
+                supplier.shuffleInto(deck);
+            } catch (IllegalStateException e) {
+                break;
+            }
+            drained.add(drawAll(deck));
+        }
+
+        // then
+        assertEquals(0, supplier.occupancy(), "예외가 나기 전에 채워졌거나 채우는 중이던 덱을 모두 꺼내야 합니다.");
+        assertEquals(drained.size(), supplier.getDecksSupplied());
+        try (ShuffledDeckSupplier reference = new ShuffledDeckSupplier(11, 64, 1)) {
+            for (int i = 0; i < drained.size(); i++) {
+                reference.shuffleInto(deck);
+                assertEquals(drawAll(deck), drained.get(i), (i + 1) + "번째 덱이 빠지거나 순서가 바뀌지 않아야 합니다.");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("4. 잘못된 설정에 대한 예외 확인")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ShuffledDeckSupplier(1, 6, 1),
+            "버퍼 크기가 2의 거듭제곱이 아니면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> new ShuffledDeckSupplier(1, 8, 0),
+            "생산자 스레드가 없으면 IllegalArgumentException이 발생해야 합니다.");
+    }
+}
@@ -0,0 +1,112 @@
+package game.components.hand;
+
+import game.components.card.Card;
+import game.components.card.CardCodec;
+import game.components.card.Rank;
+import game.components.card.Suit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BatchEvaluator 클래스 테스트
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>묶음 판정 결과가 같은 카드로 만든 Hand의 핸드 강도와 같은지</li>
+ *   <li>잘못된 입력에 대한 예외</li>
+ *   <li>선택된 묶음 판정기(SIMD 또는 스칼라)가 스칼라 묶음 판정과 같은지</li>
+ * </ol>
+ */
+public class BatchEvaluatorTest {
+
+    private static List<Card> fullDeck() {
+        List<Card> deck = new ArrayList<>();
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                deck.add(Card.of(suit, rank));
+            }
+        }
+        return deck;
+    }
+
+    @Test
+    @DisplayName("1. 묶음 판정 결과가 같은 카드로 만든 Hand의 핸드 강도와 같은지 확인")
+    void testBatchMatchesHand() {
+        // given - 무작위 핸드를 카드 코드로 연속해서 담는다
+        List<Card> deck = fullDeck();
+        Random random = new Random(8L);
+        int handCount = 100_000;
+        int[] packed = new int[handCount * BatchEvaluator.CARDS_PER_HAND];
+        int[] expected = new int[handCount];
+        Hand hand = new Hand();
+        for (int h = 0; h < handCount; h++) {
+            Collections.shuffle(deck, random);
+            hand.clear();
+            for (int i = 0; i < BatchEvaluator.CARDS_PER_HAND; i++) {
+                Card card = deck.get(i);
+                hand.add(card);
+                packed[h * BatchEvaluator.CARDS_PER_HAND + i] = CardCodec.encode(card);
+            }
+            expected[h] = hand.strength();
+        }
+
+        // when
+        int[] actual = new int[handCount];
+        BatchEvaluator.evaluateAll(packed, handCount, actual);
+
+        // then
+        assertArrayEquals(expected, actual, "묶음 판정 결과는 Hand.strength()와 같아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("2. 묶음 판정의 잘못된 입력 확인")
+    void testBatchRejectsInvalidInput() {
+        int[] out = new int[2];
+
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchEvaluator.evaluateAll(new int[9], 2, out),
+            "카드 코드가 모자라면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchEvaluator.evaluateAll(new int[]{0, 1, 2, 3, 52}, 1, out),
+            "52 이상의 카드 코드는 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchEvaluator.evaluateAll(new int[0], -1, out),
+            "음수 핸드 수는 IllegalArgumentException이 발생해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("3. 선택된 묶음 판정기(SIMD 또는 스칼라)가 스칼라 묶음 판정과 같은지 확인")
+    void testPreferredBackendMatchesScalar() {
+        // given - 벡터 길이로 나누어떨어지지 않는 핸드 수, 모든 족보가 섞이도록 무작위로 채운다
+        List<Card> deck = fullDeck();
+        Random random = new Random(9L);
+        int handCount = 200_003;
+        int[] packed = new int[handCount * BatchEvaluator.CARDS_PER_HAND];
+        for (int h = 0; h < handCount; h++) {
+            Collections.shuffle(deck, random);
+            for (int i = 0; i < BatchEvaluator.CARDS_PER_HAND; i++) {
+                packed[h * BatchEvaluator.CARDS_PER_HAND + i] = CardCodec.encode(deck.get(i));
+            }
+        }
+
+        // when
+        int[] expected = new int[handCount];
+        int[] actual = new int[handCount];
+        BatchEvaluator.evaluateAll(packed, handCount, expected);
+        BatchEvaluator.preferred().evaluateAll(packed, handCount, actual);
+
+        // then
+        assertArrayEquals(expected, actual, "선택된 묶음 판정기의 결과는 스칼라 판정과 같아야 합니다.");
+        packed[packed.length - 7] = -1;
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchEvaluator.preferred().evaluateAll(packed, handCount, actual),
+            "잘못된 카드 코드는 IllegalArgumentException이 발생해야 합니다.");
+    }
+}
@@ -0,0 +1,238 @@
+package game.components.hand;
+
+import game.components.card.Card;
+import game.components.card.Rank;
+import game.components.card.Suit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HandEvaluator 구현체 테스트
+ *
+ * <p>비트마스크 판정기와 표 조회 판정기가 기준 구현인 {@link RuleChainEvaluator}와
+ * 완전히 같은 핸드 강도를 반환하는지 전체 5장 조합에 대해 검증합니다.</p>
+ */
+public class HandEvaluatorTest {
+
+    private static List<Card> fullDeck() {
+        List<Card> deck = new ArrayList<>();
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                deck.add(Card.of(suit, rank));
+            }
+        }
+        return deck;
+    }
+
+    @Test
+    @DisplayName("1. 전체 2,598,960개 핸드에서 모든 판정기의 핸드 강도가 규칙 기반 판정과 같은지 확인")
+    void testEvaluatorsMatchRuleChainForEveryHand() {
+        // given
+        List<Card> deck = fullDeck();
+        HandEvaluator reference = new RuleChainEvaluator();
+        HandEvaluator bitmask = new BitmaskEvaluator();
+        HandEvaluator lookupTable = new LookupTableEvaluator();
+        HandEvaluator sevenCard = new SevenCardEvaluator();
+        Map<HandRank, Integer> counts = new EnumMap<>(HandRank.class);
+        Card[] five = new Card[5];
+        List<Card> cards = Arrays.asList(five);
+
+        // when - 모든 5장 조합을 각 판정기로 판정
+        for (int a = 0; a < 48; a++)
+            for (int b = a + 1; b < 49; b++)
+                for (int c = b + 1; c < 50; c++)
+                    for (int d = c + 1; d < 51; d++)
+                        for (int e = d + 1; e < 52; e++) {
+                            five[0] = deck.get(a);
+                            five[1] = deck.get(b);
+                            five[2] = deck.get(c);
+                            five[3] = deck.get(d);
+                            five[4] = deck.get(e);
+
+                            int expected = reference.strength(cards);
+                            int fromBitmask = bitmask.strength(cards);
+                            int fromTable = lookupTable.strength(cards);
+                            int fromSevenCard = sevenCard.strength(cards);
+                            if (expected != fromBitmask || expected != fromTable || expected != fromSevenCard) {
+                                fail("핸드 강도가 다릅니다: " + cards + "\n" +
+                                    "규칙 기반: " + Integer.toHexString(expected) +
+                                    ", 비트마스크: " + Integer.toHexString(fromBitmask) +
+                                    ", 표 조회: " + Integer.toHexString(fromTable) +
+                                    ", 7장 판정: " + Integer.toHexString(fromSevenCard));
+                            }
+                            counts.merge(HandStrength.rankOf(expected), 1, Integer::sum);
+                        }
+
+        // then - 알려진 족보별 조합 수와 일치
+        assertEquals(4, counts.get(HandRank.ROYAL_FLUSH), "로열 플러시 개수 불일치");
+        assertEquals(36, counts.get(HandRank.STRAIGHT_FLUSH), "스트레이트 플러시 개수 불일치");
+        assertEquals(624, counts.get(HandRank.FOUR_OF_A_KIND), "포카드 개수 불일치");
+        assertEquals(3744, counts.get(HandRank.FULL_HOUSE), "풀하우스 개수 불일치");
+        assertEquals(5108, counts.get(HandRank.FLUSH), "플러시 개수 불일치");
+        assertEquals(10200, counts.get(HandRank.STRAIGHT), "스트레이트 개수 불일치");
+        assertEquals(54912, counts.get(HandRank.THREE_OF_A_KIND), "쓰리카드 개수 불일치");
+        assertEquals(123552, counts.get(HandRank.TWO_PAIR), "투페어 개수 불일치");
+        assertEquals(1098240, counts.get(HandRank.ONE_PAIR), "원페어 개수 불일치");
+        assertEquals(1302540, counts.get(HandRank.HIGH_CARD), "하이카드 개수 불일치");
+    }
+
+    @Test
+    @DisplayName("2. 백스트레이트와 로열 플러시 경계 확인")
+    void testStraightEdges() {
+        // A-2-3-4-5
+        assertTrue(BitmaskEvaluator.isStraight(BitmaskEvaluator.WHEEL_MASK),
+            "A-2-3-4-5는 스트레이트여야 합니다.");
+        // 10-J-Q-K-A
+        assertTrue(BitmaskEvaluator.isStraight(BitmaskEvaluator.ROYAL_MASK),
+            "10-J-Q-K-A는 스트레이트여야 합니다.");
+        // J-Q-K-A-2 는 스트레이트가 아님
+        assertFalse(BitmaskEvaluator.isStraight(0x1E01),
+            "J-Q-K-A-2는 스트레이트가 아닙니다.");
+    }
+
+    @Test
+    @DisplayName("3. Hand가 지정한 판정기에 족보 판정을 위임하는지 확인")
+    void testHandDelegatesToEvaluator() {
+        // given - 항상 로열 플러시를 반환하는 판정기
+        Hand hand = new Hand(cards -> HandStrength.of(HandRank.ROYAL_FLUSH, 0));
+        for (int i = 0; i < 5; i++) {
+            hand.add(Card.of(Suit.HEARTS, Rank.values()[i * 2]));
+        }
+
+        // when & then
+        assertEquals(HandRank.ROYAL_FLUSH, hand.evaluate(),
+            "evaluate()는 생성자로 전달한 판정기의 결과를 반환해야 합니다.");
+        assertEquals(1000, hand.open(),
+            "open()도 같은 판정기의 결과로 점수를 계산해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> new Hand(null),
+            "null 판정기로 핸드를 만들면 IllegalArgumentException이 발생해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("4. Hand의 누적 상태로 계산한 강도가 카드를 다시 판정한 강도와 같은지 확인")
+    void testIncrementalStateMatchesFullEvaluation() {
+        // given
+        List<Card> deck = fullDeck();
+        HandEvaluator reference = new RuleChainEvaluator();
+        Hand hand = new Hand();
+
+        // when & then - 같은 Hand를 비우고 채우며 모든 조합을 판정
+        for (int a = 0; a < 48; a++)
+            for (int b = a + 1; b < 49; b++)
+                for (int c = b + 1; c < 50; c++)
+                    for (int d = c + 1; d < 51; d++)
+                        for (int e = d + 1; e < 52; e++) {
+                            hand.clear();
+                            hand.add(deck.get(a));
+                            hand.add(deck.get(b));
+                            hand.add(deck.get(c));
+                            hand.add(deck.get(d));
+                            hand.add(deck.get(e));
+
+                            int expected = reference.strength(hand.getCards());
+                            if (hand.strength() != expected) {
+                                fail("누적 상태 판정 결과가 다릅니다: " + hand);
+                            }
+                        }
+    }
+
+    @Test
+    @DisplayName("5. 7장 판정 결과가 21가지 5장 조합 중 가장 강한 핸드 강도와 같은지 확인")
+    void testSevenCardMatchesBestOfTwentyOneSubsets() {
+        // given
+        List<Card> deck = fullDeck();
+        HandEvaluator bitmask = new BitmaskEvaluator();
+        HandEvaluator sevenCard = new SevenCardEvaluator();
+        Random random = new Random(7L);
+        Card[] five = new Card[5];
+        List<Card> subset = Arrays.asList(five);
+
+        for (int round = 0; round < 100_000; round++) {
+            Collections.shuffle(deck, random);
+            List<Card> seven = deck.subList(0, 7);
+
+            // when - 7장에서 2장을 빼는 21가지 조합을 모두 판정
+            int best = 0;
+            for (int skipA = 0; skipA < 7; skipA++)
+                for (int skipB = skipA + 1; skipB < 7; skipB++) {
+                    int n = 0;
+                    for (int i = 0; i < 7; i++) {
+                        if (i != skipA && i != skipB) five[n++] = seven.get(i);
+                    }
+                    best = Math.max(best, bitmask.strength(subset));
+                }
+
+            // then
+            int actual = sevenCard.strength(seven);
+            if (actual != best) {
+                fail("7장 판정 결과가 다릅니다: " + seven + "\n" +
+                    "21개 조합 최대: " + Integer.toHexString(best) +
+                    ", 7장 판정: " + Integer.toHexString(actual));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("6. 전체 133,784,560개 7장 조합의 족보별 개수 확인")
+    void testSevenCardCategoryCounts() {
+        // given - 카드 순서값(무늬 × 13 + 랭크)마다 누적 상태에 더할 값
+        int[] rankBit = new int[52];
+        long[] suitBits = new long[52];
+        long[] histogramBit = new long[52];
+        for (int index = 0; index < 52; index++) {
+            int suit = index / 13;
+            int rank = index % 13;
+            rankBit[index] = 1 << rank;
+            suitBits[index] = 1L << (suit * SevenCardEvaluator.SUIT_SHIFT + rank);
+            histogramBit[index] = 1L << (rank << 2);
+        }
+        long[] counts = new long[HandRank.values().length];
+
+        // when - 바깥 반복문에서 누적 상태를 한 장씩 쌓아 가며 판정
+        for (int a = 0; a < 46; a++)
+            for (int b = a + 1; b < 47; b++)
+                for (int c = b + 1; c < 48; c++)
+                    for (int d = c + 1; d < 49; d++) {
+                        int maskD = rankBit[a] | rankBit[b] | rankBit[c] | rankBit[d];
+                        long suitD = suitBits[a] | suitBits[b] | suitBits[c] | suitBits[d];
+                        long histD = histogramBit[a] + histogramBit[b] + histogramBit[c] + histogramBit[d];
+                        for (int e = d + 1; e < 50; e++) {
+                            int maskE = maskD | rankBit[e];
+                            long suitE = suitD | suitBits[e];
+                            long histE = histD + histogramBit[e];
+                            for (int f = e + 1; f < 51; f++) {
+                                int maskF = maskE | rankBit[f];
+                                long suitF = suitE | suitBits[f];
+                                long histF = histE + histogramBit[f];
+                                for (int g = f + 1; g < 52; g++) {
+                                    int strength = SevenCardEvaluator.strength(
+                                        maskF | rankBit[g], histF + histogramBit[g], suitF | suitBits[g]);
+                                    counts[strength >>> HandStrength.CATEGORY_SHIFT]++;
+                                }
+                            }
+                        }
+                    }
+
+        // then - 알려진 7장 족보별 조합 수와 일치
+        assertEquals(4_324, counts[HandRank.ROYAL_FLUSH.ordinal()], "로열 플러시 개수 불일치");
+        assertEquals(37_260, counts[HandRank.STRAIGHT_FLUSH.ordinal()], "스트레이트 플러시 개수 불일치");
+        assertEquals(224_848, counts[HandRank.FOUR_OF_A_KIND.ordinal()], "포카드 개수 불일치");
+        assertEquals(3_473_184, counts[HandRank.FULL_HOUSE.ordinal()], "풀하우스 개수 불일치");
+        assertEquals(4_047_644, counts[HandRank.FLUSH.ordinal()], "플러시 개수 불일치");
+        assertEquals(6_180_020, counts[HandRank.STRAIGHT.ordinal()], "스트레이트 개수 불일치");
+        assertEquals(6_461_620, counts[HandRank.THREE_OF_A_KIND.ordinal()], "쓰리카드 개수 불일치");
+        assertEquals(31_433_400, counts[HandRank.TWO_PAIR.ordinal()], "투페어 개수 불일치");
+        assertEquals(58_627_800, counts[HandRank.ONE_PAIR.ordinal()], "원페어 개수 불일치");
+        assertEquals(23_294_460, counts[HandRank.HIGH_CARD.ordinal()], "하이카드 개수 불일치");
+    }
+}
@@ -1,6 +1,7 @@
 package game.components.hand;
 
 import game.components.card.Card;
+import game.components.card.CardSet;
 import game.components.card.Rank;
 import game.components.card.Suit;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,8 +50,8 @@ public class HandTest {
     @DisplayName("1. 카드 추가 테스트 - add() 메서드가 올바르게 작동하는지 확인")
     void testAddCard() {
         // given (준비)
-        Card card1 = new Card(Suit.HEARTS, Rank.ACE);
-        Card card2 = new Card(Suit.SPADES, Rank.KING);
+        Card card1 = Card.of(Suit.HEARTS, Rank.ACE);
+        Card card2 = Card.of(Suit.SPADES, Rank.KING);
         
         // when (실행)
         hand.add(card1);
@@ -85,11 +86,11 @@ public class HandTest {
     void testAddCardWhenFull() {
         // given - 5장의 카드로 핸드를 가득 채움
         for (int i = 0; i < 5; i++) {
-            hand.add(new Card(Suit.HEARTS, Rank.values()[i]));
+            hand.add(Card.of(Suit.HEARTS, Rank.values()[i]));
         }
         
         // when & then - 6번째 카드 추가 시도
-        Card extraCard = new Card(Suit.SPADES, Rank.ACE);
+        Card extraCard = Card.of(Suit.SPADES, Rank.ACE);
         assertThrows(IllegalStateException.class, () -> hand.add(extraCard),
             "핸드가 가득 찼을 때 카드를 추가하면 IllegalStateException이 발생해야 합니다.\n" +
             "add() 메서드에서 if (isFull()) 체크를 추가하세요.");
@@ -99,9 +100,9 @@ public class HandTest {
     @DisplayName("4. 핸드 정리 테스트 - clear() 메서드")
     void testClear() {
         // given - 카드 3장 추가
-        hand.add(new Card(Suit.HEARTS, Rank.ACE));
-        hand.add(new Card(Suit.SPADES, Rank.KING));
-        hand.add(new Card(Suit.DIAMONDS, Rank.QUEEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.ACE));
+        hand.add(Card.of(Suit.SPADES, Rank.KING));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.QUEEN));
         
         // when
         hand.clear();
@@ -124,13 +125,13 @@ public class HandTest {
         
         // 4장 추가 - 아직 가득 차지 않음
         for (int i = 0; i < 4; i++) {
-            hand.add(new Card(Suit.HEARTS, Rank.values()[i]));
+            hand.add(Card.of(Suit.HEARTS, Rank.values()[i]));
         }
         assertFalse(hand.isFull(), 
             "4장의 카드를 가진 핸드는 가득 차지 않았어야 합니다.");
         
         // 5장째 추가 - 이제 가득 참
-        hand.add(new Card(Suit.HEARTS, Rank.values()[4]));
+        hand.add(Card.of(Suit.HEARTS, Rank.values()[4]));
         assertTrue(hand.isFull(), 
             "5장의 카드를 가진 핸드는 가득 차야 합니다.\n" +
             "isFull()이 false를 반환했습니다.\n" +
@@ -141,7 +142,7 @@ public class HandTest {
     @DisplayName("6. getCards() 수정 불가능한 리스트 반환 테스트")
     void testGetCardsUnmodifiableList() {
         // given
-        Card card = new Card(Suit.HEARTS, Rank.ACE);
+        Card card = Card.of(Suit.HEARTS, Rank.ACE);
         hand.add(card);
         
         // when - getCards()로 리스트를 가져와서 수정 시도
@@ -162,7 +163,7 @@ public class HandTest {
     void testEvaluateWithWrongNumberOfCards() {
         // 카드가 4장일 때
         for (int i = 0; i < 4; i++) {
-            hand.add(new Card(Suit.HEARTS, Rank.values()[i]));
+            hand.add(Card.of(Suit.HEARTS, Rank.values()[i]));
         }
         
         assertThrows(IllegalStateException.class, () -> hand.evaluate(),
@@ -175,11 +176,11 @@ public class HandTest {
     @DisplayName("8. 플러시 판정 테스트 - isFlush()")
     void testIsFlush() {
         // given - 모두 하트인 5장
-        hand.add(new Card(Suit.HEARTS, Rank.ACE));
-        hand.add(new Card(Suit.HEARTS, Rank.KING));
-        hand.add(new Card(Suit.HEARTS, Rank.QUEEN));
-        hand.add(new Card(Suit.HEARTS, Rank.JACK));
-        hand.add(new Card(Suit.HEARTS, Rank.NINE));
+        hand.add(Card.of(Suit.HEARTS, Rank.ACE));
+        hand.add(Card.of(Suit.HEARTS, Rank.KING));
+        hand.add(Card.of(Suit.HEARTS, Rank.QUEEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.JACK));
+        hand.add(Card.of(Suit.HEARTS, Rank.NINE));
         
         // when
         HandRank rank = hand.evaluate();
@@ -195,11 +196,11 @@ public class HandTest {
     @DisplayName("9. 포카드 판정 테스트 - isFourOfAKind()")
     void testFourOfAKind() {
         // given - 에이스 4장 + 킹 1장
-        hand.add(new Card(Suit.HEARTS, Rank.ACE));
-        hand.add(new Card(Suit.SPADES, Rank.ACE));
-        hand.add(new Card(Suit.DIAMONDS, Rank.ACE));
-        hand.add(new Card(Suit.CLUBS, Rank.ACE));
-        hand.add(new Card(Suit.HEARTS, Rank.KING));
+        hand.add(Card.of(Suit.HEARTS, Rank.ACE));
+        hand.add(Card.of(Suit.SPADES, Rank.ACE));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.ACE));
+        hand.add(Card.of(Suit.CLUBS, Rank.ACE));
+        hand.add(Card.of(Suit.HEARTS, Rank.KING));
         
         // when
         HandRank rank = hand.evaluate();
@@ -215,11 +216,11 @@ public class HandTest {
     @DisplayName("10. 원페어 판정 테스트 - isOnePair()")
     void testOnePair() {
         // given - 에이스 2장 + 서로 다른 3장
-        hand.add(new Card(Suit.HEARTS, Rank.ACE));
-        hand.add(new Card(Suit.SPADES, Rank.ACE));
-        hand.add(new Card(Suit.DIAMONDS, Rank.KING));
-        hand.add(new Card(Suit.CLUBS, Rank.QUEEN));
-        hand.add(new Card(Suit.HEARTS, Rank.JACK));
+        hand.add(Card.of(Suit.HEARTS, Rank.ACE));
+        hand.add(Card.of(Suit.SPADES, Rank.ACE));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.KING));
+        hand.add(Card.of(Suit.CLUBS, Rank.QUEEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.JACK));
         
         // when
         HandRank rank = hand.evaluate();
@@ -235,11 +236,11 @@ public class HandTest {
     @DisplayName("11. 하이카드 판정 테스트")
     void testHighCard() {
         // given - 아무 조합도 없는 5장
-        hand.add(new Card(Suit.HEARTS, Rank.ACE));
-        hand.add(new Card(Suit.SPADES, Rank.KING));
-        hand.add(new Card(Suit.DIAMONDS, Rank.QUEEN));
-        hand.add(new Card(Suit.CLUBS, Rank.JACK));
-        hand.add(new Card(Suit.HEARTS, Rank.NINE));
+        hand.add(Card.of(Suit.HEARTS, Rank.ACE));
+        hand.add(Card.of(Suit.SPADES, Rank.KING));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.QUEEN));
+        hand.add(Card.of(Suit.CLUBS, Rank.JACK));
+        hand.add(Card.of(Suit.HEARTS, Rank.NINE));
         
         // when
         HandRank rank = hand.evaluate();
@@ -254,11 +255,11 @@ public class HandTest {
     @DisplayName("12. open() 메서드 테스트 - 점수 반환")
     void testOpen() {
         // given - 플러시 핸드
-        hand.add(new Card(Suit.HEARTS, Rank.ACE));
-        hand.add(new Card(Suit.HEARTS, Rank.KING));
-        hand.add(new Card(Suit.HEARTS, Rank.QUEEN));
-        hand.add(new Card(Suit.HEARTS, Rank.JACK));
-        hand.add(new Card(Suit.HEARTS, Rank.NINE));
+        hand.add(Card.of(Suit.HEARTS, Rank.ACE));
+        hand.add(Card.of(Suit.HEARTS, Rank.KING));
+        hand.add(Card.of(Suit.HEARTS, Rank.QUEEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.JACK));
+        hand.add(Card.of(Suit.HEARTS, Rank.NINE));
         
         // when
         int score = hand.open();
@@ -275,19 +276,19 @@ public class HandTest {
     void testCompareTo() {
         // given - 첫 번째 핸드: 원페어
         Hand hand1 = new Hand();
-        hand1.add(new Card(Suit.HEARTS, Rank.ACE));
-        hand1.add(new Card(Suit.SPADES, Rank.ACE));
-        hand1.add(new Card(Suit.DIAMONDS, Rank.KING));
-        hand1.add(new Card(Suit.CLUBS, Rank.QUEEN));
-        hand1.add(new Card(Suit.HEARTS, Rank.JACK));
+        hand1.add(Card.of(Suit.HEARTS, Rank.ACE));
+        hand1.add(Card.of(Suit.SPADES, Rank.ACE));
+        hand1.add(Card.of(Suit.DIAMONDS, Rank.KING));
+        hand1.add(Card.of(Suit.CLUBS, Rank.QUEEN));
+        hand1.add(Card.of(Suit.HEARTS, Rank.JACK));
         
         // 두 번째 핸드: 투페어
         Hand hand2 = new Hand();
-        hand2.add(new Card(Suit.HEARTS, Rank.KING));
-        hand2.add(new Card(Suit.SPADES, Rank.KING));
-        hand2.add(new Card(Suit.DIAMONDS, Rank.QUEEN));
-        hand2.add(new Card(Suit.CLUBS, Rank.QUEEN));
-        hand2.add(new Card(Suit.HEARTS, Rank.JACK));
+        hand2.add(Card.of(Suit.HEARTS, Rank.KING));
+        hand2.add(Card.of(Suit.SPADES, Rank.KING));
+        hand2.add(Card.of(Suit.DIAMONDS, Rank.QUEEN));
+        hand2.add(Card.of(Suit.CLUBS, Rank.QUEEN));
+        hand2.add(Card.of(Suit.HEARTS, Rank.JACK));
         
         // when & then
         assertTrue(hand1.compareTo(hand2) < 0,
@@ -307,8 +308,8 @@ public class HandTest {
     @DisplayName("14. toString() 메서드 테스트")
     void testToString() {
         // given
-        Card card1 = new Card(Suit.HEARTS, Rank.ACE);
-        Card card2 = new Card(Suit.SPADES, Rank.KING);
+        Card card1 = Card.of(Suit.HEARTS, Rank.ACE);
+        Card card2 = Card.of(Suit.SPADES, Rank.KING);
         hand.add(card1);
         hand.add(card2);
         
@@ -327,11 +328,11 @@ public class HandTest {
     @DisplayName("15. 로열 플러시 판정 테스트 - isRoyalFlush() 구현 필요")
     void testRoyalFlush() {
         // given - 스페이드 10, J, Q, K, A
-        hand.add(new Card(Suit.SPADES, Rank.ACE));
-        hand.add(new Card(Suit.SPADES, Rank.KING));
-        hand.add(new Card(Suit.SPADES, Rank.QUEEN));
-        hand.add(new Card(Suit.SPADES, Rank.JACK));
-        hand.add(new Card(Suit.SPADES, Rank.TEN));
+        hand.add(Card.of(Suit.SPADES, Rank.ACE));
+        hand.add(Card.of(Suit.SPADES, Rank.KING));
+        hand.add(Card.of(Suit.SPADES, Rank.QUEEN));
+        hand.add(Card.of(Suit.SPADES, Rank.JACK));
+        hand.add(Card.of(Suit.SPADES, Rank.TEN));
         
         // when
         HandRank rank = hand.evaluate();
@@ -349,11 +350,11 @@ public class HandTest {
     @DisplayName("16. 스트레이트 플러시 판정 테스트 - isStraightFlush() 구현 필요")
     void testStraightFlush() {
         // given - 하트 5, 6, 7, 8, 9
-        hand.add(new Card(Suit.HEARTS, Rank.FIVE));
-        hand.add(new Card(Suit.HEARTS, Rank.SIX));
-        hand.add(new Card(Suit.HEARTS, Rank.SEVEN));
-        hand.add(new Card(Suit.HEARTS, Rank.EIGHT));
-        hand.add(new Card(Suit.HEARTS, Rank.NINE));
+        hand.add(Card.of(Suit.HEARTS, Rank.FIVE));
+        hand.add(Card.of(Suit.HEARTS, Rank.SIX));
+        hand.add(Card.of(Suit.HEARTS, Rank.SEVEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.EIGHT));
+        hand.add(Card.of(Suit.HEARTS, Rank.NINE));
         
         // when
         HandRank rank = hand.evaluate();
@@ -371,11 +372,11 @@ public class HandTest {
     @DisplayName("17. 풀하우스 판정 테스트 - isFullHouse() 구현 필요")
     void testFullHouse() {
         // given - K 3장, Q 2장
-        hand.add(new Card(Suit.HEARTS, Rank.KING));
-        hand.add(new Card(Suit.SPADES, Rank.KING));
-        hand.add(new Card(Suit.DIAMONDS, Rank.KING));
-        hand.add(new Card(Suit.CLUBS, Rank.QUEEN));
-        hand.add(new Card(Suit.HEARTS, Rank.QUEEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.KING));
+        hand.add(Card.of(Suit.SPADES, Rank.KING));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.KING));
+        hand.add(Card.of(Suit.CLUBS, Rank.QUEEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.QUEEN));
         
         // when
         HandRank rank = hand.evaluate();
@@ -393,11 +394,11 @@ public class HandTest {
     @DisplayName("18. 스트레이트 판정 테스트 - isStraight() 구현 필요")
     void testStraight() {
         // given - 5, 6, 7, 8, 9 (다른 무늬)
-        hand.add(new Card(Suit.HEARTS, Rank.FIVE));
-        hand.add(new Card(Suit.SPADES, Rank.SIX));
-        hand.add(new Card(Suit.DIAMONDS, Rank.SEVEN));
-        hand.add(new Card(Suit.CLUBS, Rank.EIGHT));
-        hand.add(new Card(Suit.HEARTS, Rank.NINE));
+        hand.add(Card.of(Suit.HEARTS, Rank.FIVE));
+        hand.add(Card.of(Suit.SPADES, Rank.SIX));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.SEVEN));
+        hand.add(Card.of(Suit.CLUBS, Rank.EIGHT));
+        hand.add(Card.of(Suit.HEARTS, Rank.NINE));
         
         // when
         HandRank rank = hand.evaluate();
@@ -415,11 +416,11 @@ public class HandTest {
     @DisplayName("19. 백스트레이트(A-2-3-4-5) 판정 테스트 - isStraight() 특수 케이스")
     void testAceLowStraight() {
         // given - A, 2, 3, 4, 5 (백스트레이트)
-        hand.add(new Card(Suit.HEARTS, Rank.ACE));
-        hand.add(new Card(Suit.SPADES, Rank.TWO));
-        hand.add(new Card(Suit.DIAMONDS, Rank.THREE));
-        hand.add(new Card(Suit.CLUBS, Rank.FOUR));
-        hand.add(new Card(Suit.HEARTS, Rank.FIVE));
+        hand.add(Card.of(Suit.HEARTS, Rank.ACE));
+        hand.add(Card.of(Suit.SPADES, Rank.TWO));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.THREE));
+        hand.add(Card.of(Suit.CLUBS, Rank.FOUR));
+        hand.add(Card.of(Suit.HEARTS, Rank.FIVE));
         
         // when
         HandRank rank = hand.evaluate();
@@ -436,11 +437,11 @@ public class HandTest {
     @DisplayName("20. 쓰리카드 판정 테스트 - isThreeOfAKind() 구현 필요")
     void testThreeOfAKind() {
         // given - J 3장 + 다른 2장
-        hand.add(new Card(Suit.HEARTS, Rank.JACK));
-        hand.add(new Card(Suit.SPADES, Rank.JACK));
-        hand.add(new Card(Suit.DIAMONDS, Rank.JACK));
-        hand.add(new Card(Suit.CLUBS, Rank.NINE));
-        hand.add(new Card(Suit.HEARTS, Rank.SEVEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.JACK));
+        hand.add(Card.of(Suit.SPADES, Rank.JACK));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.JACK));
+        hand.add(Card.of(Suit.CLUBS, Rank.NINE));
+        hand.add(Card.of(Suit.HEARTS, Rank.SEVEN));
         
         // when
         HandRank rank = hand.evaluate();
@@ -458,11 +459,11 @@ public class HandTest {
     @DisplayName("21. 투페어 판정 테스트 - isTwoPair() 구현 필요")
     void testTwoPair() {
         // given - K 2장, Q 2장, J 1장
-        hand.add(new Card(Suit.HEARTS, Rank.KING));
-        hand.add(new Card(Suit.SPADES, Rank.KING));
-        hand.add(new Card(Suit.DIAMONDS, Rank.QUEEN));
-        hand.add(new Card(Suit.CLUBS, Rank.QUEEN));
-        hand.add(new Card(Suit.HEARTS, Rank.JACK));
+        hand.add(Card.of(Suit.HEARTS, Rank.KING));
+        hand.add(Card.of(Suit.SPADES, Rank.KING));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.QUEEN));
+        hand.add(Card.of(Suit.CLUBS, Rank.QUEEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.JACK));
         
         // when
         HandRank rank = hand.evaluate();
@@ -481,11 +482,11 @@ public class HandTest {
     void testNotStraight() {
         // A, K, Q, J, 9는 스트레이트가 아님 (10이 없음)
         Hand notStraight = new Hand();
-        notStraight.add(new Card(Suit.HEARTS, Rank.ACE));
-        notStraight.add(new Card(Suit.SPADES, Rank.KING));
-        notStraight.add(new Card(Suit.DIAMONDS, Rank.QUEEN));
-        notStraight.add(new Card(Suit.CLUBS, Rank.JACK));
-        notStraight.add(new Card(Suit.HEARTS, Rank.NINE));
+        notStraight.add(Card.of(Suit.HEARTS, Rank.ACE));
+        notStraight.add(Card.of(Suit.SPADES, Rank.KING));
+        notStraight.add(Card.of(Suit.DIAMONDS, Rank.QUEEN));
+        notStraight.add(Card.of(Suit.CLUBS, Rank.JACK));
+        notStraight.add(Card.of(Suit.HEARTS, Rank.NINE));
         
         assertNotEquals(HandRank.STRAIGHT, notStraight.evaluate(),
             "A-K-Q-J-9는 스트레이트가 아닙니다 (10이 없음).\n" +
@@ -501,83 +502,83 @@ public class HandTest {
         
         // 로열 플러시
         hands[0] = new Hand();
-        hands[0].add(new Card(Suit.SPADES, Rank.ACE));
-        hands[0].add(new Card(Suit.SPADES, Rank.KING));
-        hands[0].add(new Card(Suit.SPADES, Rank.QUEEN));
-        hands[0].add(new Card(Suit.SPADES, Rank.JACK));
-        hands[0].add(new Card(Suit.SPADES, Rank.TEN));
+        hands[0].add(Card.of(Suit.SPADES, Rank.ACE));
+        hands[0].add(Card.of(Suit.SPADES, Rank.KING));
+        hands[0].add(Card.of(Suit.SPADES, Rank.QUEEN));
+        hands[0].add(Card.of(Suit.SPADES, Rank.JACK));
+        hands[0].add(Card.of(Suit.SPADES, Rank.TEN));
         handNames[0] = "로열 플러시";
         
         // 스트레이트 플러시
         hands[1] = new Hand();
-        hands[1].add(new Card(Suit.HEARTS, Rank.NINE));
-        hands[1].add(new Card(Suit.HEARTS, Rank.EIGHT));
-        hands[1].add(new Card(Suit.HEARTS, Rank.SEVEN));
-        hands[1].add(new Card(Suit.HEARTS, Rank.SIX));
-        hands[1].add(new Card(Suit.HEARTS, Rank.FIVE));
+        hands[1].add(Card.of(Suit.HEARTS, Rank.NINE));
+        hands[1].add(Card.of(Suit.HEARTS, Rank.EIGHT));
+        hands[1].add(Card.of(Suit.HEARTS, Rank.SEVEN));
+        hands[1].add(Card.of(Suit.HEARTS, Rank.SIX));
+        hands[1].add(Card.of(Suit.HEARTS, Rank.FIVE));
         handNames[1] = "스트레이트 플러시";
         
         // 포카드
         hands[2] = new Hand();
-        hands[2].add(new Card(Suit.HEARTS, Rank.KING));
-        hands[2].add(new Card(Suit.SPADES, Rank.KING));
-        hands[2].add(new Card(Suit.DIAMONDS, Rank.KING));
-        hands[2].add(new Card(Suit.CLUBS, Rank.KING));
-        hands[2].add(new Card(Suit.HEARTS, Rank.QUEEN));
+        hands[2].add(Card.of(Suit.HEARTS, Rank.KING));
+        hands[2].add(Card.of(Suit.SPADES, Rank.KING));
+        hands[2].add(Card.of(Suit.DIAMONDS, Rank.KING));
+        hands[2].add(Card.of(Suit.CLUBS, Rank.KING));
+        hands[2].add(Card.of(Suit.HEARTS, Rank.QUEEN));
         handNames[2] = "포카드";
         
         // 풀하우스
         hands[3] = new Hand();
-        hands[3].add(new Card(Suit.HEARTS, Rank.JACK));
-        hands[3].add(new Card(Suit.SPADES, Rank.JACK));
-        hands[3].add(new Card(Suit.DIAMONDS, Rank.JACK));
-        hands[3].add(new Card(Suit.CLUBS, Rank.TEN));
-        hands[3].add(new Card(Suit.HEARTS, Rank.TEN));
+        hands[3].add(Card.of(Suit.HEARTS, Rank.JACK));
+        hands[3].add(Card.of(Suit.SPADES, Rank.JACK));
+        hands[3].add(Card.of(Suit.DIAMONDS, Rank.JACK));
+        hands[3].add(Card.of(Suit.CLUBS, Rank.TEN));
+        hands[3].add(Card.of(Suit.HEARTS, Rank.TEN));
         handNames[3] = "풀하우스";
         
         // 플러시
         hands[4] = new Hand();
-        hands[4].add(new Card(Suit.DIAMONDS, Rank.ACE));
-        hands[4].add(new Card(Suit.DIAMONDS, Rank.QUEEN));
-        hands[4].add(new Card(Suit.DIAMONDS, Rank.TEN));
-        hands[4].add(new Card(Suit.DIAMONDS, Rank.FIVE));
-        hands[4].add(new Card(Suit.DIAMONDS, Rank.THREE));
+        hands[4].add(Card.of(Suit.DIAMONDS, Rank.ACE));
+        hands[4].add(Card.of(Suit.DIAMONDS, Rank.QUEEN));
+        hands[4].add(Card.of(Suit.DIAMONDS, Rank.TEN));
+        hands[4].add(Card.of(Suit.DIAMONDS, Rank.FIVE));
+        hands[4].add(Card.of(Suit.DIAMONDS, Rank.THREE));
         handNames[4] = "플러시";
         
         // 스트레이트
         hands[5] = new Hand();
-        hands[5].add(new Card(Suit.HEARTS, Rank.TEN));
-        hands[5].add(new Card(Suit.SPADES, Rank.NINE));
-        hands[5].add(new Card(Suit.DIAMONDS, Rank.EIGHT));
-        hands[5].add(new Card(Suit.CLUBS, Rank.SEVEN));
-        hands[5].add(new Card(Suit.HEARTS, Rank.SIX));
+        hands[5].add(Card.of(Suit.HEARTS, Rank.TEN));
+        hands[5].add(Card.of(Suit.SPADES, Rank.NINE));
+        hands[5].add(Card.of(Suit.DIAMONDS, Rank.EIGHT));
+        hands[5].add(Card.of(Suit.CLUBS, Rank.SEVEN));
+        hands[5].add(Card.of(Suit.HEARTS, Rank.SIX));
         handNames[5] = "스트레이트";
         
         // 쓰리카드
         hands[6] = new Hand();
-        hands[6].add(new Card(Suit.HEARTS, Rank.NINE));
-        hands[6].add(new Card(Suit.SPADES, Rank.NINE));
-        hands[6].add(new Card(Suit.DIAMONDS, Rank.NINE));
-        hands[6].add(new Card(Suit.CLUBS, Rank.FIVE));
-        hands[6].add(new Card(Suit.HEARTS, Rank.TWO));
+        hands[6].add(Card.of(Suit.HEARTS, Rank.NINE));
+        hands[6].add(Card.of(Suit.SPADES, Rank.NINE));
+        hands[6].add(Card.of(Suit.DIAMONDS, Rank.NINE));
+        hands[6].add(Card.of(Suit.CLUBS, Rank.FIVE));
+        hands[6].add(Card.of(Suit.HEARTS, Rank.TWO));
         handNames[6] = "쓰리카드";
         
         // 투페어
         hands[7] = new Hand();
-        hands[7].add(new Card(Suit.HEARTS, Rank.EIGHT));
-        hands[7].add(new Card(Suit.SPADES, Rank.EIGHT));
-        hands[7].add(new Card(Suit.DIAMONDS, Rank.SEVEN));
-        hands[7].add(new Card(Suit.CLUBS, Rank.SEVEN));
-        hands[7].add(new Card(Suit.HEARTS, Rank.ACE));
+        hands[7].add(Card.of(Suit.HEARTS, Rank.EIGHT));
+        hands[7].add(Card.of(Suit.SPADES, Rank.EIGHT));
+        hands[7].add(Card.of(Suit.DIAMONDS, Rank.SEVEN));
+        hands[7].add(Card.of(Suit.CLUBS, Rank.SEVEN));
+        hands[7].add(Card.of(Suit.HEARTS, Rank.ACE));
         handNames[7] = "투페어";
         
         // 원페어
         hands[8] = new Hand();
-        hands[8].add(new Card(Suit.HEARTS, Rank.SIX));
-        hands[8].add(new Card(Suit.SPADES, Rank.SIX));
-        hands[8].add(new Card(Suit.DIAMONDS, Rank.KING));
-        hands[8].add(new Card(Suit.CLUBS, Rank.QUEEN));
-        hands[8].add(new Card(Suit.HEARTS, Rank.JACK));
+        hands[8].add(Card.of(Suit.HEARTS, Rank.SIX));
+        hands[8].add(Card.of(Suit.SPADES, Rank.SIX));
+        hands[8].add(Card.of(Suit.DIAMONDS, Rank.KING));
+        hands[8].add(Card.of(Suit.CLUBS, Rank.QUEEN));
+        hands[8].add(Card.of(Suit.HEARTS, Rank.JACK));
         handNames[8] = "원페어";
         
         // 모든 핸드가 올바른 순서인지 확인
@@ -599,4 +600,108 @@ public class HandTest {
         assertEquals(HandRank.TWO_PAIR, hands[7].evaluate(), "투페어 판정 실패");
         assertEquals(HandRank.ONE_PAIR, hands[8].evaluate(), "원페어 판정 실패");
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("24. 같은 족보끼리 키커 비교 테스트 - strength()")
+    void testCompareSameRankByKickers() {
+        // given - K 투페어 vs 3 투페어
+        Hand kings = new Hand();
+        kings.add(Card.of(Suit.HEARTS, Rank.KING));
+        kings.add(Card.of(Suit.SPADES, Rank.KING));
+        kings.add(Card.of(Suit.DIAMONDS, Rank.FOUR));
+        kings.add(Card.of(Suit.CLUBS, Rank.FOUR));
+        kings.add(Card.of(Suit.HEARTS, Rank.TWO));
+        
+        Hand threes = new Hand();
+        threes.add(Card.of(Suit.HEARTS, Rank.THREE));
+        threes.add(Card.of(Suit.SPADES, Rank.THREE));
+        threes.add(Card.of(Suit.DIAMONDS, Rank.TWO));
+        threes.add(Card.of(Suit.CLUBS, Rank.TWO));
+        threes.add(Card.of(Suit.HEARTS, Rank.ACE));
+        
+        // 백스트레이트(A-2-3-4-5) vs 6 하이 스트레이트
+        Hand wheel = new Hand();
+        wheel.add(Card.of(Suit.HEARTS, Rank.ACE));
+        wheel.add(Card.of(Suit.SPADES, Rank.TWO));
+        wheel.add(Card.of(Suit.DIAMONDS, Rank.THREE));
+        wheel.add(Card.of(Suit.CLUBS, Rank.FOUR));
+        wheel.add(Card.of(Suit.HEARTS, Rank.FIVE));
+        
+        Hand sixHigh = new Hand();
+        sixHigh.add(Card.of(Suit.HEARTS, Rank.SIX));
+        sixHigh.add(Card.of(Suit.SPADES, Rank.TWO));
+        sixHigh.add(Card.of(Suit.DIAMONDS, Rank.THREE));
+        sixHigh.add(Card.of(Suit.CLUBS, Rank.FOUR));
+        sixHigh.add(Card.of(Suit.HEARTS, Rank.FIVE));
+        
+        // when & then
+        assertEquals(kings.open(), threes.open(),
+            "두 핸드 모두 투페어이므로 족보 점수는 같아야 합니다.");
+        assertTrue(kings.compareTo(threes) > 0,
+            "K 투페어는 3 투페어보다 강해야 합니다.\n" +
+            "compareTo()는 족보뿐 아니라 키커까지 비교해야 합니다.");
+        assertTrue(wheel.compareTo(sixHigh) < 0,
+            "백스트레이트(A-2-3-4-5)는 가장 약한 스트레이트입니다.");
+        assertEquals(HandRank.TWO_PAIR, HandStrength.rankOf(kings.strength()),
+            "핸드 강도에서 꺼낸 족보가 evaluate() 결과와 같아야 합니다.");
+    }
+    
+    @Test
+    @DisplayName("25. 판정 결과 캐시 테스트 - add()/clear() 전까지 재판정하지 않음")
+    void testEvaluationCache() {
+        // given - 원페어
+        hand.add(Card.of(Suit.HEARTS, Rank.ACE));
+        hand.add(Card.of(Suit.SPADES, Rank.ACE));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.KING));
+        hand.add(Card.of(Suit.CLUBS, Rank.QUEEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.JACK));
+        
+        // when - 한 라운드에서처럼 여러 번 평가
+        hand.evaluate();
+        hand.open();
+        hand.compareTo(hand);
+        hand.strength();
+        
+        // then
+        assertEquals(1, hand.getCacheMisses(),
+            "카드가 바뀌지 않았다면 판정기는 한 번만 호출되어야 합니다.");
+        assertEquals(4, hand.getCacheHits(),
+            "두 번째 평가부터는 캐시된 결과를 사용해야 합니다.");
+        
+        // when - 패를 버리고 새로 받으면 캐시가 무효화됨
+        hand.clear();
+        hand.add(Card.of(Suit.HEARTS, Rank.TWO));
+        hand.add(Card.of(Suit.HEARTS, Rank.FIVE));
+        hand.add(Card.of(Suit.HEARTS, Rank.NINE));
+        hand.add(Card.of(Suit.HEARTS, Rank.JACK));
+        hand.add(Card.of(Suit.HEARTS, Rank.KING));
+        
+        // then
+        assertEquals(HandRank.FLUSH, hand.evaluate(),
+            "clear()/add() 이후에는 새 카드로 다시 판정해야 합니다.");
+        assertEquals(2, hand.getCacheMisses());
+    }
+    
+    @Test
+    @DisplayName("26. 카드 묶음 변환 테스트 - toCardSet()/fromCardSet()")
+    void testCardSetConversion() {
+        // given
+        Card aceOfHearts = Card.of(Suit.HEARTS, Rank.ACE);
+        Card twoOfClubs = Card.of(Suit.CLUBS, Rank.TWO);
+        hand.add(aceOfHearts);
+        hand.add(twoOfClubs);
+        
+        // when
+        long set = hand.toCardSet();
+        
+        // then
+        assertEquals(CardSet.of(aceOfHearts, twoOfClubs), set, "손패의 카드 묶음에는 받은 카드만 있어야 합니다.");
+        assertEquals(List.of(aceOfHearts, twoOfClubs), Hand.fromCardSet(set).getCards(),
+            "카드 묶음으로 만든 손패는 같은 카드를 가져야 합니다.");
+        
+        hand.clear();
+        assertEquals(CardSet.EMPTY, hand.toCardSet(), "clear() 후에는 빈 카드 묶음이어야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> Hand.fromCardSet(CardSet.FULL_DECK),
+            "6장 이상의 카드 묶음으로는 손패를 만들 수 없습니다.");
+    }
+}
@@ -0,0 +1,111 @@
+package game.components.hand;
+
+import game.components.card.Card;
+import game.components.card.Rank;
+import game.components.card.Suit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HoldemHand 클래스 테스트
+ *
+ * <p>홀 카드 2장과 공유 보드로 가장 강한 5장을 판정하는지 검증합니다.</p>
+ */
+public class HoldemHandTest {
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+    }
+
+    private HoldemHand handOf(Card first, Card second) {
+        HoldemHand hand = new HoldemHand(board);
+        hand.add(first);
+        hand.add(second);
+        return hand;
+    }
+
+    @Test
+    @DisplayName("1. 홀 카드와 보드를 합쳐 가장 강한 5장으로 판정하는지 확인")
+    void testBestFiveOfSeven() {
+        // given - 보드: K♥ Q♥ 9♥ 4♣ 4♦
+        board.add(Card.of(Suit.HEARTS, Rank.KING));
+        board.add(Card.of(Suit.HEARTS, Rank.QUEEN));
+        board.add(Card.of(Suit.HEARTS, Rank.NINE));
+        board.add(Card.of(Suit.CLUBS, Rank.FOUR));
+        board.add(Card.of(Suit.DIAMONDS, Rank.FOUR));
+
+        HoldemHand flush = handOf(Card.of(Suit.HEARTS, Rank.TWO), Card.of(Suit.HEARTS, Rank.THREE));
+        HoldemHand fullHouse = handOf(Card.of(Suit.SPADES, Rank.KING), Card.of(Suit.CLUBS, Rank.KING));
+        HoldemHand twoPair = handOf(Card.of(Suit.SPADES, Rank.ACE), Card.of(Suit.CLUBS, Rank.QUEEN));
+
+        // when & then
+        assertEquals(HandRank.FLUSH, flush.evaluate(), "하트 5장이 모이면 플러시여야 합니다.");
+        assertEquals(HandRank.FULL_HOUSE, fullHouse.evaluate(), "K 3장과 4 2장은 풀하우스여야 합니다.");
+        assertEquals(HandRank.TWO_PAIR, twoPair.evaluate(), "Q와 4 페어는 투페어여야 합니다.");
+        assertTrue(fullHouse.compareTo(flush) > 0, "풀하우스가 플러시보다 강해야 합니다.");
+        assertTrue(flush.compareTo(twoPair) > 0, "플러시가 투페어보다 강해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("2. 보드만으로 같은 패가 되면 동점인지 확인")
+    void testPlayingTheBoard() {
+        // given - 보드가 스트레이트: 10♠ J♥ Q♦ K♣ A♠
+        board.add(Card.of(Suit.SPADES, Rank.TEN));
+        board.add(Card.of(Suit.HEARTS, Rank.JACK));
+        board.add(Card.of(Suit.DIAMONDS, Rank.QUEEN));
+        board.add(Card.of(Suit.CLUBS, Rank.KING));
+        board.add(Card.of(Suit.SPADES, Rank.ACE));
+
+        HoldemHand first = handOf(Card.of(Suit.HEARTS, Rank.TWO), Card.of(Suit.CLUBS, Rank.THREE));
+        HoldemHand second = handOf(Card.of(Suit.DIAMONDS, Rank.FOUR), Card.of(Suit.HEARTS, Rank.FIVE));
+
+        // when & then
+        assertEquals(HandRank.STRAIGHT, first.evaluate());
+        assertEquals(0, first.compareTo(second), "보드의 스트레이트를 함께 쓰면 동점이어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("3. 보드가 바뀌면 판정 결과도 바뀌는지 확인")
+    void testBoardIsShared() {
+        // given - 플롭까지: 7♠ 8♠ 9♠
+        HoldemHand hand = handOf(Card.of(Suit.SPADES, Rank.TEN), Card.of(Suit.SPADES, Rank.JACK));
+        board.add(Card.of(Suit.SPADES, Rank.SEVEN));
+        board.add(Card.of(Suit.SPADES, Rank.EIGHT));
+        board.add(Card.of(Suit.SPADES, Rank.NINE));
+        assertEquals(HandRank.STRAIGHT_FLUSH, hand.evaluate(), "플롭에서 스트레이트 플러시여야 합니다.");
+
+        // when - 보드를 치우고 다시 깔기
+        board.clear();
+        board.add(Card.of(Suit.HEARTS, Rank.TEN));
+        board.add(Card.of(Suit.HEARTS, Rank.TWO));
+        board.add(Card.of(Suit.CLUBS, Rank.FIVE));
+
+        // then
+        assertEquals(HandRank.ONE_PAIR, hand.evaluate(), "새 보드에서는 원페어여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("4. 잘못된 사용에 대한 예외 확인")
+    void testInvalidUsage() {
+        HoldemHand hand = handOf(Card.of(Suit.SPADES, Rank.ACE), Card.of(Suit.HEARTS, Rank.ACE));
+
+        assertThrows(IllegalStateException.class, hand::strength,
+            "카드가 5장 미만이면 IllegalStateException이 발생해야 합니다.");
+        assertThrows(IllegalStateException.class, () -> hand.add(Card.of(Suit.CLUBS, Rank.ACE)),
+            "홀 카드를 3장 받으면 IllegalStateException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> new HoldemHand(null),
+            "null 보드로 만들면 IllegalArgumentException이 발생해야 합니다.");
+
+        for (Rank rank : new Rank[]{Rank.TWO, Rank.THREE, Rank.FOUR, Rank.FIVE, Rank.SIX}) {
+            board.add(Card.of(Suit.CLUBS, rank));
+        }
+        assertThrows(IllegalStateException.class, () -> board.add(Card.of(Suit.CLUBS, Rank.SEVEN)),
+            "보드에 6장을 깔면 IllegalStateException이 발생해야 합니다.");
+    }
+}
@@ -0,0 +1,46 @@
+package game.management.simulation;
+
+import game.components.hand.BitmaskEvaluator;
+import game.components.hand.HandRank;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HandEnumeration 클래스 테스트
+ *
+ * <p>모든 5장 조합을 나누어 판정한 결과가 알려진 족보별 개수와 같은지 검증합니다.</p>
+ */
+public class HandEnumerationTest {
+
+    @Test
+    @DisplayName("1. 모든 5장 조합의 족보별 개수가 알려진 값과 같은지 확인")
+    void testCountsMatchKnownValues() {
+        // given
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // when
+            HandEnumeration.Result result = new HandEnumeration(new BitmaskEvaluator(), pool).run();
+
+            // then
+            assertEquals(HandEnumeration.TOTAL_HANDS, result.getTotal(), "전체 조합 수는 2,598,960개여야 합니다.");
+            assertEquals(4L, result.getCounts().get(HandRank.ROYAL_FLUSH), "로열 플러시는 4개여야 합니다.");
+            assertEquals(36L, result.getCounts().get(HandRank.STRAIGHT_FLUSH), "스트레이트 플러시는 36개여야 합니다.");
+            assertTrue(result.matchesExpected(), "족보별 개수가 알려진 값과 같아야 합니다.\n" + result);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("2. 잘못된 생성 인자에 대한 예외 확인")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HandEnumeration(null, ForkJoinPool.commonPool()),
+            "null 판정기로 만들면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> new HandEnumeration(new BitmaskEvaluator(), null),
+            "null 스레드 풀로 만들면 IllegalArgumentException이 발생해야 합니다.");
+    }
+}
@@ -0,0 +1,133 @@
+package game.management.simulation;
+
+import game.components.deck.Deck;
+import game.components.deck.ShuffleMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ShuffleFairness 클래스 테스트
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>저장소의 셔플 방식이 치우침 없이 통과하고, 같은 시드로 재현되는지 확인</li>
+ *   <li>일부러 치우치게 만든 난수 생성기를 치우침으로 판정하는지 확인</li>
+ *   <li>잘못된 인자에 대한 예외 확인</li>
+ *   <li>여러 시드에서 통계량의 평균이 자유도(2601)에 가까운지 확인</li>
+ * </ol>
+ */
+public class ShuffleFairnessTest {
+    private static final long DECKS = 20_000L;
+    private static final long SEED = 42L;
+
+    @Test
+    @DisplayName("1. 저장소의 셔플 방식이 치우침 없이 통과하고, 같은 시드로 재현되는지 확인")
+    void testSourcesArePassing() {
+        // given
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ShuffleFairness fairness = new ShuffleFairness(pool);
+
+            ShuffleFairness.sources().forEach((name, source) -> {
+                // when
+                ShuffleFairness.Result result = fairness.run(source, DECKS, SEED);
+                ShuffleFairness.Result again = fairness.run(source, DECKS, SEED);
+
+                // then - 모든 방식이 시드로 정해지므로 판정도 매번 같다
+                assertEquals(result.getChiSquare(), again.getChiSquare(), name + ": 같은 시드면 결과가 같아야 합니다.");
+                assertEquals(DECKS, result.getDecks(), name + ": 섞은 덱 수가 요청한 수와 같아야 합니다.");
+                assertEquals(2601, result.getDegreesOfFreedom(), "자유도는 51 × 51이어야 합니다.");
+                assertFalse(result.isBiased(), name + ": 치우침이 없어야 합니다.\n" + result);
+            });
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("2. 일부러 치우치게 만든 난수 생성기를 치우침으로 판정하는지 확인")
+    void testBiasedGeneratorIsFlagged() {
+        // given - 난수의 하위 8비트를 나머지 연산으로 줄이면 작은 값이 더 자주 나온다 (모듈로 편향)
+        ShuffleFairness.DeckSource biased = random -> {
+            RandomGenerator modulo = new RandomGenerator() {
+                @Override
+                public long nextLong() {
+                    return random.nextLong();
+                }
+
+                @Override
+                public int nextInt(int bound) {
+                    return (int) ((random.nextLong() & 0xFF) % bound);
+                }
+            };
+            Deck deck = new Deck(modulo, ShuffleMode.EAGER);
+            return () -> {
+                deck.reshuffle();
+                return deck;
+            };
+        };
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // when
+            ShuffleFairness.Result result = new ShuffleFairness(pool).run(biased, DECKS, SEED);
+
+            // then
+            assertTrue(result.isBiased(), "모듈로 편향이 있는 셔플은 치우침으로 판정되어야 합니다.\n" + result);
+            assertTrue(result.getBiasPValue() < ShuffleFairness.BIAS_P_VALUE, "보정한 p값이 기준보다 작아야 합니다.");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("3. 잘못된 인자에 대한 예외 확인")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ShuffleFairness(null),
+            "null 스레드 풀로 만들면 IllegalArgumentException이 발생해야 합니다.");
+
+        ShuffleFairness fairness = new ShuffleFairness(ForkJoinPool.commonPool());
+        ShuffleFairness.DeckSource source = random -> {
+            Deck deck = new Deck(new SplittableRandom(), ShuffleMode.EAGER);
+            return () -> deck;
+        };
+        assertThrows(IllegalArgumentException.class, () -> fairness.run(null, DECKS, SEED),
+            "null 덱 공급 방식이면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> fairness.run(source, 0, SEED),
+            "덱 수가 0이면 IllegalArgumentException이 발생해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("4. 여러 시드에서 통계량의 평균이 자유도(2601)에 가까운지 확인")
+    void testStatisticsMatchDegreesOfFreedom() {
+        // given - 고른 셔플의 통계량은 평균 2601, 표준편차 sqrt(2 × 2601) ≈ 72인 카이제곱 분포를 따른다
+        int seeds = 30;
+        ShuffleFairness.DeckSource source = ShuffleFairness.sources().get("EAGER (SplittableRandom)");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ShuffleFairness fairness = new ShuffleFairness(pool);
+
+            // when
+            double chiSum = 0;
+            double gSum = 0;
+            for (int seed = 0; seed < seeds; seed++) {
+                ShuffleFairness.Result result = fairness.run(source, DECKS, seed);
+                chiSum += result.getChiSquare();
+                gSum += result.getGStatistic();
+            }
+
+            // then - 평균의 표준오차는 72 / sqrt(30) ≈ 13, 보정하지 않으면 평균이 2652로 51만큼 커진다
+            double chiMean = chiSum / seeds;
+            double gMean = gSum / seeds;
+            assertEquals(2601, chiMean, 40, "카이제곱 통계량의 평균은 자유도에 가까워야 합니다: " + chiMean);
+            assertEquals(2601, gMean, 40, "G 통계량의 평균은 자유도에 가까워야 합니다: " + gMean);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package game.participants.dealer;
 import game.components.card.Card;
 import game.components.card.Rank;
 import game.components.card.Suit;
+import game.components.deck.ShuffledDeckSupplier;
 import game.components.hand.Hand;
 import game.participants.player.Player;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -160,9 +162,9 @@ public class DealerTest {
         dealer.playGame(players, 10); // 10라운드만 진행
         
         // then
-        int totalWins = 0;
-        int totalLoses = 0;
-        int totalDraws = 0;
+        long totalWins = 0;
+        long totalLoses = 0;
+        long totalDraws = 0;
         
         for (Player player : players) {
             totalWins += player.getWinCount();
@@ -205,17 +207,17 @@ public class DealerTest {
         dealer.playGame(players, 100);
         
         // then
-        int totalMoney = 0;
-        int totalWins = 0;
+        long totalMoney = 0;
+        long totalWins = 0;
         
         for (Player player : players) {
             // 각 플레이어의 자금 확인
-            int finalMoney = player.getMoney();
+            long finalMoney = player.getMoney();
             assertTrue(finalMoney >= 0, 
                 player.getName() + "의 자금이 음수가 되었습니다");
             
             // 정확한 상금 계산 확인 (무승부는 상금 없음)
-            int expectedMoney = 10000 + (player.getWinCount() * 100);
+            long expectedMoney = 10000 + (player.getWinCount() * 100);
             assertEquals(expectedMoney, finalMoney,
                 player.getName() + "의 최종 자금이 예상과 다릅니다");
             
@@ -224,80 +226,177 @@ public class DealerTest {
         }
         
         // 전체 자금의 합은 초기 자금(40,000) + 총 승리 횟수 * 상금(100)
-        int expectedTotal = 40000 + (totalWins * 100);
+        long expectedTotal = 40000 + (totalWins * 100);
         assertEquals(expectedTotal, totalMoney, 
             "전체 자금의 합이 예상과 다릅니다");
     }
     
+    @Test
+    @DisplayName("13. 같은 시드의 딜러는 같은 카드를 나눠주는지 확인")
+    void testSeededDealerIsReproducible() {
+        // given
+        Dealer first = new Dealer(new SplittableRandom(7));
+        Dealer second = new Dealer(new SplittableRandom(7));
+        List<Player> otherPlayers = List.of(new Player("플레이어5", 10000), new Player("플레이어6", 10000));
+        List<Player> samePlayers = players.subList(0, 2);
+        
+        for (int round = 0; round < 3; round++) {
+            // when
+            first.startNewGame();
+            first.dealCards(samePlayers);
+            second.startNewGame();
+            second.dealCards(otherPlayers);
+            
+            // then
+            for (int i = 0; i < 2; i++) {
+                assertEquals(samePlayers.get(i).getHand().getCards(), otherPlayers.get(i).getHand().getCards(),
+                    "같은 시드의 딜러는 " + (round + 1) + "라운드에도 같은 카드를 나눠줘야 합니다.");
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("14. 미리 섞은 덱 공급기를 쓰는 딜러도 시드로 재현되는지 확인")
+    void testDealerWithSupplierIsReproducible() {
+        List<Player> otherPlayers = List.of(new Player("플레이어5", 10000), new Player("플레이어6", 10000));
+        List<Player> samePlayers = players.subList(0, 2);
+        try (ShuffledDeckSupplier firstSupplier = new ShuffledDeckSupplier(11, 4, 1);
+             ShuffledDeckSupplier secondSupplier = new ShuffledDeckSupplier(11, 4, 2)) {
+            Dealer first = new Dealer(firstSupplier);
+            Dealer second = new Dealer(secondSupplier);
+            
+            for (int round = 0; round < 20; round++) {
+                // when
+                first.startNewGame();
+                first.dealCards(samePlayers);
+                second.startNewGame();
+                second.dealCards(otherPlayers);
+                
+                // then
+                for (int i = 0; i < 2; i++) {
+                    assertEquals(samePlayers.get(i).getHand().getCards(), otherPlayers.get(i).getHand().getCards(),
+                        "같은 시드의 공급기를 쓰는 딜러는 " + (round + 1) + "라운드에도 같은 카드를 나눠줘야 합니다.");
+                }
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("15. 게임 뒤의 자금 순위표가 자금으로 정렬한 결과와 같은지 확인")
+    void testLeaderboardFollowsMoney() {
+        // when
+        dealer.playGame(players, 50);
+        
+        // then
+        List<Player> sorted = new ArrayList<>(players);
+        sorted.sort((p1, p2) -> Long.compare(p2.getMoney(), p1.getMoney()));
+        assertEquals(sorted, dealer.getLeaderboard().topK(players.size()),
+            "순위표는 다시 정렬하지 않아도 자금 내림차순이어야 합니다.");
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i + 1, dealer.getLeaderboard().rank(sorted.get(i)));
+        }
+    }
+    
+    @Test
+    @DisplayName("16. 딜러 밖에서 바뀐 자금과 떠난 플레이어가 순위표에 반영되는지 확인")
+    void testLeaderboardFollowsOutsideChanges() {
+        // given
+        dealer.playGame(players, 1);
+        Player rich = players.get(3);
+        Player leaving = players.get(0);
+        
+        // when - 게임 밖에서 자금을 바꾸고 알림
+        rich.addMoney(1_000_000);
+        dealer.updateStanding(rich);
+        
+        // then
+        assertEquals(1, dealer.getLeaderboard().rank(rich), "알린 자금 변경이 순위에 반영되어야 합니다.");
+        
+        // when - 라운드 사이에 알리지 않고 자금을 바꿈
+        leaving.addMoney(2_000_000);
+        dealer.playGame(players, 1);
+        
+        // then
+        assertEquals(1, dealer.getLeaderboard().rank(leaving), "다음 라운드를 시작할 때 바뀐 자금이 반영되어야 합니다.");
+        
+        // when - 테이블을 떠남
+        assertTrue(dealer.removeFromLeaderboard(leaving), "순위표에 있던 플레이어는 뺄 수 있어야 합니다.");
+        
+        // then
+        assertEquals(-1, dealer.getLeaderboard().rank(leaving), "떠난 플레이어는 순위표에 없어야 합니다.");
+        assertEquals(players.size() - 1, dealer.getLeaderboard().size());
+        assertFalse(dealer.removeFromLeaderboard(leaving), "이미 뺀 플레이어를 다시 빼면 false여야 합니다.");
+    }
+    
     // 헬퍼 메서드들 - 특정 패를 만드는 메서드
     
     private Hand createRoyalFlushHand() {
         Hand hand = new Hand();
-        hand.add(new Card(Suit.SPADES, Rank.ACE));
-        hand.add(new Card(Suit.SPADES, Rank.KING));
-        hand.add(new Card(Suit.SPADES, Rank.QUEEN));
-        hand.add(new Card(Suit.SPADES, Rank.JACK));
-        hand.add(new Card(Suit.SPADES, Rank.TEN));
+        hand.add(Card.of(Suit.SPADES, Rank.ACE));
+        hand.add(Card.of(Suit.SPADES, Rank.KING));
+        hand.add(Card.of(Suit.SPADES, Rank.QUEEN));
+        hand.add(Card.of(Suit.SPADES, Rank.JACK));
+        hand.add(Card.of(Suit.SPADES, Rank.TEN));
         return hand;
     }
     
     private Hand createStraightFlushHand() {
         Hand hand = new Hand();
-        hand.add(new Card(Suit.HEARTS, Rank.NINE));
-        hand.add(new Card(Suit.HEARTS, Rank.EIGHT));
-        hand.add(new Card(Suit.HEARTS, Rank.SEVEN));
-        hand.add(new Card(Suit.HEARTS, Rank.SIX));
-        hand.add(new Card(Suit.HEARTS, Rank.FIVE));
+        hand.add(Card.of(Suit.HEARTS, Rank.NINE));
+        hand.add(Card.of(Suit.HEARTS, Rank.EIGHT));
+        hand.add(Card.of(Suit.HEARTS, Rank.SEVEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.SIX));
+        hand.add(Card.of(Suit.HEARTS, Rank.FIVE));
         return hand;
     }
     
     private Hand createFourOfAKindHand() {
         Hand hand = new Hand();
-        hand.add(new Card(Suit.HEARTS, Rank.KING));
-        hand.add(new Card(Suit.SPADES, Rank.KING));
-        hand.add(new Card(Suit.DIAMONDS, Rank.KING));
-        hand.add(new Card(Suit.CLUBS, Rank.KING));
-        hand.add(new Card(Suit.HEARTS, Rank.THREE));
+        hand.add(Card.of(Suit.HEARTS, Rank.KING));
+        hand.add(Card.of(Suit.SPADES, Rank.KING));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.KING));
+        hand.add(Card.of(Suit.CLUBS, Rank.KING));
+        hand.add(Card.of(Suit.HEARTS, Rank.THREE));
         return hand;
     }
     
     private Hand createFullHouseHand() {
         Hand hand = new Hand();
-        hand.add(new Card(Suit.HEARTS, Rank.JACK));
-        hand.add(new Card(Suit.SPADES, Rank.JACK));
-        hand.add(new Card(Suit.DIAMONDS, Rank.JACK));
-        hand.add(new Card(Suit.CLUBS, Rank.SEVEN));
-        hand.add(new Card(Suit.HEARTS, Rank.SEVEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.JACK));
+        hand.add(Card.of(Suit.SPADES, Rank.JACK));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.JACK));
+        hand.add(Card.of(Suit.CLUBS, Rank.SEVEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.SEVEN));
         return hand;
     }
     
     private Hand createFlushHand() {
         Hand hand = new Hand();
-        hand.add(new Card(Suit.DIAMONDS, Rank.ACE));
-        hand.add(new Card(Suit.DIAMONDS, Rank.QUEEN));
-        hand.add(new Card(Suit.DIAMONDS, Rank.TEN));
-        hand.add(new Card(Suit.DIAMONDS, Rank.FIVE));
-        hand.add(new Card(Suit.DIAMONDS, Rank.THREE));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.ACE));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.QUEEN));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.TEN));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.FIVE));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.THREE));
         return hand;
     }
     
     private Hand createStraightHand() {
         Hand hand = new Hand();
-        hand.add(new Card(Suit.HEARTS, Rank.TEN));
-        hand.add(new Card(Suit.SPADES, Rank.NINE));
-        hand.add(new Card(Suit.DIAMONDS, Rank.EIGHT));
-        hand.add(new Card(Suit.CLUBS, Rank.SEVEN));
-        hand.add(new Card(Suit.HEARTS, Rank.SIX));
+        hand.add(Card.of(Suit.HEARTS, Rank.TEN));
+        hand.add(Card.of(Suit.SPADES, Rank.NINE));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.EIGHT));
+        hand.add(Card.of(Suit.CLUBS, Rank.SEVEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.SIX));
         return hand;
     }
     
     private Hand createOnePairHand() {
         Hand hand = new Hand();
-        hand.add(new Card(Suit.HEARTS, Rank.ACE));
-        hand.add(new Card(Suit.SPADES, Rank.ACE));
-        hand.add(new Card(Suit.DIAMONDS, Rank.KING));
-        hand.add(new Card(Suit.CLUBS, Rank.QUEEN));
-        hand.add(new Card(Suit.HEARTS, Rank.JACK));
+        hand.add(Card.of(Suit.HEARTS, Rank.ACE));
+        hand.add(Card.of(Suit.SPADES, Rank.ACE));
+        hand.add(Card.of(Suit.DIAMONDS, Rank.KING));
+        hand.add(Card.of(Suit.CLUBS, Rank.QUEEN));
+        hand.add(Card.of(Suit.HEARTS, Rank.JACK));
         return hand;
     }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package game.participants.player;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bankroll 클래스 테스트
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>입금과 조건부 출금 확인</li>
+ *   <li>int 범위를 넘는 잔액과 long 범위를 넘는 입금 확인</li>
+ *   <li>여러 스레드가 동시에 입금, 출금해도 잔액이 맞는지 확인</li>
+ *   <li>여러 스레드가 잔액보다 많이 출금하려 해도 잔액만큼만 빠지는지 확인</li>
+ * </ol>
+ */
+public class BankrollTest {
+    private static final int THREADS = 32;
+
+    @Test
+    @DisplayName("1. 입금과 조건부 출금 확인")
+    void testCreditAndDebit() {
+        // given
+        Bankroll bankroll = new Bankroll(1_000);
+
+        // when & then
+        assertEquals(1_500, bankroll.credit(500), "입금 뒤의 잔액을 반환해야 합니다.");
+        assertTrue(bankroll.tryDebit(1_500), "잔액만큼은 출금할 수 있어야 합니다.");
+        assertFalse(bankroll.tryDebit(1), "잔액이 부족하면 출금하지 않아야 합니다.");
+        assertFalse(bankroll.tryDebit(-1), "음수 금액은 출금하지 않아야 합니다.");
+        assertEquals(0, bankroll.getBalance(), "실패한 출금은 잔액을 바꾸지 않아야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> bankroll.credit(-1),
+            "음수 금액을 입금하면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> new Bankroll(-1),
+            "음수 초기 자금이면 IllegalArgumentException이 발생해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("2. int 범위를 넘는 잔액과 long 범위를 넘는 입금 확인")
+    void testLargeBalance() {
+        // given
+        Bankroll bankroll = new Bankroll(Integer.MAX_VALUE);
+
+        // when
+        bankroll.credit(Integer.MAX_VALUE);
+
+        // then
+        assertEquals(2L * Integer.MAX_VALUE, bankroll.getBalance(), "잔액이 int 범위를 넘어도 넘치지 않아야 합니다.");
+
+        Bankroll full = new Bankroll(Long.MAX_VALUE);
+        assertThrows(ArithmeticException.class, () -> full.credit(1), "long 범위를 넘으면 ArithmeticException이 발생해야 합니다.");
+        assertEquals(Long.MAX_VALUE, full.getBalance(), "넘친 입금은 잔액을 바꾸지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("3. 여러 스레드가 동시에 입금, 출금해도 잔액이 맞는지 확인")
+    void testConcurrentCreditAndDebit() throws InterruptedException {
+        // given
+        Bankroll bankroll = new Bankroll(1_000_000);
+        int rounds = 10_000;
+
+        // when - 스레드마다 100원 입금과 30원 출금을 번갈아 반복
+        runConcurrently(() -> {
+            for (int i = 0; i < rounds; i++) {
+                bankroll.credit(100);
+                bankroll.tryDebit(30);
+            }
+        });
+
+        // then
+        assertEquals(1_000_000 + (long) THREADS * rounds * 70, bankroll.getBalance(), "사라진 입금이나 출금이 없어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("4. 여러 스레드가 잔액보다 많이 출금하려 해도 잔액만큼만 빠지는지 확인")
+    void testConcurrentDebitNeverOverdraws() throws InterruptedException {
+        // given
+        Bankroll bankroll = new Bankroll(100_000);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // when - 잔액은 1원씩 100,000번만 뺄 수 있지만 모두 합쳐 320,000번 시도
+        runConcurrently(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                if (bankroll.tryDebit(1)) {
+                    succeeded.incrementAndGet();
+                }
+            }
+        });
+
+        // then
+        assertEquals(100_000, succeeded.get(), "잔액만큼만 출금에 성공해야 합니다.");
+        assertEquals(0, bankroll.getBalance(), "잔액이 음수가 되지 않아야 합니다.");
+    }
+
+    /**
+     * 여러 스레드가 같은 작업을 동시에 시작하도록 실행하고 모두 끝날 때까지 기다린다.
+     */
+    private static void runConcurrently(Runnable task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                task.run();
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package game.participants.player;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Leaderboard 클래스 테스트
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>점수 순위와 같은 점수의 순서 확인</li>
+ *   <li>점수를 무작위로 바꾸고 빼도 정렬한 결과와 순위가 같은지 확인</li>
+ *   <li>잘못된 인자에 대한 예외 확인</li>
+ * </ol>
+ */
+public class LeaderboardTest {
+
+    @Test
+    @DisplayName("1. 점수 순위와 같은 점수의 순서 확인")
+    void testRankAndTies() {
+        // given
+        Leaderboard<String> leaderboard = new Leaderboard<>();
+        leaderboard.update("고니", 100);
+        leaderboard.update("평경장", 300);
+        leaderboard.update("짝귀", 100);
+        leaderboard.update("아귀", 200);
+
+        // when
+        leaderboard.update("고니", 400);
+        leaderboard.update("고니", 100);
+
+        // then
+        assertEquals(List.of("평경장", "아귀", "고니", "짝귀"), leaderboard.topK(10),
+            "점수가 같으면 먼저 들어온 항목이 앞서야 합니다.");
+        assertEquals(List.of("평경장", "아귀"), leaderboard.topK(2));
+        assertEquals(3, leaderboard.rank("고니"));
+        assertEquals(-1, leaderboard.rank("타짜"), "순위표에 없는 항목의 순위는 -1이어야 합니다.");
+        assertEquals(100, leaderboard.scoreOf("고니"));
+
+        assertTrue(leaderboard.remove("평경장"));
+        assertFalse(leaderboard.remove("평경장"));
+        assertEquals(1, leaderboard.rank("아귀"), "앞 순위를 빼면 순위가 하나씩 올라가야 합니다.");
+        assertEquals(3, leaderboard.size());
+    }
+
+    @Test
+    @DisplayName("2. 점수를 무작위로 바꾸고 빼도 정렬한 결과와 순위가 같은지 확인")
+    void testMatchesFullSort() {
+        // given
+        int players = 2_000;
+        Leaderboard<Integer> leaderboard = new Leaderboard<>();
+        long[] scores = new long[players];
+        long[] firstSeen = new long[players];
+        boolean[] present = new boolean[players];
+        long sequence = 0;
+        SplittableRandom random = new SplittableRandom(42);
+
+        // when - 무작위로 점수를 바꾸거나 빼기를 반복
+        for (int step = 0; step < 50_000; step++) {
+            int player = random.nextInt(players);
+            if (random.nextInt(10) == 0) {
+                leaderboard.remove(player);
+                present[player] = false;
+            } else {
+                long score = random.nextLong(500);
+                if (!present[player]) {
+                    firstSeen[player] = sequence++;
+                    present[player] = true;
+                }
+                scores[player] = score;
+                leaderboard.update(player, score);
+            }
+        }
+
+        // then - 전체를 정렬한 결과와 비교
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            if (present[i]) {
+                expected.add(i);
+            }
+        }
+        expected.sort(Comparator.<Integer>comparingLong(i -> -scores[i]).thenComparingLong(i -> firstSeen[i]));
+
+        assertEquals(expected.size(), leaderboard.size());
+        assertEquals(expected, leaderboard.topK(players), "순위표가 전체를 정렬한 결과와 같아야 합니다.");
+        for (int rank = 0; rank < expected.size(); rank++) {
+            assertEquals(rank + 1, leaderboard.rank(expected.get(rank)), expected.get(rank) + "의 순위가 달라서는 안 됩니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("3. 잘못된 인자에 대한 예외 확인")
+    void testInvalidArguments() {
+        Leaderboard<String> leaderboard = new Leaderboard<>();
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.update(null, 1),
+            "null 항목이면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.topK(-1),
+            "k가 음수이면 IllegalArgumentException이 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.scoreOf("고니"),
+            "없는 항목의 점수를 물으면 IllegalArgumentException이 발생해야 합니다.");
+    }
+}
@@ -0,0 +1,124 @@
+package game.participants.player;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PlayerStats 클래스 테스트
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>승, 패, 무승부 기록과 스냅샷 확인</li>
+ *   <li>여러 스레드가 동시에 기록해도 횟수가 사라지지 않는지 확인</li>
+ *   <li>기록이 계속 몰리는 동안 같은 순간의 값이라고 표시된 스냅샷이 실제로 한 순간의 값인지 확인</li>
+ * </ol>
+ */
+public class PlayerStatsTest {
+
+    @Test
+    @DisplayName("1. 승, 패, 무승부 기록과 스냅샷 확인")
+    void testRecordAndSnapshot() {
+        // given
+        PlayerStats stats = new PlayerStats();
+
+        // when
+        stats.recordWin();
+        stats.recordWin();
+        stats.recordLose();
+        stats.recordDraw();
+        PlayerStats.Snapshot snapshot = stats.snapshot();
+        stats.recordWin();
+
+        // then
+        assertEquals(2, snapshot.getWins(), "스냅샷의 승리 횟수는 2여야 합니다.");
+        assertEquals(1, snapshot.getLosses(), "스냅샷의 패배 횟수는 1이어야 합니다.");
+        assertEquals(1, snapshot.getDraws(), "스냅샷의 무승부 횟수는 1이어야 합니다.");
+        assertEquals(4, snapshot.getGames(), "스냅샷의 게임 수는 4여야 합니다.");
+        assertTrue(snapshot.isConsistent(), "기록이 멈춘 동안 읽은 스냅샷은 같은 순간의 값이어야 합니다.");
+        assertEquals(3, stats.getWins(), "스냅샷 뒤의 기록은 스냅샷을 바꾸지 않고 전적에만 반영되어야 합니다.");
+        assertEquals("2승 1패 1무", snapshot.toString());
+    }
+
+    @Test
+    @DisplayName("2. 여러 스레드가 동시에 기록해도 횟수가 사라지지 않는지 확인")
+    void testConcurrentRecords() throws InterruptedException {
+        // given
+        PlayerStats stats = new PlayerStats();
+        int tables = 32;
+        int rounds = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[tables];
+
+        // when - 테이블마다 승, 패, 무승부를 번갈아 기록
+        for (int t = 0; t < tables; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < rounds; i++) {
+                    switch (i % 3) {
+                        case 0 -> stats.recordWin();
+                        case 1 -> stats.recordLose();
+                        default -> stats.recordDraw();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        while (threads[tables - 1].isAlive()) {
+            assertTrue(stats.snapshot().getGames() <= (long) tables * rounds, "기록 중에 읽어도 전체보다 많을 수 없습니다.");
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        PlayerStats.Snapshot snapshot = stats.snapshot();
+        long perKind = (long) tables * (rounds / 3);
+        assertEquals(perKind + tables, snapshot.getWins(), "승리 기록이 모두 반영되어야 합니다.");
+        assertEquals(perKind, snapshot.getLosses(), "패배 기록이 모두 반영되어야 합니다.");
+        assertEquals(perKind, snapshot.getDraws(), "무승부 기록이 모두 반영되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("3. 기록이 계속 몰리는 동안 같은 순간의 값이라고 표시된 스냅샷이 실제로 한 순간의 값인지 확인")
+    void testConsistentSnapshotWhileRecording() throws InterruptedException {
+        // given - 승리 뒤에 패배를 기록하므로, 어느 순간에도 승리는 패배와 같거나 하나 많다
+        PlayerStats stats = new PlayerStats();
+        Thread table = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                stats.recordWin();
+                stats.recordLose();
+            }
+        });
+        table.start();
+
+        // when
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                PlayerStats.Snapshot snapshot = stats.snapshot();
+                if (snapshot.isConsistent()) {
+                    long lead = snapshot.getWins() - snapshot.getLosses();
+                    // then
+                    assertTrue(lead == 0 || lead == 1, "같은 순간의 스냅샷이라면 승리가 패배보다 0 또는 1 많아야 합니다: " + snapshot);
+                }
+            }
+        } finally {
+            table.interrupt();
+            table.join();
+        }
+
+        // then - 기록이 멈추면 바로 같은 순간의 값을 읽는다
+        PlayerStats.Snapshot last = stats.snapshot();
+        assertTrue(last.isConsistent(), "기록이 멈춘 뒤의 스냅샷은 같은 순간의 값이어야 합니다.");
+        assertEquals(last.getWins(), last.getLosses(), "멈춘 뒤에는 승리와 패배가 같아야 합니다.");
+    }
+}
@@ -0,0 +1,144 @@
+package game.participants.player;
+
+import game.participants.dealer.Dealer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PlayerStore 클래스 테스트
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>플레이어 추가와 이름, 자금, 전적 읽기/쓰기 확인</li>
+ *   <li>힙 밖에 둔 저장소도 같은 값을 담는지 확인</li>
+ *   <li>잘못된 인자와 가득 찬 저장소에 대한 예외 확인</li>
+ *   <li>딜러가 뷰 목록으로 게임을 진행하면 저장소에 결과가 남는지 확인</li>
+ *   <li>백만 명을 담을 때 한 명에 40바이트 미만을 쓰는지 확인</li>
+ * </ol>
+ */
+public class PlayerStoreTest {
+
+    @Test
+    @DisplayName("1. 플레이어 추가와 이름, 자금, 전적 읽기/쓰기 확인")
+    void testAddAndAccess() {
+        // given
+        PlayerStore store = new PlayerStore(4);
+
+        // when
+        int gonie = store.add("고니", 10_000);
+        int ace = store.add("Ace", 500);
+        store.addMoney(gonie, 2_000);
+        boolean removed = store.removeMoney(ace, 600);
+        store.recordWin(gonie);
+        store.recordWin(gonie);
+        store.recordLose(ace);
+        store.recordDraw(ace);
+
+        // then
+        assertEquals(2, store.size());
+        assertEquals("고니", store.getName(gonie), "UTF-8로 담은 이름을 그대로 읽어야 합니다.");
+        assertEquals("Ace", store.getName(ace));
+        assertEquals(12_000, store.getMoney(gonie));
+        assertFalse(removed, "잔액이 부족하면 차감하지 않아야 합니다.");
+        assertEquals(500, store.getMoney(ace));
+        assertEquals(2, store.getWinCount(gonie));
+        assertEquals(1, store.getLoseCount(ace));
+        assertEquals(1, store.getDrawCount(ace));
+        assertEquals(12_500, store.totalMoney());
+
+        Participant view = store.view(gonie);
+        view.removeMoney(1_000);
+        assertEquals(11_000, store.getMoney(gonie), "뷰로 바꾼 자금이 저장소에 반영되어야 합니다.");
+        assertEquals(store.view(gonie), view, "같은 번호의 뷰는 같은 플레이어여야 합니다.");
+        assertEquals("고니 (자금: 11000원, 전적: 2승 0패 0무)", view.toString());
+    }
+
+    @Test
+    @DisplayName("2. 힙 밖에 둔 저장소도 같은 값을 담는지 확인")
+    void testOffHeapStore() {
+        // given
+        PlayerStore heap = new PlayerStore(1_000);
+        PlayerStore offHeap = new PlayerStore(1_000, true);
+        SplittableRandom random = new SplittableRandom(42);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            long money = random.nextLong(1_000_000);
+            heap.add("player" + i, money);
+            offHeap.add("player" + i, money);
+        }
+
+        // then
+        assertTrue(offHeap.isOffHeap());
+        assertFalse(heap.isOffHeap());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(heap.getName(i), offHeap.getName(i));
+            assertEquals(heap.getMoney(i), offHeap.getMoney(i));
+        }
+        assertEquals(heap.totalMoney(), offHeap.totalMoney());
+    }
+
+    @Test
+    @DisplayName("3. 잘못된 인자와 가득 찬 저장소에 대한 예외 확인")
+    void testInvalidArguments() {
+        PlayerStore store = new PlayerStore(1);
+        assertThrows(IllegalArgumentException.class, () -> new PlayerStore(0), "크기가 0이면 예외가 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> store.add(" ", 100), "빈 이름이면 예외가 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> store.add("고니", -1), "음수 자금이면 예외가 발생해야 합니다.");
+
+        store.add("고니", 100);
+        assertThrows(IllegalStateException.class, () -> store.add("아귀", 100), "가득 차면 예외가 발생해야 합니다.");
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getMoney(1), "없는 번호면 예외가 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> store.addMoney(0, -1), "음수 금액이면 예외가 발생해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("4. 딜러가 뷰 목록으로 게임을 진행하면 저장소에 결과가 남는지 확인")
+    void testDealerPlaysOnViews() {
+        // given
+        PlayerStore store = new PlayerStore(8);
+        for (int i = 0; i < 8; i++) {
+            store.add("player" + i, 10_000);
+        }
+        List<Participant> table = store.table(1, 3, 5, 7);
+
+        // when
+        new Dealer(new SplittableRandom(7)).playGame(table, 10);
+
+        // then
+        for (int i = 0; i < 8; i++) {
+            long games = store.getWinCount(i) + store.getLoseCount(i) + store.getDrawCount(i);
+            assertEquals(i % 2 == 1 ? 10 : 0, games, "테이블에 앉은 플레이어만 10판의 전적이 남아야 합니다.");
+            assertEquals(10_000 + store.getWinCount(i) * 100L, store.getMoney(i), "승리마다 상금이 더해져야 합니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("5. 백만 명을 담을 때 한 명에 40바이트 미만을 쓰는지 확인")
+    void testBytesPerPlayer() {
+        // given
+        int players = 1_000_000;
+        PlayerStore store = new PlayerStore(players, true);
+
+        // when
+        for (int i = 0; i < players; i++) {
+            store.add("player" + i, 10_000);
+        }
+
+        // then
+        assertEquals(players, store.size());
+        assertEquals(10_000L * players, store.totalMoney());
+        // 스스로 세는 사용량이 아니라 실제로 잡아 둔 배열 크기로 확인
+        long allocated = store.allocatedBytes();
+        assertTrue(allocated / (double) players < 40, "한 명에 40바이트 미만을 할당해야 합니다: " + allocated / (double) players);
+
+        store.trimToSize();
+        assertEquals(store.usedBytes(), store.allocatedBytes(), "가득 찬 저장소를 줄이면 할당한 만큼 모두 써야 합니다.");
+        assertEquals("player999999", store.getName(players - 1), "줄인 뒤에도 이름을 읽을 수 있어야 합니다.");
+    }
+}
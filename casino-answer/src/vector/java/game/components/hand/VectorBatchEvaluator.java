@@ -0,0 +1,230 @@
+package game.components.hand;
+
+import game.components.card.CardCodec;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * JDK Vector API로 여러 핸드를 한 번에 판정하는 묶음 판정기
+ *
+ * <p>벡터의 레인 하나가 핸드 하나를 맡습니다. AVX2 환경에서는 8개의 핸드를 한 번에 판정합니다.
+ * 판정은 캐시에 머무르는 크기의 구간마다 세 단계로 나누어 진행합니다.</p>
+ * <ol>
+ *   <li>랭크 세기 - 레인별로 카드 코드 5장을 모아(gather) 장수별 랭크 비트마스크(1장, 2장, 3장, 4장)와
+ *       무늬 비트마스크를 만듭니다. 히스토그램 대신 비트 연산만으로 장수를 올리므로 비교나 분기가 없습니다.</li>
+ *   <li>족보 고르기 - 장수별 비트마스크로 플러시, 스트레이트와 족보를 레인별 마스크로 고릅니다.</li>
+ *   <li>동점 판정용 랭크 - 스트레이트 계열이 아닌 핸드에 랭크를 장수, 높이 순으로 이어 붙입니다.</li>
+ * </ol>
+ *
+ * <p>한 단계를 한 메서드에 몰아 두면 JIT 컴파일러의 인라인 한도를 넘어 벡터가 객체로 박싱되므로,
+ * 단계 사이의 값은 작업 배열로 넘깁니다. 페어가 있는 핸드도 스칼라 판정으로 빠지지 않으며,
+ * 벡터 길이로 나누어떨어지지 않는 나머지 핸드만 {@link BatchEvaluator}가 판정합니다.
+ * 판정 결과는 {@link BatchEvaluator#evaluateAll}과 비트 단위까지 같습니다.</p>
+ *
+ * <p>{@code jdk.incubator.vector} 모듈이 필요하므로 {@code -PvectorEvaluator}로 빌드할 때만 포함되며,
+ * {@link BatchEvaluator#preferred()}가 리플렉션으로 불러옵니다.</p>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public final class VectorBatchEvaluator implements BatchEvaluator.Backend {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int CARDS = BatchEvaluator.CARDS_PER_HAND;
+    /** 한 번에 세 단계를 거치는 핸드 수, 작업 배열이 캐시에 머무르도록 고른 레인 수의 배수 */
+    private static final int BLOCK = LANES * 128;
+
+    /** 레인 i가 읽을 위치: i번째 핸드의 첫 카드 (i × 5) */
+    private static final int[] HAND_OFFSETS = new int[LANES];
+
+    static {
+        for (int lane = 0; lane < LANES; lane++) {
+            HAND_OFFSETS[lane] = lane * CARDS;
+        }
+    }
+
+    private static final int ROYAL = HandRank.ROYAL_FLUSH.ordinal() << HandStrength.CATEGORY_SHIFT;
+    private static final int STRAIGHT_FLUSH = HandRank.STRAIGHT_FLUSH.ordinal() << HandStrength.CATEGORY_SHIFT;
+    private static final int FOUR_OF_A_KIND = HandRank.FOUR_OF_A_KIND.ordinal() << HandStrength.CATEGORY_SHIFT;
+    private static final int FULL_HOUSE = HandRank.FULL_HOUSE.ordinal() << HandStrength.CATEGORY_SHIFT;
+    private static final int FLUSH = HandRank.FLUSH.ordinal() << HandStrength.CATEGORY_SHIFT;
+    private static final int STRAIGHT = HandRank.STRAIGHT.ordinal() << HandStrength.CATEGORY_SHIFT;
+    private static final int THREE_OF_A_KIND = HandRank.THREE_OF_A_KIND.ordinal() << HandStrength.CATEGORY_SHIFT;
+    private static final int TWO_PAIR = HandRank.TWO_PAIR.ordinal() << HandStrength.CATEGORY_SHIFT;
+    private static final int ONE_PAIR = HandRank.ONE_PAIR.ordinal() << HandStrength.CATEGORY_SHIFT;
+
+    @Override
+    public void evaluateAll(int[] packedCards, int handCount, int[] outStrength) {
+        BatchEvaluator.checkBounds(packedCards, handCount, outStrength);
+
+        int vectorEnd = handCount - handCount % LANES;
+        int[] singles = new int[BLOCK];
+        int[] pairs = new int[BLOCK];
+        int[] trips = new int[BLOCK];
+        int[] quads = new int[BLOCK];
+        int[] suits = new int[BLOCK];
+        for (int from = 0; from < vectorEnd; from += BLOCK) {
+            int to = Math.min(from + BLOCK, vectorEnd);
+            countRanks(packedCards, from, to, singles, pairs, trips, quads, suits);
+            classify(from, to, singles, pairs, trips, quads, suits, outStrength);
+            appendTieBreaks(from, to, singles, pairs, trips, quads, outStrength);
+        }
+
+        BatchEvaluator.evaluateRange(packedCards, vectorEnd, handCount, outStrength);
+    }
+
+    /**
+     * 01. [from, to) 구간 핸드의 장수별 랭크 비트마스크와 무늬 비트마스크를 작업 배열에 씁니다.
+     */
+    private static void countRanks(int[] packedCards, int from, int to,
+                                   int[] singles, int[] pairs, int[] trips, int[] quads, int[] suits) {
+        IntVector zero = IntVector.zero(SPECIES);
+        IntVector one = IntVector.broadcast(SPECIES, 1);
+        for (int hand = from; hand < to; hand += LANES) {
+            IntVector once = zero;
+            IntVector twice = zero;
+            IntVector thrice = zero;
+            IntVector fourTimes = zero;
+            IntVector suitMask = zero;
+            for (int card = 0; card < CARDS; card++) {
+                IntVector code = IntVector.fromArray(SPECIES, packedCards, hand * CARDS + card, HAND_OFFSETS, 0);
+                if (code.compare(VectorOperators.UNSIGNED_GE, CardCodec.CODES).anyTrue()) {
+                    throw invalidCode(packedCards, hand * CARDS, (hand + LANES) * CARDS);
+                }
+                IntVector suit = code.mul(79).lanewise(VectorOperators.LSHR, 10); // 0~51에서 code / 13과 같다
+                IntVector bit = one.lanewise(VectorOperators.LSHL, code.sub(suit.mul(13)));
+
+                // 이 랭크의 장수를 한 칸 올린다: k장 → k+1장
+                fourTimes = fourTimes.or(thrice.and(bit));
+                thrice = thrice.lanewise(VectorOperators.AND_NOT, bit).or(twice.and(bit));
+                twice = twice.lanewise(VectorOperators.AND_NOT, bit).or(once.and(bit));
+                once = once.lanewise(VectorOperators.AND_NOT, bit)
+                    .or(bit.lanewise(VectorOperators.AND_NOT, once.or(twice).or(thrice).or(fourTimes)));
+                suitMask = suitMask.or(one.lanewise(VectorOperators.LSHL, suit));
+            }
+            int i = hand - from;
+            once.intoArray(singles, i);
+            twice.intoArray(pairs, i);
+            thrice.intoArray(trips, i);
+            fourTimes.intoArray(quads, i);
+            suitMask.intoArray(suits, i);
+        }
+    }
+
+    /**
+     * 02. 작업 배열의 비트마스크로 [from, to) 구간 핸드의 족보를 고릅니다.
+     * 스트레이트 계열은 가장 높은 카드까지 함께 씁니다.
+     */
+    private static void classify(int from, int to, int[] singles, int[] pairs, int[] trips, int[] quads,
+                                 int[] suits, int[] outStrength) {
+        IntVector zero = IntVector.zero(SPECIES);
+        for (int hand = from; hand < to; hand += LANES) {
+            int i = hand - from;
+            IntVector once = IntVector.fromArray(SPECIES, singles, i);
+            IntVector twice = IntVector.fromArray(SPECIES, pairs, i);
+            IntVector thrice = IntVector.fromArray(SPECIES, trips, i);
+            IntVector fourTimes = IntVector.fromArray(SPECIES, quads, i);
+            IntVector suitMask = IntVector.fromArray(SPECIES, suits, i);
+
+            // 약한 족보부터 덮어쓰며 레인별 족보를 고른다
+            VectorMask<Integer> hasPair = twice.compare(VectorOperators.NE, 0);
+            VectorMask<Integer> hasTrips = thrice.compare(VectorOperators.NE, 0);
+            VectorMask<Integer> flush = suitMask.and(suitMask.sub(1)).eq(0);
+            VectorMask<Integer> wheel = once.eq(BitmaskEvaluator.WHEEL_MASK);
+            VectorMask<Integer> straight = isStraight(once).or(wheel);
+            VectorMask<Integer> straightFlush = straight.and(flush);
+
+            IntVector category = zero
+                .blend(ONE_PAIR, hasPair)
+                .blend(TWO_PAIR, twice.and(twice.sub(1)).compare(VectorOperators.NE, 0)) // 페어 비트가 2개
+                .blend(THREE_OF_A_KIND, hasTrips)
+                .blend(STRAIGHT, straight)
+                .blend(FLUSH, flush)
+                .blend(FULL_HOUSE, hasTrips.and(hasPair))
+                .blend(FOUR_OF_A_KIND, fourTimes.compare(VectorOperators.NE, 0))
+                .blend(STRAIGHT_FLUSH, straightFlush)
+                .blend(ROYAL, straightFlush.and(once.eq(BitmaskEvaluator.ROYAL_MASK)));
+
+            // 스트레이트 계열은 가장 높은 카드 하나만, 5, 4, 3, 2, A는 5가 가장 높다
+            IntVector top = zero.blend(highest(once).blend(3, wheel), straight);
+            category.or(top).intoArray(outStrength, hand);
+        }
+    }
+
+    /**
+     * 03. 스트레이트 계열이 아닌 핸드에 동점 판정용 랭크를 이어 붙입니다.
+     * 장수가 많은 랭크부터, 장수가 같으면 높은 랭크부터 놓습니다. ({@link HandStrength#appendRanks(int, int)})
+     */
+    private static void appendTieBreaks(int from, int to, int[] singles, int[] pairs, int[] trips, int[] quads,
+                                        int[] outStrength) {
+        IntVector zero = IntVector.zero(SPECIES);
+        IntVector one = IntVector.broadcast(SPECIES, 1);
+        for (int hand = from; hand < to; hand += LANES) {
+            int i = hand - from;
+            IntVector distinct = IntVector.fromArray(SPECIES, singles, i);
+            IntVector once = distinct;
+            IntVector twice = IntVector.fromArray(SPECIES, pairs, i);
+            IntVector group = IntVector.fromArray(SPECIES, quads, i).or(IntVector.fromArray(SPECIES, trips, i));
+
+            // 포카드나 쓰리카드 랭크는 5장 중 많아야 하나다
+            VectorMask<Integer> hasGroup = group.compare(VectorOperators.NE, 0);
+            IntVector tieBreaks = zero.blend(highest(group), hasGroup);
+
+            // 남은 랭크를 페어, 싱글 순서로 높은 것부터 최대 4개 이어 붙인다
+            VectorMask<Integer> hasPair = twice.compare(VectorOperators.NE, 0);
+            for (int n = 0; n < CARDS - 1; n++) {
+                IntVector pending = twice.blend(once, hasPair.not()); // 페어가 남아 있으면 페어부터
+                VectorMask<Integer> remaining = pending.compare(VectorOperators.NE, 0);
+                IntVector highest = highest(pending);
+                IntVector bit = one.lanewise(VectorOperators.LSHL, highest);
+                tieBreaks = tieBreaks.blend(tieBreaks.lanewise(VectorOperators.LSHL, 4).or(highest), remaining);
+                // 마스크를 받는 lanewise는 AVX2에 대응 명령이 없어 blend로 나눈다
+                twice = twice.blend(twice.lanewise(VectorOperators.AND_NOT, bit), hasPair);
+                once = once.blend(once.lanewise(VectorOperators.AND_NOT, bit), hasPair.not());
+                hasPair = twice.compare(VectorOperators.NE, 0);
+            }
+            // 하이카드와 플러시는 싱글이 5개
+            IntVector last = highest(once);
+            tieBreaks = tieBreaks.blend(tieBreaks.lanewise(VectorOperators.LSHL, 4).or(last),
+                once.compare(VectorOperators.NE, 0));
+
+            VectorMask<Integer> straight = isStraight(distinct).or(distinct.eq(BitmaskEvaluator.WHEEL_MASK));
+            IntVector strength = IntVector.fromArray(SPECIES, outStrength, hand);
+            strength.blend(strength.or(tieBreaks), straight.not()).intoArray(outStrength, hand);
+        }
+    }
+
+    /**
+     * 레인별로 싱글 랭크 5개가 연속인지 확인합니다. (백스트레이트 제외)
+     */
+    private static VectorMask<Integer> isStraight(IntVector singles) {
+        // 싱글이 없으면 가장 낮은 비트도 0이라 0 == 0 × 0x1F가 되므로 따로 걸러낸다
+        return singles.eq(singles.and(singles.neg()).mul(0x1F)).and(singles.compare(VectorOperators.NE, 0));
+    }
+
+    /**
+     * 레인별로 가장 높은 비트의 위치를 구합니다.
+     */
+    private static IntVector highest(IntVector rankMask) {
+        // 2^24 미만의 정수는 float로 정확히 바뀌므로 지수부가 곧 가장 높은 비트의 위치다
+        return rankMask.convert(VectorOperators.I2F, 0).reinterpretAsInts()
+            .lanewise(VectorOperators.LSHR, 23).sub(127);
+    }
+
+    /**
+     * 잘못된 카드 코드가 있는 구간에서 첫 번째 잘못된 코드를 찾아 예외를 만듭니다.
+     */
+    private static IllegalArgumentException invalidCode(int[] packedCards, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int code = packedCards[i];
+            if (code < 0 || code >= CardCodec.CODES) {
+                return BatchEvaluator.invalidCode(code, i);
+            }
+        }
+        throw new IllegalStateException("잘못된 카드 코드를 찾지 못했습니다.");
+    }
+}
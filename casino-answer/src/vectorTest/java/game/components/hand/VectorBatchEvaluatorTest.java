@@ -0,0 +1,122 @@
+package game.components.hand;
+
+import game.components.card.CardCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VectorBatchEvaluator 클래스 테스트 ({@code -PvectorEvaluator}로 빌드할 때만 실행)
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>플래그를 주고 빌드하면 선택된 묶음 판정기가 SIMD 판정기인지</li>
+ *   <li>전체 2,598,960개 핸드에서 스칼라 묶음 판정과 같은지</li>
+ *   <li>벡터 길이로 나누어떨어지지 않는 핸드 수에서도 같은지</li>
+ *   <li>벡터 구간과 나머지 구간의 잘못된 카드 코드에 대한 예외</li>
+ * </ol>
+ */
+public class VectorBatchEvaluatorTest {
+    private final VectorBatchEvaluator vector = new VectorBatchEvaluator();
+
+    private static int[] randomHands(int handCount, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] codes = new int[CardCodec.CODES];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = i;
+        }
+        int[] packed = new int[handCount * BatchEvaluator.CARDS_PER_HAND];
+        for (int h = 0; h < handCount; h++) {
+            // 앞 5장만 섞어 서로 다른 카드 5장을 고른다
+            for (int i = 0; i < BatchEvaluator.CARDS_PER_HAND; i++) {
+                int j = i + random.nextInt(codes.length - i);
+                int code = codes[j];
+                codes[j] = codes[i];
+                codes[i] = code;
+                packed[h * BatchEvaluator.CARDS_PER_HAND + i] = code;
+            }
+        }
+        return packed;
+    }
+
+    @Test
+    @DisplayName("1. 플래그를 주고 빌드하면 선택된 묶음 판정기가 SIMD 판정기인지 확인")
+    void testPreferredIsVector() {
+        assertInstanceOf(VectorBatchEvaluator.class, BatchEvaluator.preferred(),
+            "-PvectorEvaluator로 빌드하면 BatchEvaluator.preferred()가 SIMD 판정기를 불러와야 합니다.");
+    }
+
+    @Test
+    @DisplayName("2. 전체 2,598,960개 핸드에서 스칼라 묶음 판정과 같은지 확인")
+    void testEveryHandMatchesScalar() {
+        // given - 모든 5장 조합을 카드 코드로 연속해서 담는다
+        int handCount = 2_598_960;
+        int[] packed = new int[handCount * BatchEvaluator.CARDS_PER_HAND];
+        int at = 0;
+        for (int a = 0; a < 48; a++)
+            for (int b = a + 1; b < 49; b++)
+                for (int c = b + 1; c < 50; c++)
+                    for (int d = c + 1; d < 51; d++)
+                        for (int e = d + 1; e < 52; e++) {
+                            packed[at++] = a;
+                            packed[at++] = b;
+                            packed[at++] = c;
+                            packed[at++] = d;
+                            packed[at++] = e;
+                        }
+
+        // when
+        int[] expected = new int[handCount];
+        int[] actual = new int[handCount];
+        BatchEvaluator.evaluateAll(packed, handCount, expected);
+        vector.evaluateAll(packed, handCount, actual);
+
+        // then
+        assertArrayEquals(expected, actual, "SIMD 판정 결과는 스칼라 판정과 비트 단위까지 같아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("3. 벡터 길이로 나누어떨어지지 않는 핸드 수에서도 같은지 확인")
+    void testRemainderHandsMatchScalar() {
+        // 0개부터 작업 배열 한 구간을 넘는 수까지, 나머지가 모든 값을 한 번씩 갖도록 고른다
+        int[] handCounts = {0, 1, 2, 3, 5, 7, 8, 9, 15, 16, 17, 31, 33, 63, 65, 4_095, 4_097, 8_193};
+        for (int handCount : handCounts) {
+            // given
+            int[] packed = randomHands(handCount, handCount);
+
+            // when
+            int[] expected = new int[handCount];
+            int[] actual = new int[handCount];
+            BatchEvaluator.evaluateAll(packed, handCount, expected);
+            vector.evaluateAll(packed, handCount, actual);
+
+            // then
+            assertArrayEquals(expected, actual, handCount + "개의 핸드에서 SIMD 판정 결과가 스칼라 판정과 같아야 합니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("4. 벡터 구간과 나머지 구간의 잘못된 카드 코드에 대한 예외 확인")
+    void testInvalidCodes() {
+        int handCount = 1_001;
+        int[] out = new int[handCount];
+
+        int[] first = randomHands(handCount, 4L);
+        first[3] = CardCodec.CODES;
+        IllegalArgumentException inVector = assertThrows(IllegalArgumentException.class,
+            () -> vector.evaluateAll(first, handCount, out),
+            "벡터 구간의 52 이상 카드 코드는 IllegalArgumentException이 발생해야 합니다.");
+        assertTrue(inVector.getMessage().contains("위치 3"), "첫 번째 잘못된 코드의 위치를 알려야 합니다: " + inVector.getMessage());
+
+        int[] last = randomHands(handCount, 5L);
+        last[last.length - 1] = -1;
+        assertThrows(IllegalArgumentException.class, () -> vector.evaluateAll(last, handCount, out),
+            "나머지 구간의 음수 카드 코드는 IllegalArgumentException이 발생해야 합니다.");
+
+        assertThrows(IllegalArgumentException.class, () -> vector.evaluateAll(new int[9], 2, out),
+            "카드 코드가 모자라면 IllegalArgumentException이 발생해야 합니다.");
+    }
+}
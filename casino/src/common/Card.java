@@ -1,14 +1,21 @@
 package common;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * 카드 클래스는 카드 한 장을 나타내며, 무늬(Suit)와 숫자(Rank)를 가집니다.
  */
 public final class Card implements Comparable<Card> {
-    // 이미 생성된 카드들을 저장하는 Map
-    private static final Map<String, Card> cardCache = new HashMap<>();
+    private static final int RANKS = Rank.values().length;
+
+    // 52장의 카드를 (무늬 순서값 × 13 + 숫자 순서값) 자리에 미리 만들어 두는 배열
+    private static final Card[] CARDS = new Card[Suit.values().length * RANKS];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                CARDS[indexOf(suit, rank)] = new Card(suit, rank);
+            }
+        }
+    }
 
     private final Suit suit; // 카드의 무늬
     private final Rank rank; // 카드의 숫자
@@ -21,21 +28,41 @@ public final class Card implements Comparable<Card> {
 
     /**
      * 카드 인스턴스를 가져오는 정적 메서드.
-     * 주어진 무늬와 숫자의 카드가 존재하지 않으면 새로 생성하여 반환.
+     * 미리 만들어 둔 52장 중 하나를 반환하므로 새 객체를 만들지 않고, 여러 스레드에서 불러도 안전합니다.
      *
      * @param suit 카드의 무늬
      * @param rank 카드의 숫자
      * @return 무늬와 숫자가 같은 동일한 카드 객체
      */
     public static Card getInstance(Suit suit, Rank rank) {
-        // 고유 키 생성 (Suit와 Rank 조합)
-        String key = suit.toString() + rank.toString();
+        return CARDS[indexOf(suit, rank)];
+    }
+
+    /**
+     * 인덱스에 해당하는 카드를 가져오는 정적 메서드.
+     *
+     * @param index 카드 인덱스 (0~51, 무늬 순서값 × 13 + 숫자 순서값)
+     * @return 인덱스에 해당하는 카드 객체
+     * @throws IllegalArgumentException index가 0~51이 아닐 때
+     */
+    public static Card fromIndex(int index) {
+        if (index < 0 || index >= CARDS.length) {
+            throw new IllegalArgumentException("카드 인덱스는 0부터 " + (CARDS.length - 1) + "까지입니다: " + index);
+        }
+        return CARDS[index];
+    }
 
-        // Map에 해당 키가 없으면 새로운 카드 생성 후 추가
-        cardCache.putIfAbsent(key, new Card(suit, rank));
+    /**
+     * 카드의 인덱스를 반환합니다.
+     *
+     * @return 카드 인덱스 (0~51, 무늬 순서값 × 13 + 숫자 순서값)
+     */
+    public int index() {
+        return indexOf(suit, rank);
+    }
 
-        // 존재하면 기존 객체 반환
-        return cardCache.get(key);
+    private static int indexOf(Suit suit, Rank rank) {
+        return suit.ordinal() * RANKS + rank.ordinal();
     }
 
     @Override
@@ -1,8 +1,7 @@
 package common;
 
-import java.util.*;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.Iterator;
 
 public class Hand implements Iterable<Card>, Comparable<Hand> {
     public enum Tier {
@@ -18,52 +17,117 @@ public class Hand implements Iterable<Card>, Comparable<Hand> {
         ROYAL_FLUSH          // 로열 플러시
     }
 
-    SortedMap<Card, Boolean> cards; // 패를 구성하는 카드의 집합
+    private static final int ROYAL_MASK = 0b1_1111_0000_0000; // 10, J, Q, K, A
+    private static final int WHEEL_MASK = 0b1_0000_0000_1111; // 5, 4, 3, 2, A
+    private static final long NIBBLE_LOW_BITS = 0x1111111111111L; // 히스토그램 각 칸의 최하위 비트 (13칸)
+
+    final Card[] cards = new Card[5]; // 패를 구성하는 카드, 앞에서부터 size장을 낮은 카드 순으로 정렬해 둔다.
+    private int size;
 
     private Tier tier;
-    private final SortedSet<Card> tierValues;     // 티어 밸류, 보조 점수 계산 1, 티어를 구성하는 카드를 담는다.
-    private final SortedSet<Card> kickers;        // 키커, 보조 점수 계산 2, 티어를 구성하지 않는 카드를 담는다.
+    private int strength; // 핸드 강도, 상위 비트에 티어, 하위 20비트에 동점 판정용 랭크 4비트씩
+    private int tierRankMask; // 티어를 구성하는 랭크 비트, 나머지 랭크는 키커다.
 
     public Tier getTier() {
         return tier;
     }
 
-    private final Map<Card.Rank, Integer> rankCount; // 랭크값을 카운트, 최대 5가지 값이 들어감, 숫자 5
-    private final Map<Card.Suit, Integer> suitCount; // 수트값을 카운트, 최대 4가지 값이 들어감, 플러시 판단에 사용
+    /**
+     * 핸드 강도를 반환한다.
+     * 티어를 20번 비트부터, 동점 판정용 랭크를 그 아래에 4비트씩 담은 값으로, 클수록 강한 패다.
+     * 동점 판정용 랭크는 장수가 많은 랭크부터, 장수가 같으면 높은 랭크부터 놓는다.
+     * 스트레이트 계열은 가장 높은 카드 하나만 담고, 5, 4, 3, 2, A는 5가 가장 높은 카드다.
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    // 카드를 받을 때마다 갱신하는 누적 상태, 판정할 때는 카드를 다시 세지 않고 이 값들로 분류만 마무리한다.
+    private int rankMask;        // 등장한 랭크마다 1비트, TWO = 0번 비트, ACE = 12번 비트
+    private long rankHistogram;  // 랭크마다 4비트 칸에 장수를 누적, 페어 / 쓰리카드 / 포카드 판단에 사용
+    private final int[] suitCount = new int[Card.Suit.values().length]; // 수트별 장수, 플러시 판단에 사용
 
     public Hand() {
-        this.cards = new TreeMap<>();
-        this.tierValues = new TreeSet<>();
-        this.kickers = new TreeSet<>();
-        this.rankCount = new EnumMap<>(Card.Rank.class);
-        this.suitCount = new EnumMap<>(Card.Suit.class);
+        this.tier = Tier.HIGH_CARD;
     }
 
+    /**
+     * @throws IllegalArgumentException card가 null일 경우 (손패는 그대로)
+     * @throws IllegalStateException 이미 5장을 들고 있을 경우
+     */
     public boolean add(Card card) {
-        if (this.cards.size() >= 5) {
+        if (card == null)
+            throw new IllegalArgumentException("카드는 null일 수 없습니다.");
+        if (this.size >= 5) {
+            throw new IllegalStateException("손에 들 수 있는 카드는 5장까지입니다.");
+        }
+        insert(card);
+        return true;
+    }
+
+    /**
+     * 배열의 카드 여러 장을 한 번에 받는다.
+     * source[start], source[start + step], ... 순서로 count장을 받으며, 남은 자리는 받기 전에 한 번만 확인한다.
+     * 덱이 여러 손패에 돌아가며 나눠줄 때처럼 카드가 일정한 간격으로 놓여 있을 때 사용한다.
+     * 받을 카드를 모두 확인한 뒤에 넣으므로, 예외가 발생하면 손패는 바뀌지 않는다.
+     *
+     * @throws IllegalArgumentException 범위가 배열을 벗어나거나 받을 카드 중 null이 있을 경우
+     * @throws IllegalStateException 받으면 5장을 넘을 경우
+     */
+    public void addAll(Card[] source, int start, int step, int count) {
+        if (source == null)
+            throw new IllegalArgumentException("카드 배열은 null일 수 없습니다.");
+        if (count < 0 || step < 1 || start < 0 || (count > 0 && start + (long) step * (count - 1) >= source.length))
+            throw new IllegalArgumentException("카드 범위가 배열을 벗어납니다.");
+        if (this.size + count > 5) {
             throw new IllegalStateException("손에 들 수 있는 카드는 5장까지입니다.");
         }
+        for (int i = 0, at = start; i < count; i++, at += step) {
+            if (source[at] == null)
+                throw new IllegalArgumentException("카드는 null일 수 없습니다.");
+        }
 
-        this.cards.put(card, false); // 새로운 카드 추가
-        this.rankCount.merge(card.getRank(), 1, Integer::sum); // 랭크 카운트
-        this.suitCount.merge(card.getSuit(), 1, Integer::sum); // 수트 카운트
+        for (int i = 0, at = start; i < count; i++, at += step)
+            insert(source[at]);
+    }
 
-        return true;
+    /**
+     * 더 받을 수 있는 카드 수를 반환한다.
+     */
+    public int remainingCapacity() {
+        return 5 - this.size;
+    }
+
+    // card는 호출한 쪽에서 null이 아님을 확인한다.
+    private void insert(Card card) {
+        // 낮은 카드 순서를 유지하도록 삽입 정렬
+        int i = this.size;
+        for (; i > 0 && this.cards[i - 1].compareTo(card) > 0; i--)
+            this.cards[i] = this.cards[i - 1];
+        this.cards[i] = card;
+        this.size++;
+
+        int rank = card.getRank().ordinal();
+        this.rankMask |= 1 << rank; // 랭크 비트
+        this.rankHistogram += 1L << (rank << 2); // 랭크 카운트
+        this.suitCount[card.getSuit().ordinal()]++; // 수트 카운트
     }
 
     public void clear() {
-        cards.clear(); // 모든 카드 제거
+        Arrays.fill(cards, null); // 모든 카드 제거
+        size = 0;
         tier = Tier.HIGH_CARD; // 티어 초기화
-        tierValues.clear(); // 티어를 구성하는 카드의 값 초기화
-        kickers.clear(); // 패를 구성하는 키커 값 초기화
+        strength = 0; // 핸드 강도 초기화
+        tierRankMask = 0; // 티어를 구성하는 랭크 초기화
 
-        rankCount.clear(); // 랭크 카운트 초기화
-        suitCount.clear(); // 수트 카운트 초기화
+        rankMask = 0; // 랭크 비트 초기화
+        rankHistogram = 0L; // 랭크 카운트 초기화
+        Arrays.fill(suitCount, 0); // 수트 카운트 초기화
     }
 
     @Override
     public Iterator<Card> iterator() {
-        return cards.keySet().iterator();
+        return Arrays.asList(this.cards).subList(0, this.size).iterator();
     }
 
     @Override
@@ -73,175 +137,120 @@ public class Hand implements Iterable<Card>, Comparable<Hand> {
         final String ANSI_UNDERLINE = "\u001B[4m";
         final String ANSI_RESET = "\u001B[0m";
 
-        String cardsString = this.cards.entrySet().stream()
-                .map(entry -> {
-                    String cardStr = entry.getKey().toString();
-                    if (entry.getValue()) {
-                        // true인 카드에 녹색, 볼드, 밑줄 스타일 적용
-                        return ANSI_GREEN + ANSI_BOLD + ANSI_UNDERLINE + cardStr + ANSI_RESET;
-                    }
-                    return cardStr;
-                })
-                .collect(Collectors.joining(", "));
-
-        return this.tier.toString() + " " + cardsString;
+        StringBuilder sb = new StringBuilder(this.tier.toString()).append(' ');
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) sb.append(", ");
+            Card card = this.cards[i];
+            if (this.isTierCard(card)) {
+                // 티어를 구성하는 카드에 녹색, 볼드, 밑줄 스타일 적용
+                sb.append(ANSI_GREEN).append(ANSI_BOLD).append(ANSI_UNDERLINE).append(card).append(ANSI_RESET);
+            } else {
+                sb.append(card);
+            }
+        }
+        return sb.toString();
     }
 
     @Override
     public int compareTo(Hand o) {
-        // 1. 티어 비교 (내림차순)
-        if (this.tier != o.tier) {
-            return o.tier.compareTo(this.tier);  // 높은 티어가 먼저 오도록
-        }
-
-        // 2. 메인밸류 비교 (내림차순)
-        Iterator<Card> thisMainValue = this.tierValues.iterator();
-        Iterator<Card> oMainValue = o.tierValues.iterator();
-        while (thisMainValue.hasNext() && oMainValue.hasNext()) {
-            int compare = oMainValue.next().compareTo(thisMainValue.next());
-            if (compare != 0) return compare;  // 높은 값이 먼저 오도록
-        }
-
-        // 3. 키커 비교 (내림차순)
-        Iterator<Card> thisKicker = this.kickers.iterator();
-        Iterator<Card> oKicker = o.kickers.iterator();
-        while (thisKicker.hasNext() && oKicker.hasNext()) {
-            int compare = oKicker.next().compareTo(thisKicker.next());
-            if (compare != 0) return compare;  // 높은 키커가 먼저 오도록
-        }
+        // 티어와 키커를 모두 담은 핸드 강도 비교 (내림차순, 강한 패가 먼저 오도록)
+        return Integer.compare(o.strength, this.strength);
+    }
 
-        // 4. 모든 값이 동일하면 무승부 (0 반환)
-        return 0;
+    /**
+     * 카드가 티어를 구성하는 카드인지 확인한다. 티어를 구성하지 않는 카드는 키커다.
+     * 패를 공개한 뒤에만 의미가 있다.
+     */
+    public boolean isTierCard(Card card) {
+        return (this.tierRankMask >>> card.getRank().ordinal() & 1) != 0;
     }
 
+    // 누적 상태만으로 티어, 티어를 구성하는 랭크, 동점 판정용 랭크를 한 번에 정한다. 객체를 만들지 않는다.
     private void evaluate() {
-        // 02. 티어를 판단한다.
-        if (this.isRoyalFlush()) {
-            this.tier = Tier.ROYAL_FLUSH;
-        } else if (this.isStraightFlush()) {
-            this.tier = Tier.STRAIGHT_FLUSH;
-        } else if (this.isFourOfAKind()) {
-            this.tier = Tier.FOUR_OF_A_KIND;
-        } else if (this.isFullHouse()) {
-            this.tier = Tier.FULL_HOUSE;
-        } else if (this.isFlush()) {
-            this.tier = Tier.FLUSH;
-        } else if (this.isStraight()) {
-            this.tier = Tier.STRAIGHT;
-        } else if (this.isThreeOfAKind()) {
-            this.tier = Tier.THREE_OF_A_KIND;
-        } else if (this.isTwoPair()) {
-            this.tier = Tier.TWO_PAIR;
-        } else if (this.isOnePair()) {
-            this.tier = Tier.ONE_PAIR;
+        // 01. 각 칸의 장수(0~4)를 비트로 나누어 장수별 랭크 비트마스크를 만든다.
+        long bit0 = this.rankHistogram & NIBBLE_LOW_BITS;
+        long bit1 = (this.rankHistogram >>> 1) & NIBBLE_LOW_BITS;
+        long bit2 = (this.rankHistogram >>> 2) & NIBBLE_LOW_BITS;
+        int quads = (int) Long.compress(bit2, NIBBLE_LOW_BITS);
+        int trips = (int) Long.compress(bit0 & bit1, NIBBLE_LOW_BITS);
+        int pairs = (int) Long.compress(bit1 & ~bit0, NIBBLE_LOW_BITS);
+        int singles = (int) Long.compress(bit0 & ~bit1, NIBBLE_LOW_BITS);
+        boolean flush = this.isFlush();
+        boolean straight = this.isStraight();
+
+        // 02. 티어와 티어를 구성하는 랭크를 정한다.
+        Tier tier;
+        int tierRankMask;
+        if (straight && flush) {
+            tier = this.rankMask == ROYAL_MASK ? Tier.ROYAL_FLUSH : Tier.STRAIGHT_FLUSH;
+            tierRankMask = this.rankMask;
+        } else if (quads != 0) {
+            tier = Tier.FOUR_OF_A_KIND;
+            tierRankMask = quads;
+        } else if (trips != 0 && pairs != 0) {
+            tier = Tier.FULL_HOUSE;
+            tierRankMask = trips | pairs;
+        } else if (flush) {
+            tier = Tier.FLUSH;
+            tierRankMask = this.rankMask;
+        } else if (straight) {
+            tier = Tier.STRAIGHT;
+            tierRankMask = this.rankMask;
+        } else if (trips != 0) {
+            tier = Tier.THREE_OF_A_KIND;
+            tierRankMask = trips;
+        } else if (pairs != 0) {
+            tier = Integer.bitCount(pairs) == 2 ? Tier.TWO_PAIR : Tier.ONE_PAIR;
+            tierRankMask = pairs;
         } else {
-            this.tier = Tier.HIGH_CARD;
+            tier = Tier.HIGH_CARD;
+            tierRankMask = 0;
         }
 
-        // 03. 메인밸류와 키커를 구분한다.
-        for (Card card : this.cards.keySet()) {
-            if (Boolean.TRUE.equals(this.cards.get(card))) {
-                this.tierValues.add(card); // 티어를 구성하는 카드로 추가
-            } else {
-                this.kickers.add(card); // 티어를 구성하지 않는 카드로 추가
-            }
+        // 03. 동점 판정용 랭크를 4비트씩 이어 붙인다.
+        int tieBreaks;
+        if (straight) {
+            // 스트레이트 계열은 가장 높은 카드 하나만, 5, 4, 3, 2, A는 5가 가장 높다.
+            tieBreaks = this.rankMask == WHEEL_MASK ? Card.Rank.FIVE.ordinal() : 31 - Integer.numberOfLeadingZeros(this.rankMask);
+        } else {
+            // 장수가 많은 랭크부터, 장수가 같으면 높은 랭크부터
+            tieBreaks = appendRanks(0, quads | trips);
+            tieBreaks = appendRanks(tieBreaks, pairs);
+            tieBreaks = appendRanks(tieBreaks, singles);
         }
-    }
 
-    private int countPair() {
-        int pairCount = 0;
-        for (int sameCardRankCount : rankCount.values())
-            if (sameCardRankCount == 2) pairCount++;
-        if (pairCount == 0) return 0; // 페어가 없음
-
-        this.setRankCard(card -> rankCount.get(card.getRank()) == 2); // 페어를 구성하는 카드를 체크
-        return pairCount;
-    }
-
-    private boolean isOnePair() {
-        return countPair() == 1;
-    }
-
-    private boolean isTwoPair() {
-        return countPair() == 2;
-    }
-
-    private boolean isThreeOfAKind() {
-        Optional<Card.Rank> threeOfAKindRank = rankCount.entrySet().stream()
-                .filter(entry -> entry.getValue() == 3)
-                .map(Map.Entry::getKey)
-                .findFirst();
-        if (threeOfAKindRank.isEmpty()) return false; // 비어있다면 쓰리카드 아님
-
-        this.setRankCard(card -> card.getRank() == threeOfAKindRank.get()); // 쓰리카드를 구성하는 카드를 체크
-        return true;
-    }
-
-    private boolean isFullHouse() {
-        // 1. 랭크별 카드 개수를 필터링하여 분류
-        boolean isThreeOfAKind = isThreeOfAKind();
-        boolean isOnePair = isOnePair();
-
-        return isThreeOfAKind && isOnePair;  // 풀 하우스의 조건을 성립하지 못함
-    }
-
-    private boolean isFourOfAKind() {
-        // 1. 포카드 랭크를 찾는다. 단 하나만 나온다.
-        Optional<Card.Rank> optionalFourOfAKindRank = this.rankCount.entrySet().stream()
-                .filter(entry -> entry.getValue() == 4)
-                .map(Map.Entry::getKey)
-                .findFirst();
-        if (optionalFourOfAKindRank.isEmpty()) return false;  // 포카드 아님
-
-        this.setRankCard(card -> card.getRank() == optionalFourOfAKindRank.get()); // 포카드를 구성하는 카드를 체크
-        return true;
+        // 04. 티어와 동점 판정용 랭크로 핸드 강도를 계산한다.
+        this.tier = tier;
+        this.tierRankMask = tierRankMask;
+        this.strength = tier.ordinal() << 20 | tieBreaks;
     }
 
-    private boolean isRoyalFlush() {
-        boolean isStraight = isStraight();
-        boolean isFirstCardAce = this.cards.firstKey().getRank() == Card.Rank.TEN; // 반드시 10과 비교해야한다. 2, 3, 4, 5, A도 스트레이트 이기 떄문에 마지막을 ACE 인지 확인하면 로열이
-        boolean isFlush = isFlush();
-        return isStraight && isFirstCardAce && isFlush;
-    }
-
-    private boolean isStraightFlush() {
-        return isFlush() && isStraight();
+    // 랭크 비트마스크의 랭크들을 높은 것부터 4비트씩 이어 붙인다.
+    private static int appendRanks(int tieBreaks, int rankMask) {
+        while (rankMask != 0) {
+            int highest = 31 - Integer.numberOfLeadingZeros(rankMask);
+            tieBreaks = tieBreaks << 4 | highest;
+            rankMask ^= 1 << highest;
+        }
+        return tieBreaks;
     }
 
     // 패가 스트레이트인지 확인
     private boolean isStraight() {
-        Iterator<Card> iterator = this.cards.keySet().iterator();
-        Card beforeCard = iterator.next(); // 최초의 카드, 반드시 존재하기 때문에 null 체크 생략
-
-        // 연속된 숫자를 검사하고, 5, A가 연속되면 스트레이트로 판단
-        while (iterator.hasNext()) {
-            Card nextCard = iterator.next();
-
-            // 5, A가 연속되면 스트레이트로 판단, 아래에서 2 > 3 > 4 > 5 까지의 검사하기 때문에 여기서는 5 > A 만 검사
-            if (beforeCard.getRank().ordinal() == Card.Rank.FIVE.ordinal() && nextCard.getRank().ordinal() == Card.Rank.ACE.ordinal()) {
-                break; // 루프를 탈출하여 와일 밖의 로직을 계속 실행한다.
-            } else if (beforeCard.getRank().ordinal() + 1 != nextCard.getRank().ordinal()) return false; // 스트레이트 아님
-            beforeCard = nextCard;
-        }
-
-        this.cards.replaceAll((c, v) -> true); // 모든 카드를 족보를 이루는 구성으로 변경
-        return true;
+        // 서로 다른 랭크 5개가 연속이어야 한다. 가장 낮은 비트로 나눈 값이 0b11111이면 연속이다.
+        // 5, 4, 3, 2, A는 A를 1로 보는 스트레이트이므로 따로 확인한다.
+        if (Integer.bitCount(this.rankMask) != 5) return false; // 같은 랭크가 있으면 스트레이트 아님
+        return this.rankMask == WHEEL_MASK || this.rankMask / Integer.lowestOneBit(this.rankMask) == 0b11111;
     }
 
     private boolean isFlush() {
-        if (!this.suitCount.containsValue(5)) return false;
-
-        this.cards.replaceAll((c, v) -> true);
-        return true;
-    }
-
-    private void setRankCard(Predicate<Card> predicate) {
-        for (Card card : this.cards.keySet())
-            if (predicate.test(card)) this.cards.put(card, true); // 족보를 이루는 구성으로 변경
+        for (int count : this.suitCount)
+            if (count == 5) return true;
+        return false;
     }
 
     public Hand open() {
-        if (this.cards.size() != 5) {
+        if (this.size != 5) {
             throw new IllegalStateException("패를 공개하기 위해서는 5장의 카드가 필요합니다.");
         }
         this.evaluate(); // 패의 티어를 판단
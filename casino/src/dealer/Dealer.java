@@ -1,10 +1,11 @@
 package dealer;
 
-import common.Card;
 import common.Hand;
+import player.Leaderboard;
 import player.Player;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 public class Dealer {
     public static final int MAX_PLAYER = 4;
@@ -17,6 +18,10 @@ public class Dealer {
     private final List<Player> players;
     private final List<Player> winsHistory;
     private final List<Map<String, String>> matchHistory;
+    private final Leaderboard leaderboard = new Leaderboard(); // 전적 순위표, 전적이 바뀔 때마다 고친다
+
+    // 이 딜러의 테이블에서 쓰는 모든 덱이 함께 쓰는 난수 생성기
+    private final RandomGenerator random;
 
     private boolean isNewDeck;
     private boolean isShuffle = false;
@@ -25,7 +30,34 @@ public class Dealer {
         return new Dealer();
     }
 
+    /**
+     * 시드를 고정한 딜러를 만듭니다.
+     * 같은 시드의 딜러는 매 게임 같은 순서로 카드를 섞으므로 게임 전체를 그대로 재현할 수 있습니다.
+     *
+     * @param seed 난수 생성기의 시드
+     * @return 새로운 딜러
+     */
+    public static Dealer newDealer(long seed) {
+        return new Dealer(new SplittableRandom(seed));
+    }
+
     public Dealer() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * 지정한 난수 생성기로 덱을 섞는 딜러를 만듭니다.
+     * 여러 테이블을 동시에 돌릴 때는 하나의 {@link SplittableRandom}을 {@code split()}해서 테이블마다 나눠 주면
+     * 스레드끼리 경쟁하지 않으면서도 시드 하나로 전체 시뮬레이션을 재현할 수 있습니다.
+     *
+     * @param random 덱을 섞을 때 사용할 난수 생성기
+     * @throws IllegalArgumentException random이 null일 경우
+     */
+    public Dealer(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("난수 생성기는 null일 수 없습니다.");
+        }
+        this.random = random;
         this.players = new ArrayList<>();
         this.winsHistory = new ArrayList<>();
         this.matchHistory = new ArrayList<>();
@@ -35,7 +67,7 @@ public class Dealer {
      * 새로운 게임을 시작시 덱을 교체합니다.
      */
     public void newGame() {
-        deck = Deck.newDeck();
+        deck = Deck.newDeck(random);
         isNewDeck = true;
     }
 
@@ -46,6 +78,7 @@ public class Dealer {
         }
 
         this.players.add(player);
+        this.leaderboard.update(player);
         return player;
     }
 
@@ -66,12 +99,10 @@ public class Dealer {
         }
 
         // 돌아가면서 한장씩 총 5개의 카드를 나눠준다.
-        for (int i = 0; i < Dealer.MAX_CARD; i++) {
-            for (Player player : this.players) {
-                Card drawnCard = deck.drawCard();
-                player.receiveCard(drawnCard);
-            }
-        }
+        Hand[] hands = new Hand[this.players.size()];
+        for (int i = 0; i < hands.length; i++)
+            hands[i] = this.players.get(i).getHand();
+        deck.dealInto(hands, Dealer.MAX_CARD);
 
         isNewDeck = false;
     }
@@ -113,6 +144,7 @@ public class Dealer {
             } else {
                 player.lose();
             }
+            this.leaderboard.update(player);
             matchRecord.put(player.toString(), player.getHand().toString());
         }
         this.matchHistory.add(matchRecord);
@@ -139,13 +171,15 @@ public class Dealer {
      * 게임의 최종 승자
      */
     public Optional<Player> getTotalStageWinner() {
-        Player winner = Collections.min(this.players, Player.WIN_COUNT_ORDER);
-        return Optional.of(winner);
+        return this.leaderboard.first();
     }
 
+    /**
+     * 전적 순(WIN_COUNT_ORDER)으로 세운 플레이어 목록
+     * 순위표를 라운드마다 고쳐 두므로 부를 때마다 정렬하지 않는다.
+     */
     public List<Player> getPlayers() {
-        this.players.sort(Player.WIN_COUNT_ORDER);
-        return this.players;
+        return this.leaderboard.topK(this.players.size());
     }
 
     /**
@@ -1,8 +1,10 @@
 package dealer;
 
 import common.Card;
+import common.Hand;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * 덱의 접근은 딜러만 할 수 있도록 제한하기 위해 접근 제어자를 default로 설정
@@ -12,29 +14,35 @@ import java.util.*;
 class Deck {
     /**
      * 덱을 구성하는 카드들
-     * 재사용이 불가능하도록 카드를 뽑을 때마다 제거되도록 큐의 특성을 활용하는 리스트로 구성
+     * 52장 고정 크기 배열로 두고, 다음에 뽑을 위치(top)를 옮겨 뽑은 카드를 재사용하지 못하게 합니다.
+     * [top, 52) 구간이 아직 뽑지 않은 카드입니다.
      */
-    private final List<Card> cards;
+    private final Card[] cards = new Card[52];
+    private int top;
+
+    /**
+     * 셔플에 사용하는 난수 생성기
+     * 덱마다 따로 두어 여러 스레드가 하나의 Random을 두고 경쟁하지 않고, 시드를 주면 같은 순서를 재현할 수 있습니다.
+     */
+    private final RandomGenerator random;
 
     /**
      * Deck 생성자 - 프라이빗으로 선언하여 외부에서 Deck 인스턴스를 직접 생성하지 못하도록 제약합니다.
      * 새로운 덱을 생성하며, 생성과 동시에 카드들을 순서대로 추가합니다.
      * 이 생성자를 통해 덱은 항상 올바른 상태로 초기화되며, 이후 셔플 메서드를 통해 섞을 수 있습니다.
+     *
+     * @param random 셔플에 사용할 난수 생성기
      */
-    private Deck() {
-        cards = new ArrayList<>();
+    private Deck(RandomGenerator random) {
+        this.random = random;
 
-        // 덱에 넣을 카드 순서대로 생성 (각 무늬별로 각 랭크를 순회하며 생성)
-        // 동적 확장이 필요 없도록 처음부터 카드 전체 갯수인 52장을 확보하여 초기화
-        List<Card> cardCase = new ArrayList<>(52);
+        // 덱에 넣을 카드 순서대로 채움 (각 무늬별로 각 랭크를 순회)
+        int i = 0;
         for (Card.Suit suit : Card.Suit.values()) {
             for (Card.Rank rank : Card.Rank.values()) {
-                cardCase.add(Card.getInstance(suit, rank));
+                this.cards[i++] = Card.getInstance(suit, rank);
             }
         }
-
-        // 덱에 카드들을 추가 (초기 순서로)
-        this.cards.addAll(cardCase);
     }
 
     /**
@@ -43,7 +51,21 @@ class Deck {
      * 이렇게 함으로써 덱이 생성되는 방식을 제어할 수 있습니다.
      */
     static Deck newDeck() {
-        return new Deck();
+        return new Deck(new SplittableRandom());
+    }
+
+    /**
+     * 지정한 난수 생성기로 섞는 새로운 Deck 인스턴스를 생성하여 반환합니다.
+     * 같은 시드의 난수 생성기를 주면 셔플 결과가 매번 같습니다.
+     *
+     * @param random 셔플에 사용할 난수 생성기
+     * @throws IllegalArgumentException random이 null일 경우
+     */
+    static Deck newDeck(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("난수 생성기는 null일 수 없습니다.");
+        }
+        return new Deck(random);
     }
 
     /**
@@ -54,19 +76,68 @@ class Deck {
      * @throws IllegalStateException 덱에 카드가 없을 때 호출될 경우
      */
     public Card drawCard() {
-        if (cards.isEmpty()) {
+        if (top == cards.length) {
             throw new IllegalStateException("더 이상 카드가 없습니다.");
         }
-        // 덱에서 마지막 카드를 뽑아 반환하고 리스트에서 제거
-        return cards.removeLast();
+        // 덱의 맨 위 카드를 뽑아 반환하고 다음 위치로 이동
+        return cards[top++];
+    }
+
+    /**
+     * 여러 손패에 카드를 한 장씩 돌아가며 나눠줍니다.
+     * drawCard()를 손패 수 × cardsEach번 부르는 것과 같은 카드를 같은 순서로 나눠주지만,
+     * 덱과 손패의 남은 자리는 처음에 한 번만 확인하고 카드는 덱의 배열에서 손패로 바로 옮깁니다.
+     * 같은 손패가 여러 번 들어 있으면 들어 있는 횟수만큼 카드를 받습니다.
+     * 예외가 발생하면 덱과 손패 모두 바뀌지 않습니다.
+     *
+     * @param hands 카드를 받을 손패들
+     * @param cardsEach 손패마다 나눠줄 카드 수
+     * @throws IllegalArgumentException hands나 그 안의 손패가 null이거나 cardsEach가 음수일 경우
+     * @throws IllegalStateException 덱에 카드가 부족하거나, 받으면 5장을 넘는 손패가 있을 경우
+     */
+    void dealInto(Hand[] hands, int cardsEach) {
+        if (hands == null)
+            throw new IllegalArgumentException("손패 배열은 null일 수 없습니다.");
+        if (cardsEach < 0)
+            throw new IllegalArgumentException("나눠줄 카드 수는 음수일 수 없습니다.");
+        for (Hand hand : hands) {
+            if (hand == null)
+                throw new IllegalArgumentException("손패는 null일 수 없습니다.");
+        }
+
+        long needed = (long) hands.length * cardsEach;
+        if (needed > cards.length - top) {
+            throw new IllegalStateException("더 이상 카드가 없습니다.");
+        }
+        int total = (int) needed;
+
+        // 같은 손패가 여러 번 있으면 받을 카드를 모두 더해 자리를 확인한다. 카드가 52장뿐이라 이중 반복으로 충분하다.
+        if (cardsEach > 0) {
+            for (Hand hand : hands) {
+                int copies = 0;
+                for (Hand other : hands) {
+                    if (other == hand) copies++;
+                }
+                if (hand.remainingCapacity() < copies * cardsEach) {
+                    throw new IllegalStateException("손에 들 수 있는 카드는 5장까지입니다.");
+                }
+            }
+        }
+
+        // k번째로 나눠주는 카드 cards[top + k]는 (k % 손패 수)번째 손패로 간다.
+        for (int h = 0; h < hands.length; h++) {
+            hands[h].addAll(cards, top + h, hands.length, cardsEach);
+        }
+        top += total;
     }
 
     /**
      * 덱을 무작위로 섞습니다.
      * 딜러만 이 메서드를 호출할 수 있도록 default 접근 제어자를 사용하여 같은 패키지 내에서만 접근 가능하게 합니다.
-     * Random 객체를 사용하여 카드의 순서를 무작위로 섞습니다.
+     * 덱을 만들 때 받은 난수 생성기를 사용하여 카드의 순서를 무작위로 섞습니다.
      */
     void shuffle() {
-        Collections.shuffle(this.cards, new Random());
+        // 아직 뽑지 않은 카드만 섞는다.
+        Collections.shuffle(Arrays.asList(this.cards).subList(top, this.cards.length), random);
     }
 }
@@ -0,0 +1,195 @@
+package player;
+
+import java.util.*;
+
+/**
+ * 전적 순위표
+ * {@link Player#WIN_COUNT_ORDER}와 같은 순서(승리 내림차순, 패배 오름차순, 닉네임 오름차순)로 플레이어를 세워 둡니다.
+ *
+ * <ul>
+ *   <li>전적이 바뀐 플레이어만 {@link #update(Player)}로 제자리에 옮기므로, 라운드마다 전체를 정렬하지 않습니다</li>
+ *   <li>인덱스 스킵 리스트 - 각 층의 링크마다 건너뛰는 플레이어 수(span)를 기록해, 내려오며 더하면 순위가 나옵니다</li>
+ *   <li>전적 변경과 순위 조회는 평균 O(log n), 상위 K명 조회는 O(K)입니다</li>
+ * </ul>
+ *
+ * 순위표는 넣을 때의 전적을 기억합니다. 전적이 바뀌면 update()를 다시 불러야 합니다.
+ * 플레이어는 등록 번호로 구분하므로, 한 순위표에는 같은 {@link PlayerRegistry}에 등록한 플레이어만 넣어야 합니다.
+ */
+public class Leaderboard {
+    private static final int MAX_LEVEL = 32;
+
+    private final Node head = new Node(null, MAX_LEVEL);
+    // 닉네임은 놓아준 뒤 다른 플레이어가 다시 쓸 수 있으므로 등록 번호로 찾는다
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private int level = 1;
+    private int length;
+
+    /**
+     * 플레이어의 현재 전적으로 순위를 고칩니다. 처음 보는 플레이어면 추가합니다.
+     *
+     * @throws IllegalArgumentException player가 null일 경우
+     */
+    public void update(Player player) {
+        if (player == null)
+            throw new IllegalArgumentException("플레이어는 null일 수 없습니다.");
+
+        Node node = nodes.get(player.getId());
+        if (node != null) {
+            PlayerRecord.Snapshot record = player.recordSnapshot();
+            // 넣을 때 같은 순간의 전적을 읽지 못했다면 값이 같아도 다시 읽어 넣는다
+            if (node.consistent && node.wins == record.wins && node.losses == record.losses) return;
+            unlink(node);
+        }
+        nodes.put(player.getId(), insert(player));
+    }
+
+    public boolean remove(Player player) {
+        if (player == null) return false;
+        Node node = nodes.remove(player.getId());
+        if (node == null) return false;
+
+        unlink(node);
+        return true;
+    }
+
+    /**
+     * @return 1부터 시작하는 순위, 순위표에 없으면 -1
+     */
+    public int rank(Player player) {
+        if (player == null) return -1;
+        Node node = nodes.get(player.getId());
+        if (node == null) return -1;
+
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && !node.precedes(x.next[i])) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x == node) return rank;
+        }
+        throw new IllegalStateException("순위표의 연결이 끊어졌습니다.");
+    }
+
+    /**
+     * @return 1등, 순위표가 비어 있으면 빈 Optional
+     */
+    public Optional<Player> first() {
+        Node first = head.next[0];
+        return first == null ? Optional.empty() : Optional.of(first.player);
+    }
+
+    /**
+     * @return 상위 k명을 순위대로 담은 변경할 수 없는 목록
+     */
+    public List<Player> topK(int k) {
+        if (k < 0)
+            throw new IllegalArgumentException("k는 음수일 수 없습니다.");
+
+        List<Player> top = new ArrayList<>(Math.min(k, length));
+        for (Node x = head.next[0]; x != null && top.size() < k; x = x.next[0])
+            top.add(x.player);
+        return Collections.unmodifiableList(top);
+    }
+
+    public int size() {
+        return length;
+    }
+
+    private Node insert(Player player) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node node = new Node(player, randomLevel());
+
+        // 위층부터 내려오며 들어갈 자리 바로 앞의 노드와, 거기까지의 순위를 기록한다
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && x.next[i].precedes(node)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = node.next.length;
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = length;
+            }
+            level = nodeLevel;
+        }
+
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++)
+            update[i].span[i]++;
+
+        length++;
+        return node;
+    }
+
+    private void unlink(Node node) {
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].precedes(node))
+                x = x.next[i];
+
+            if (x.next[i] == node) {
+                x.span[i] += node.span[i] - 1;
+                x.next[i] = node.next[i];
+            } else {
+                x.span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null)
+            level--;
+
+        length--;
+    }
+
+    // 1/4 확률로 한 층씩 높인다
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && (random.nextInt() & 3) == 0)
+            nodeLevel++;
+        return nodeLevel;
+    }
+
+    private static class Node {
+        final Player player;
+        // 넣을 때의 전적, 플레이어의 전적이 바뀌어도 자리를 옮기기 전까지는 이 값으로 비교한다
+        final long wins;
+        final long losses;
+        final boolean consistent;
+        final Node[] next;
+        final int[] span; // next[i]까지 건너뛰는 플레이어 수
+
+        Node(Player player, int level) {
+            this.player = player;
+            PlayerRecord.Snapshot record = player == null ? null : player.recordSnapshot();
+            this.wins = record == null ? 0 : record.wins;
+            this.losses = record == null ? 0 : record.losses;
+            this.consistent = record == null || record.consistent;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+
+        // WIN_COUNT_ORDER와 같은 순서, 닉네임까지 같으면 등록 번호로 나눈다
+        boolean precedes(Node other) {
+            if (wins != other.wins) return wins > other.wins;
+            if (losses != other.losses) return losses < other.losses;
+            int byName = String.CASE_INSENSITIVE_ORDER.compare(player.getNickName(), other.player.getNickName());
+            if (byName != 0) return byName < 0;
+            return player.getId() < other.player.getId();
+        }
+    }
+}
@@ -4,31 +4,48 @@ import common.Card;
 import common.Hand;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Player {
-    private static final Set<String> nickNames = new HashSet<>(); // 닉네임 중복 확인을 위한 데이터 저장소
-
+    private final long id; // 등록부에서 받은 번호
     private final String nickName; // 이름
     private final Hand hand = new Hand();
-    private int point = 10_000; // 총 획득 포인트
+    // 총 획득 포인트, 여러 테이블에서 동시에 정산해도 사라지지 않도록 CAS로 바꾼다
+    private final AtomicLong point = new AtomicLong(10_000);
 
     private final PlayerRecord playerRecord =  new PlayerRecord(); // 전적
 
+    /**
+     * 기본 등록부에 닉네임을 등록하고 새 플레이어를 만듭니다.
+     * 닉네임을 다시 쓰려면 {@link PlayerRegistry#release(Player)}로 등록을 해제합니다.
+     */
     public static Player newPlayer(String nickName) {
-        return new Player(nickName);
+        return PlayerRegistry.getDefault().register(nickName);
     }
 
-    private Player(String nickName) {
-        // 규칙4, 닉네임은 고유해야한다.
-        if (nickNames.contains(nickName))
-            throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
+    /**
+     * 플레이어는 {@link PlayerRegistry}를 통해서만 만들 수 있습니다.
+     */
+    Player(String nickName, long id) {
+        checkNickName(nickName);
+
+        this.nickName = nickName;
+        this.id = id;
+    }
 
+    /**
+     * @throws IllegalArgumentException 닉네임이 null이거나 20자를 넘을 경우
+     */
+    static void checkNickName(String nickName) {
+        if (nickName == null)
+            throw new IllegalArgumentException("닉네임은 null일 수 없습니다.");
         // 규칙4, 닉네임의 길이는 20자를 넘기지 못한다.
         if (nickName.length() > 20)
             throw new IllegalArgumentException("닉네임은 20자 이하여야 합니다.");
+    }
 
-        this.nickName = nickName;
-        nickNames.add(nickName); // 중복 데이터에 등록
+    public long getId() {
+        return id;
     }
 
     public String getNickName() {
@@ -39,18 +56,25 @@ public class Player {
         return hand;
     }
 
-    public int getPoint() {
-        return point;
+    public long getPoint() {
+        return point.get();
     }
 
-    public int getWins() {
+    public long getWins() {
         return this.playerRecord.getWins();
     }
 
-    public int getLosses() {
+    public long getLosses() {
         return this.playerRecord.getLosses();
     }
 
+    /**
+     * 승, 패, 무승부 횟수를 같은 순간의 값으로 읽습니다. 여러 횟수를 함께 비교할 때 사용합니다.
+     */
+    PlayerRecord.Snapshot recordSnapshot() {
+        return this.playerRecord.snapshot();
+    }
+
     public void win() {
         this.playerRecord.incrementWins();
     }
@@ -59,8 +83,44 @@ public class Player {
         this.playerRecord.incrementLosses();
     }
 
-    public void prizePoint(int prize) {
-        this.point += prize;
+    /**
+     * 포인트를 더합니다.
+     *
+     * @param prize 더할 포인트
+     * @throws IllegalArgumentException prize가 음수일 경우
+     * @throws ArithmeticException 포인트가 long 범위를 넘을 경우 (포인트는 그대로)
+     */
+    public void prizePoint(long prize) {
+        if (prize < 0)
+            throw new IllegalArgumentException("상금은 음수일 수 없습니다.");
+
+        long current = point.get();
+        while (true) {
+            long witness = point.compareAndExchange(current, Math.addExact(current, prize));
+            if (witness == current) return;
+            current = witness;
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 포인트가 충분할 때만 포인트를 뺍니다.
+     * 확인과 차감이 한 번의 CAS로 이루어지므로 여러 스레드가 동시에 빼도 포인트가 음수가 되지 않습니다.
+     *
+     * @param amount 뺄 포인트
+     * @return 뺐으면 true, amount가 음수이거나 포인트가 부족하면 false (포인트는 그대로)
+     */
+    public boolean tryPayPoint(long amount) {
+        if (amount < 0) return false;
+
+        long current = point.get();
+        while (current >= amount) {
+            long witness = point.compareAndExchange(current, current - amount);
+            if (witness == current) return true;
+            current = witness;
+            Thread.onSpinWait();
+        }
+        return false;
     }
 
     private boolean isHandOpen = false;
@@ -84,15 +144,19 @@ public class Player {
         this.playerRecord.incrementDraws();
     }
 
-    public int getDraws() {
+    public long getDraws() {
         return this.playerRecord.getDraws();
     }
 
     private static class WinCountComparator implements Comparator<Player> {
         @Override
         public int compare(Player p1, Player p2) {
-            int winsCompare = Integer.compare(p2.getWins(), p1.getWins()); // 승리 내림차순
-            int loseCompare = Integer.compare(p1.getLosses(), p2.getLosses()); // 패배 오름차순
+            // 승리와 패배를 따로 읽으면 그 사이에 기록된 결과가 섞이므로, 한 순간의 전적으로 비교한다
+            // 기록이 계속 몰려 한 순간의 전적을 읽지 못하면(consistent = false) 기록 중인 목록의 정렬처럼 순서가 어긋날 수 있다
+            PlayerRecord.Snapshot r1 = p1.recordSnapshot();
+            PlayerRecord.Snapshot r2 = p2.recordSnapshot();
+            int winsCompare = Long.compare(r2.wins, r1.wins); // 승리 내림차순
+            int loseCompare = Long.compare(r1.losses, r2.losses); // 패배 오름차순
             int nickNameCompare = String.CASE_INSENSITIVE_ORDER.compare(p1.nickName, p2.nickName); // 닉네임 오름차순
 
             if (winsCompare != 0) return winsCompare;
@@ -115,14 +179,17 @@ public class Player {
         return nickName;
     }
 
+    /**
+     * 닉네임은 해제한 뒤 다른 플레이어가 다시 쓸 수 있으므로, 등록부에서 받은 번호로 같은 플레이어인지 확인합니다.
+     */
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Player player = (Player) obj;
-        return nickName.equals(player.nickName);
+        return id == player.id;
     }
 
     public int hashCode() {
-        return Objects.hash(nickName);
+        return Long.hashCode(id);
     }
 }
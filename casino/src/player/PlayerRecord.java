@@ -1,49 +1,92 @@
 package player;
 
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 플레이어의 전적
+ * 여러 테이블이 같은 플레이어의 결과를 동시에 기록해도 서로 기다리지 않도록,
+ * 횟수마다 스레드별 칸에 나누어 더하는 LongAdder를 둡니다.
+ */
 class PlayerRecord {
-    private int wins;
-    private int losses;
-    private int draw;
+    private static final int SNAPSHOT_RETRIES = 8;
 
-    public PlayerRecord() {
-        this.wins = 0;
-        this.losses = 0;
-        this.draw = 0;
-    }
+    private final LongAdder wins = new LongAdder();
+    private final LongAdder losses = new LongAdder();
+    private final LongAdder draw = new LongAdder();
 
-    public int getWins() {
-        return wins;
+    public long getWins() {
+        return wins.sum();
     }
 
-    public int getLosses() {
-        return losses;
+    public long getLosses() {
+        return losses.sum();
     }
 
-    public int getDraws() {
-        return draw;
+    public long getDraws() {
+        return draw.sum();
     }
 
     /**
      * 값의 증가는 같은 패키지에 있는 클래스에서만 가능하도록 제한합니다.
      */
     void incrementWins() {
-        this.wins++;
+        this.wins.increment();
     }
 
     /**
      * 값의 증가는 같은 패키지에 있는 클래스에서만 가능하도록 제한합니다.
      */
     void incrementLosses() {
-        this.losses++;
+        this.losses.increment();
     }
 
     public void incrementDraws() {
-        this.draw++;
+        this.draw.increment();
+    }
+
+    /**
+     * 세 횟수를 같은 순간의 값으로 읽습니다.
+     * 읽는 방식과 그 근거는 casino-answer의 PlayerStats 클래스 설명과 같습니다.
+     * SNAPSHOT_RETRIES번 안에 맞지 않으면 마지막 값을 consistent = false로 반환합니다.
+     */
+    Snapshot snapshot() {
+        long w = wins.sum();
+        long l = losses.sum();
+        long d = draw.sum();
+        for (int i = 0; i < SNAPSHOT_RETRIES; i++) {
+            Thread.onSpinWait();
+            long w2 = wins.sum();
+            long l2 = losses.sum();
+            long d2 = draw.sum();
+            if (w == w2 && l == l2 && d == d2) return new Snapshot(w, l, d, true);
+            w = w2;
+            l = l2;
+            d = d2;
+        }
+        return new Snapshot(w, l, d, false);
     }
 
     @Override
     public String toString() {
-        return "Wins: " + wins + ", Losses: " + losses + ", Draws: " + draw;
+        Snapshot snapshot = snapshot();
+        return "Wins: " + snapshot.wins + ", Losses: " + snapshot.losses + ", Draws: " + snapshot.draws;
     }
 
-}
\ No newline at end of file
+    /**
+     * 한 번에 읽은 승, 패, 무승부 횟수
+     * consistent가 false면 세 횟수가 서로 다른 순간의 값일 수 있습니다.
+     */
+    static final class Snapshot {
+        final long wins;
+        final long losses;
+        final long draws;
+        final boolean consistent;
+
+        Snapshot(long wins, long losses, long draws, boolean consistent) {
+            this.wins = wins;
+            this.losses = losses;
+            this.draws = draws;
+            this.consistent = consistent;
+        }
+    }
+}
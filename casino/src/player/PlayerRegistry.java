@@ -0,0 +1,110 @@
+package player;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 플레이어 등록부
+ * 닉네임을 고유하게 차지하고 돌려주며, 닉네임이나 번호로 플레이어를 찾습니다.
+ *
+ * <ul>
+ *   <li>닉네임 확인과 등록은 ConcurrentHashMap.putIfAbsent 한 번으로 이루어지므로,
+ *       여러 스레드가 같은 닉네임으로 동시에 등록해도 한 명만 성공합니다</li>
+ *   <li>ConcurrentHashMap은 칸마다 따로 잠그므로 서로 다른 닉네임의 등록은 서로 기다리지 않습니다</li>
+ *   <li>등록할 수 있는 플레이어 수에 상한이 있고, 해제한 닉네임과 자리는 다시 쓸 수 있습니다</li>
+ * </ul>
+ */
+public class PlayerRegistry {
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+
+    // Player.newPlayer()가 쓰는 기본 등록부
+    private static final PlayerRegistry DEFAULT = new PlayerRegistry(DEFAULT_CAPACITY);
+
+    private final int capacity;
+    private final ConcurrentHashMap<String, Player> byNickName = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Player> byId = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * @param capacity 등록할 수 있는 최대 플레이어 수
+     * @throws IllegalArgumentException capacity가 1보다 작을 경우
+     */
+    public PlayerRegistry(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("등록부의 크기는 1 이상이어야 합니다.");
+
+        this.capacity = capacity;
+    }
+
+    public static PlayerRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 닉네임을 차지하고 새 플레이어를 등록합니다.
+     *
+     * @param nickName 닉네임
+     * @return 등록된 플레이어, 번호는 등록부 안에서 고유합니다
+     * @throws IllegalArgumentException 닉네임이 null이거나, 이미 사용 중이거나, 20자를 넘을 경우
+     * @throws IllegalStateException 등록부가 가득 찼을 경우
+     */
+    public Player register(String nickName) {
+        Player.checkNickName(nickName);
+
+        // 자리를 먼저 잡아 두어, 동시에 등록해도 상한을 넘지 않게 한다
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            throw new IllegalStateException("등록부가 가득 찼습니다.");
+        }
+
+        // 규칙4, 닉네임은 고유해야한다.
+        // 닉네임이 비어 있을 때만 번호를 받아 플레이어를 만들므로, 거절된 등록은 번호를 쓰지 않는다
+        Player[] created = new Player[1];
+        byNickName.computeIfAbsent(nickName, name -> created[0] = new Player(name, nextId.getAndIncrement()));
+        if (created[0] == null) {
+            size.decrementAndGet();
+            throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
+        }
+        byId.put(created[0].getId(), created[0]);
+        return created[0];
+    }
+
+    /**
+     * 플레이어의 등록을 해제하고 닉네임을 돌려줍니다.
+     *
+     * @param player 해제할 플레이어
+     * @return 이 등록부에 등록된 플레이어였으면 true
+     */
+    public boolean release(Player player) {
+        if (player == null || !byNickName.remove(player.getNickName(), player))
+            return false;
+
+        byId.remove(player.getId(), player);
+        size.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * @return 닉네임으로 등록된 플레이어, 없으면 null
+     */
+    public Player findByNickName(String nickName) {
+        return nickName == null ? null : byNickName.get(nickName);
+    }
+
+    /**
+     * @return 번호로 등록된 플레이어, 없으면 null
+     */
+    public Player findById(long id) {
+        return byId.get(id);
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
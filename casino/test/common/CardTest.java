@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class CardTest {
 
@@ -30,4 +31,16 @@ class CardTest {
         Card card2 = Card.getInstance(Card.Suit.CLUBS, Card.Rank.TWO);
         assertNotEquals(card1, card2);
     }
+
+    @Test
+    @DisplayName("카드 인덱스 - 인덱스로 같은 카드 인스턴스를 찾을 수 있다.")
+    void shouldFindSameCardByIndex() {
+        for (Card.Suit suit : Card.Suit.values()) {
+            for (Card.Rank rank : Card.Rank.values()) {
+                Card card = Card.getInstance(suit, rank);
+                assertEquals(suit.ordinal() * 13 + rank.ordinal(), card.index());
+                assertSame(card, Card.fromIndex(card.index()));
+            }
+        }
+    }
 }
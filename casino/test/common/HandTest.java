@@ -4,6 +4,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class HandTest {
 
@@ -160,4 +163,101 @@ class HandTest {
         hand.open();
         assertEquals(Hand.Tier.HIGH_CARD, hand.getTier());
     }
+
+    @Test
+    @DisplayName("같은 티어에서는 키커가 높은 패가 더 강하다.")
+    void shouldCompareSameTierByKickers() {
+        Hand kings = new Hand();
+        kings.add(Card.getInstance(Card.Suit.SPADES, Card.Rank.KING)); // ♠️K
+        kings.add(Card.getInstance(Card.Suit.HEARTS, Card.Rank.KING)); // ♥️K
+        kings.add(Card.getInstance(Card.Suit.DIAMONDS, Card.Rank.FOUR)); // ♦️4
+        kings.add(Card.getInstance(Card.Suit.CLUBS, Card.Rank.FOUR)); // ♣️4
+        kings.add(Card.getInstance(Card.Suit.SPADES, Card.Rank.TWO)); // ♠️2
+
+        Hand threes = new Hand();
+        threes.add(Card.getInstance(Card.Suit.CLUBS, Card.Rank.THREE)); // ♣️3
+        threes.add(Card.getInstance(Card.Suit.HEARTS, Card.Rank.THREE)); // ♥️3
+        threes.add(Card.getInstance(Card.Suit.DIAMONDS, Card.Rank.TWO)); // ♦️2
+        threes.add(Card.getInstance(Card.Suit.CLUBS, Card.Rank.TWO)); // ♣️2
+        threes.add(Card.getInstance(Card.Suit.SPADES, Card.Rank.ACE)); // ♠️A
+
+        kings.open();
+        threes.open();
+        assertEquals(Hand.Tier.TWO_PAIR, kings.getTier());
+        assertEquals(Hand.Tier.TWO_PAIR, threes.getTier());
+        assertTrue(kings.getStrength() > threes.getStrength());
+        assertTrue(kings.compareTo(threes) < 0); // 강한 패가 먼저 오도록 정렬된다
+    }
+
+    @Test
+    @DisplayName("무늬만 다른 같은 패는 동점이다.")
+    void shouldTieWhenOnlySuitsDiffer() {
+        Hand first = new Hand();
+        first.add(Card.getInstance(Card.Suit.SPADES, Card.Rank.ACE)); // ♠️A
+        first.add(Card.getInstance(Card.Suit.SPADES, Card.Rank.TWO)); // ♠️2
+        first.add(Card.getInstance(Card.Suit.HEARTS, Card.Rank.THREE)); // ♥️3
+        first.add(Card.getInstance(Card.Suit.SPADES, Card.Rank.FOUR)); // ♠️4
+        first.add(Card.getInstance(Card.Suit.SPADES, Card.Rank.FIVE)); // ♠️5
+
+        Hand second = new Hand();
+        second.add(Card.getInstance(Card.Suit.CLUBS, Card.Rank.ACE)); // ♣️A
+        second.add(Card.getInstance(Card.Suit.CLUBS, Card.Rank.TWO)); // ♣️2
+        second.add(Card.getInstance(Card.Suit.DIAMONDS, Card.Rank.THREE)); // ♦️3
+        second.add(Card.getInstance(Card.Suit.CLUBS, Card.Rank.FOUR)); // ♣️4
+        second.add(Card.getInstance(Card.Suit.CLUBS, Card.Rank.FIVE)); // ♣️5
+
+        first.open();
+        second.open();
+        assertEquals(Hand.Tier.STRAIGHT, first.getTier());
+        assertEquals(0, first.compareTo(second));
+    }
+
+    @Test
+    @DisplayName("티어를 구성하는 카드만 강조되고 나머지는 키커로 남는다.")
+    void shouldHighlightOnlyTierCards() {
+        Hand hand = new Hand();
+        Card queen = Card.getInstance(Card.Suit.SPADES, Card.Rank.QUEEN);
+        Card seven = Card.getInstance(Card.Suit.HEARTS, Card.Rank.SEVEN);
+        hand.add(Card.getInstance(Card.Suit.SPADES, Card.Rank.NINE)); // ♠️9
+        hand.add(queen); // ♠️Q
+        hand.add(Card.getInstance(Card.Suit.HEARTS, Card.Rank.NINE)); // ♥️9
+        hand.add(seven); // ♥️7
+        hand.add(Card.getInstance(Card.Suit.CLUBS, Card.Rank.NINE)); // ♣️9
+
+        hand.open();
+        assertEquals(Hand.Tier.THREE_OF_A_KIND, hand.getTier());
+        assertTrue(hand.isTierCard(Card.getInstance(Card.Suit.CLUBS, Card.Rank.NINE)));
+        assertFalse(hand.isTierCard(queen));
+        assertFalse(hand.isTierCard(seven));
+
+        String highlight = "\u001B[32m\u001B[1m\u001B[4m";
+        String rendered = hand.toString();
+        assertTrue(rendered.startsWith("THREE_OF_A_KIND " + seven + ", " + highlight)); // 낮은 카드부터 나열
+        assertEquals(3, rendered.split(java.util.regex.Pattern.quote(highlight), -1).length - 1);
+        assertTrue(rendered.endsWith(", " + queen));
+    }
+
+    @Test
+    @DisplayName("잘못된 카드 - null 카드나 잘못된 범위를 받으면 예외가 발생하고 손패는 바뀌지 않는다.")
+    void shouldRejectInvalidCardsWithoutChangingHand() {
+        Hand hand = new Hand();
+        Card ace = Card.getInstance(Card.Suit.SPADES, Card.Rank.ACE);
+        Card king = Card.getInstance(Card.Suit.SPADES, Card.Rank.KING);
+
+        assertThrows(IllegalArgumentException.class, () -> hand.add(null));
+        assertEquals(5, hand.remainingCapacity(), "null 카드를 받지 않아야 합니다.");
+
+        Card[] source = {ace, null, king};
+        assertThrows(IllegalArgumentException.class, () -> hand.addAll(source, 0, 1, 3));
+        assertThrows(IllegalArgumentException.class, () -> hand.addAll(source, 0, 1, -1));
+        assertThrows(IllegalArgumentException.class, () -> hand.addAll(source, 2, 1, 2));
+        assertEquals(5, hand.remainingCapacity(), "예외가 발생하면 앞의 카드도 받지 않아야 합니다.");
+
+        hand.addAll(source, 0, 2, 2);
+        hand.add(Card.getInstance(Card.Suit.SPADES, Card.Rank.QUEEN));
+        hand.add(Card.getInstance(Card.Suit.SPADES, Card.Rank.JACK));
+        hand.add(Card.getInstance(Card.Suit.SPADES, Card.Rank.TEN));
+        hand.open();
+        assertEquals(Hand.Tier.ROYAL_FLUSH, hand.getTier(), "예외 뒤에도 손패를 그대로 쓸 수 있어야 합니다.");
+    }
 }
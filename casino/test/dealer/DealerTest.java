@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import player.Player;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -98,6 +99,27 @@ class DealerTest {
         dealer.retrieveCard();
     }
 
+    @Test
+    @DisplayName("전적 순위: 여러 게임 뒤에도 플레이어 목록과 최종 승자가 WIN_COUNT_ORDER로 정렬한 결과와 같다.")
+    void shouldKeepPlayersInWinCountOrder() {
+        Dealer dealer = Dealer.newDealer(42);
+        List<Player> players = getRandomNamePlayers();
+        for (Player player : players) dealer.enrollPlayer(player);
+
+        for (int game = 0; game < 30; game++) {
+            dealer.newGame();
+            dealer.shuffle();
+            dealer.dealCard();
+            dealer.handOpen();
+            dealer.retrieveCard();
+
+            List<Player> expected = new ArrayList<>(players);
+            expected.sort(Player.WIN_COUNT_ORDER);
+            assertEquals(expected, dealer.getPlayers(), (game + 1) + "번째 게임 뒤의 순위가 같아야 합니다.");
+            assertEquals(expected.getFirst(), dealer.getTotalStageWinner().orElseThrow());
+        }
+    }
+
     List<Player> getRandomNamePlayers() {
         return List.of(
                 Player.newPlayer("고니" + UUID.randomUUID().toString().substring(0, 10)),
@@ -1,9 +1,13 @@
 package dealer;
 
 import common.Card;
+import common.Hand;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Iterator;
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DeckTest {
@@ -51,4 +55,114 @@ class DeckTest {
         // 두 덱에서 뽑은 카드가 다른지 비교
         assertNotEquals(card1, card2, "셔플된 두 덱의 첫 번째 카드는 다를 가능성이 높습니다.");
     }
+
+    @Test
+    @DisplayName("같은 시드로 셔플 - 같은 시드의 난수 생성기로 섞은 두 덱은 순서가 같다.")
+    void shouldShuffleInSameOrderWithSameSeed() {
+        Deck deck1 = Deck.newDeck(new SplittableRandom(42));
+        Deck deck2 = Deck.newDeck(new SplittableRandom(42));
+
+        deck1.shuffle();
+        deck2.shuffle();
+
+        for (int i = 0; i < 52; i++) {
+            assertSame(deck1.drawCard(), deck2.drawCard(), "같은 시드로 섞은 덱은 " + (i + 1) + "번째 카드도 같아야 합니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("난수 생성기 없이 덱 생성 - null을 넘기면 예외가 발생한다.")
+    void shouldThrowExceptionWhenRandomIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> Deck.newDeck(null));
+    }
+
+    @Test
+    @DisplayName("한 번에 나눠주기 - dealInto()는 drawCard()로 한 장씩 돌아가며 나눠준 것과 같은 카드를 나눠준다.")
+    void shouldDealSameCardsAsDrawingOneByOne() {
+        Deck bulk = Deck.newDeck(new SplittableRandom(7));
+        Deck single = Deck.newDeck(new SplittableRandom(7));
+        bulk.shuffle();
+        single.shuffle();
+        Hand[] bulkHands = {new Hand(), new Hand(), new Hand()};
+        Hand[] singleHands = {new Hand(), new Hand(), new Hand()};
+
+        bulk.dealInto(bulkHands, 5);
+        for (int i = 0; i < 5; i++) {
+            for (Hand hand : singleHands) hand.add(single.drawCard());
+        }
+
+        for (int h = 0; h < bulkHands.length; h++) {
+            Iterator<Card> expected = singleHands[h].iterator();
+            for (Card card : bulkHands[h]) {
+                assertSame(expected.next(), card, (h + 1) + "번째 손패의 카드가 같아야 합니다.");
+            }
+            assertFalse(expected.hasNext());
+        }
+        assertSame(single.drawCard(), bulk.drawCard(), "나눠준 다음 카드도 같아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("한 번에 나눠주기 - 자리가 부족한 손패가 있으면 예외가 발생하고 아무도 카드를 받지 않는다.")
+    void shouldThrowExceptionBeforeDealingWhenHandIsFull() {
+        Deck deck = Deck.newDeck();
+        Hand empty = new Hand();
+        Hand partial = new Hand();
+        partial.add(deck.drawCard());
+
+        assertThrows(IllegalStateException.class, () -> deck.dealInto(new Hand[]{empty, partial}, 5));
+        assertEquals(5, empty.remainingCapacity(), "예외가 발생하면 앞의 손패도 카드를 받지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("한 번에 나눠주기 - 같은 손패가 여러 번 있으면 받을 카드를 모두 더해 자리를 확인한다.")
+    void shouldCountRepeatedHandsBeforeDealing() {
+        Deck deck = Deck.newDeck();
+        Hand empty = new Hand();
+        Hand partial = new Hand();
+        partial.add(deck.drawCard());
+
+        assertThrows(IllegalStateException.class, () -> deck.dealInto(new Hand[]{empty, partial, partial}, 3));
+        assertEquals(5, empty.remainingCapacity(), "예외가 발생하면 앞의 손패도 카드를 받지 않아야 합니다.");
+        assertEquals(4, partial.remainingCapacity(), "예외가 발생하면 손패가 카드를 받지 않아야 합니다.");
+
+        deck.dealInto(new Hand[]{partial, partial}, 2);
+        assertEquals(0, partial.remainingCapacity(), "같은 손패가 두 번 있으면 두 번 모두 카드를 받아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("한 번에 나눠주기 - 손패 배열이나 손패가 null이면 예외가 발생한다.")
+    void shouldThrowExceptionWhenHandsAreNull() {
+        Deck deck = Deck.newDeck();
+
+        assertThrows(IllegalArgumentException.class, () -> deck.dealInto(null, 5));
+        assertThrows(IllegalArgumentException.class, () -> deck.dealInto(new Hand[]{new Hand(), null}, 5));
+        assertThrows(IllegalArgumentException.class, () -> deck.dealInto(new Hand[]{new Hand()}, -1));
+    }
+
+    @Test
+    @DisplayName("셔플 공정성 - 여러 번 섞으면 모든 위치에 모든 카드가 고르게 나온다. (카이제곱 검정)")
+    void shouldPlaceEveryCardEvenlyAtEveryPosition() {
+        int decks = 20_000;
+        long[] counts = new long[52 * 52];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int n = 0; n < decks; n++) {
+            Deck deck = Deck.newDeck(random);
+            deck.shuffle();
+            for (int position = 0; position < 52; position++) {
+                counts[position * 52 + deck.drawCard().index()]++;
+            }
+        }
+
+        double expected = decks / 52.0;
+        double chiSquare = 0;
+        for (long count : counts) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        // 덱마다 행과 열에 한 번씩 더하는 순열 행렬이라 통계량은 (52/51) × χ²(2601)을 따른다.
+        // 51/52를 곱해 χ²(2601)에 맞춘다.
+        chiSquare *= 51.0 / 52.0;
+
+        // 자유도 51 × 51 = 2601에서 유의수준 0.001의 임계값은 약 2830
+        assertTrue(chiSquare < 2830, "위치별 카드 빈도가 고르게 나와야 합니다. 카이제곱: " + chiSquare);
+    }
 }
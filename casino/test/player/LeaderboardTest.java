@@ -0,0 +1,79 @@
+package player;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    @Test
+    @DisplayName("순위 조회 - 전적이 바뀐 플레이어만 고쳐도 WIN_COUNT_ORDER로 정렬한 결과와 순위가 같다.")
+    void shouldMatchWinCountOrderAfterIncrementalUpdates() {
+        PlayerRegistry registry = new PlayerRegistry(1_000);
+        Leaderboard leaderboard = new Leaderboard();
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Player player = registry.register("player" + i);
+            players.add(player);
+            leaderboard.update(player);
+        }
+
+        SplittableRandom random = new SplittableRandom(7);
+        for (int round = 0; round < 20_000; round++) {
+            Player player = players.get(random.nextInt(players.size()));
+            if (random.nextBoolean()) player.win();
+            else player.lose();
+            leaderboard.update(player);
+        }
+
+        List<Player> expected = new ArrayList<>(players);
+        expected.sort(Player.WIN_COUNT_ORDER);
+        assertEquals(expected, leaderboard.topK(players.size()));
+        assertEquals(expected.subList(0, 3), leaderboard.topK(3), "상위 3명이 같아야 합니다.");
+        for (int rank = 0; rank < expected.size(); rank++)
+            assertEquals(rank + 1, leaderboard.rank(expected.get(rank)), expected.get(rank) + "의 순위가 같아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("순위표에서 빼기 - 뺀 플레이어는 순위가 없고, 뒤의 플레이어는 순위가 하나씩 올라간다.")
+    void shouldShiftRanksAfterRemoval() {
+        PlayerRegistry registry = new PlayerRegistry(10);
+        Leaderboard leaderboard = new Leaderboard();
+        Player gonie = registry.register("고니");
+        Player agui = registry.register("아귀");
+        gonie.win();
+        leaderboard.update(gonie);
+        leaderboard.update(agui);
+
+        assertEquals(gonie, leaderboard.first().orElseThrow());
+        assertTrue(leaderboard.remove(gonie));
+        assertEquals(-1, leaderboard.rank(gonie));
+        assertEquals(1, leaderboard.rank(agui));
+        assertEquals(1, leaderboard.size());
+    }
+
+    @Test
+    @DisplayName("다시 쓴 닉네임 - 놓아준 닉네임으로 새로 등록한 플레이어는 이전 플레이어와 따로 순위가 매겨진다.")
+    void shouldKeepReregisteredNickNameSeparate() {
+        PlayerRegistry registry = new PlayerRegistry(10);
+        Leaderboard leaderboard = new Leaderboard();
+        Player first = registry.register("고니");
+        first.win();
+        leaderboard.update(first);
+
+        registry.release(first);
+        Player second = registry.register("고니");
+        leaderboard.update(second);
+
+        assertEquals(2, leaderboard.size(), "닉네임이 같아도 다른 플레이어는 따로 들어가야 합니다.");
+        assertEquals(1, leaderboard.rank(first));
+        assertEquals(2, leaderboard.rank(second));
+        assertTrue(leaderboard.remove(first));
+        assertEquals(1, leaderboard.rank(second), "이전 플레이어를 빼도 새 플레이어는 남아 있어야 합니다.");
+    }
+}
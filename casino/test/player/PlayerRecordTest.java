@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PlayerRecordTest {
 
@@ -38,4 +39,78 @@ class PlayerRecordTest {
         playerRecord.incrementDraws();
         assertEquals(1, playerRecord.getDraws(), "플레이어의 무승부 횟수는 1이어야 합니다.");
     }
+
+    @Test
+    @DisplayName("여러 테이블이 동시에 기록해도 횟수가 사라지지 않는다.")
+    void shouldCountAllRecordsFromConcurrentTables() throws InterruptedException {
+        PlayerRecord playerRecord = new PlayerRecord();
+        Thread[] tables = new Thread[16];
+        for (int i = 0; i < tables.length; i++) {
+            tables[i] = new Thread(() -> {
+                for (int round = 0; round < 10_000; round++) {
+                    playerRecord.incrementWins();
+                    playerRecord.incrementLosses();
+                    playerRecord.incrementDraws();
+                }
+            });
+            tables[i].start();
+        }
+        for (Thread table : tables) table.join();
+
+        assertEquals(160_000, playerRecord.getWins(), "승리 기록이 모두 반영되어야 합니다.");
+        assertEquals(160_000, playerRecord.getLosses(), "패배 기록이 모두 반영되어야 합니다.");
+        assertEquals(160_000, playerRecord.getDraws(), "무승부 기록이 모두 반영되어야 합니다.");
+        assertEquals("Wins: 160000, Losses: 160000, Draws: 160000", playerRecord.toString());
+    }
+
+    @Test
+    @DisplayName("기록이 계속 몰려도 전적 조회는 정해진 횟수 안에 끝나고, 읽은 순간의 값을 넘지 않는다.")
+    void shouldReturnSnapshotWhileRecordsKeepComing() throws InterruptedException {
+        PlayerRecord playerRecord = new PlayerRecord();
+        Thread table = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) playerRecord.incrementWins();
+        });
+        table.start();
+        try {
+            for (int i = 0; i < 1_000; i++) {
+                long before = playerRecord.getWins();
+                PlayerRecord.Snapshot snapshot = playerRecord.snapshot();
+                assertTrue(before <= snapshot.wins && snapshot.wins <= playerRecord.getWins(),
+                    "스냅샷의 승리 횟수는 조회 전후 값 사이여야 합니다.");
+                assertEquals(0, snapshot.losses);
+            }
+        } finally {
+            table.interrupt();
+            table.join();
+        }
+    }
+
+    @Test
+    @DisplayName("기록이 몰리는 동안 같은 순간의 값으로 표시된 전적은 실제로 한 순간의 전적이다.")
+    void shouldMarkOnlyConsistentSnapshotsAsConsistent() throws InterruptedException {
+        PlayerRecord playerRecord = new PlayerRecord();
+        // 승리 뒤에 패배를 기록하므로, 어느 순간에도 승리는 패배와 같거나 하나 많다
+        Thread table = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                playerRecord.incrementWins();
+                playerRecord.incrementLosses();
+            }
+        });
+        table.start();
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                PlayerRecord.Snapshot snapshot = playerRecord.snapshot();
+                long lead = snapshot.wins - snapshot.losses;
+                if (snapshot.consistent)
+                    assertTrue(lead == 0 || lead == 1, "같은 순간의 전적이라면 승리가 패배보다 0 또는 1 많아야 합니다.");
+            }
+        } finally {
+            table.interrupt();
+            table.join();
+        }
+
+        PlayerRecord.Snapshot last = playerRecord.snapshot();
+        assertTrue(last.consistent, "기록이 멈춘 뒤의 전적은 같은 순간의 값이어야 합니다.");
+        assertEquals(last.wins, last.losses);
+    }
 }
@@ -0,0 +1,113 @@
+package player;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerRegistryTest {
+
+    @Test
+    @DisplayName("등록과 조회 - 등록한 플레이어를 닉네임과 번호로 찾을 수 있다.")
+    void shouldFindRegisteredPlayerByNickNameAndId() {
+        PlayerRegistry registry = new PlayerRegistry(10);
+
+        Player player = registry.register("고니");
+
+        assertSame(player, registry.findByNickName("고니"));
+        assertSame(player, registry.findById(player.getId()));
+        assertNull(registry.findByNickName("아귀"), "등록하지 않은 닉네임은 찾을 수 없어야 합니다.");
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    @DisplayName("해제 - 등록을 해제하면 같은 닉네임으로 다시 등록할 수 있다.")
+    void shouldReuseNickNameAfterRelease() {
+        PlayerRegistry registry = new PlayerRegistry(10);
+        Player first = registry.register("고니");
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register("고니"));
+        assertTrue(registry.release(first));
+        assertFalse(registry.release(first), "이미 해제한 플레이어는 다시 해제되지 않아야 합니다.");
+        assertNull(registry.findById(first.getId()), "해제한 플레이어는 번호로도 찾을 수 없어야 합니다.");
+
+        Player second = registry.register("고니");
+        assertNotEquals(first.getId(), second.getId(), "다시 등록한 플레이어는 새 번호를 받아야 합니다.");
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    @DisplayName("상한 - 등록부가 가득 차면 예외가 발생하고, 해제하면 다시 등록할 수 있다.")
+    void shouldRejectRegistrationWhenFull() {
+        PlayerRegistry registry = new PlayerRegistry(2);
+        registry.register("고니");
+        Player player = registry.register("평경장");
+
+        assertThrows(IllegalStateException.class, () -> registry.register("짝귀"));
+        assertEquals(2, registry.size(), "실패한 등록은 자리를 차지하지 않아야 합니다.");
+
+        registry.release(player);
+        assertNotNull(registry.register("짝귀"));
+    }
+
+    @Test
+    @DisplayName("번호 - 거절된 등록은 번호를 쓰지 않고, 같은 번호의 플레이어끼리만 같다.")
+    void shouldNotSpendIdOnRejectedRegistration() {
+        PlayerRegistry registry = new PlayerRegistry(2);
+        Player first = registry.register("고니");
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register("고니"));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("스무글자가넘는아주아주아주긴닉네임입니다요"));
+        Player second = registry.register("평경장");
+        assertThrows(IllegalStateException.class, () -> registry.register("짝귀"));
+        registry.release(first);
+        Player third = registry.register("고니");
+
+        assertEquals(first.getId() + 1, second.getId(), "거절된 등록 뒤에도 번호가 이어져야 합니다.");
+        assertEquals(second.getId() + 1, third.getId(), "거절된 등록 뒤에도 번호가 이어져야 합니다.");
+        assertNotEquals(first, third, "닉네임이 같아도 번호가 다르면 다른 플레이어여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("동시 등록 - 여러 스레드가 같은 닉네임으로 동시에 등록해도 한 명만 성공한다.")
+    void shouldAllowOnlyOneConcurrentClaimPerNickName() throws InterruptedException {
+        PlayerRegistry registry = new PlayerRegistry(PlayerRegistry.DEFAULT_CAPACITY);
+        int threads = 16;
+        int names = 10_000;
+        AtomicInteger succeeded = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < names; i++) {
+                    try {
+                        registry.register("player-" + i);
+                        succeeded.incrementAndGet();
+                    } catch (IllegalArgumentException ignored) {
+                        // 다른 스레드가 먼저 차지한 닉네임
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+
+        assertEquals(names, succeeded.get(), "닉네임마다 한 명만 등록되어야 합니다.");
+        assertEquals(names, registry.size());
+        for (int i = 0; i < names; i++) {
+            Player player = registry.findByNickName("player-" + i);
+            assertSame(player, registry.findById(player.getId()), "닉네임과 번호로 찾은 플레이어가 같아야 합니다.");
+        }
+    }
+}
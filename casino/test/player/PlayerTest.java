@@ -3,8 +3,7 @@ package player;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 class PlayerTest {
 
@@ -27,4 +26,28 @@ class PlayerTest {
         );
         assertEquals("닉네임은 20자 이하여야 합니다.", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("포인트 정산 - 포인트가 부족하면 빼지 않고, 여러 스레드가 동시에 정산해도 포인트가 사라지지 않는다.")
+    void shouldSettlePointsAtomically() throws InterruptedException {
+        Player player = Player.newPlayer("타짜");
+
+        assertTrue(player.tryPayPoint(10_000), "가진 포인트만큼은 뺄 수 있어야 합니다.");
+        assertFalse(player.tryPayPoint(1), "포인트가 부족하면 빼지 않아야 합니다.");
+        assertEquals(0, player.getPoint());
+
+        Thread[] tables = new Thread[16];
+        for (int i = 0; i < tables.length; i++) {
+            tables[i] = new Thread(() -> {
+                for (int round = 0; round < 10_000; round++) {
+                    player.prizePoint(100);
+                    player.tryPayPoint(40);
+                }
+            });
+            tables[i].start();
+        }
+        for (Thread table : tables) table.join();
+
+        assertEquals(16L * 10_000 * 60, player.getPoint(), "동시에 정산한 포인트가 모두 반영되어야 합니다.");
+    }
 }